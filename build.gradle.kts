@@ -15,23 +15,57 @@ repositories {
 	mavenCentral()
 }
 
+// Harness de carga fora dos testes: ./gradlew loadTest -Ploadtest.rate=300 -Ploadtest.duration=PT2M
+sourceSets {
+	create("loadTest") {
+		compileClasspath += sourceSets.main.get().output
+		runtimeClasspath += sourceSets.main.get().output
+	}
+}
+
+val loadTestImplementation: Configuration by configurations.getting {
+	extendsFrom(configurations.implementation.get())
+}
+
+val loadTestRuntimeOnly: Configuration by configurations.getting {
+	extendsFrom(configurations.runtimeOnly.get())
+}
+
 dependencies {
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	implementation("io.hypersistence:hypersistence-tsid:2.1.0")
+	implementation("net.ttddyy:datasource-proxy:1.9")
+	implementation("org.hdrhistogram:HdrHistogram:2.1.12")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-graphql")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("org.springframework.boot:spring-boot-starter-websocket")
 
 	implementation("jakarta.inject:jakarta.inject-api:2.0.1")
 
 	runtimeOnly("com.mysql:mysql-connector-j")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework:spring-webflux")
 	testImplementation("org.springframework.graphql:spring-graphql-test")
 
 	testRuntimeOnly("com.h2database:h2")
+
+	loadTestRuntimeOnly("com.h2database:h2")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+tasks.register<JavaExec>("loadTest") {
+	description = "Boots the application against H2 and runs the open-model load test."
+	group = "verification"
+	classpath = sourceSets["loadTest"].runtimeClasspath
+	mainClass.set("br.com.fullcycle.hexagonal.loadtest.LoadTest")
+	// Heap fixo e sem ajuste dinâmico para que execuções na mesma máquina sejam comparáveis
+	jvmArgs("-Xms1g", "-Xmx1g", "-XX:+AlwaysPreTouch")
+	systemProperties(project.properties.filterKeys { it.startsWith("loadtest.") })
+}
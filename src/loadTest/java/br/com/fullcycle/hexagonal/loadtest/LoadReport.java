@@ -0,0 +1,101 @@
+package br.com.fullcycle.hexagonal.loadtest;
+
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Resultados por endpoint. A latência é medida a partir do instante em que a requisição DEVERIA ter
+// saído (modelo aberto), então filas do lado do servidor aparecem nos percentis em vez de sumirem.
+final class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(final String endpoint, final int status, final long latencyNanos) {
+        final var stats = endpoints.computeIfAbsent(endpoint, e -> new Endpoint());
+        stats.latency.recordValue(Math.min(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)), HIGHEST_TRACKABLE_MICROS));
+
+        if (status >= 200 && status < 300) {
+            stats.ok.increment();
+        } else if (status == 422) {
+            stats.rejected.increment();
+        } else {
+            stats.errors.increment();
+        }
+    }
+
+    List<Row> rows(final double seconds) {
+        final var rows = new ArrayList<Row>();
+        endpoints.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> rows.add(entry.getValue().row(entry.getKey(), seconds)));
+        return rows;
+    }
+
+    void print(final List<Row> rows) {
+        System.out.printf("%n%-28s %9s %9s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "422 %", "error %", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (final var row : rows) {
+            System.out.printf("%-28s %9d %9.1f %8.2f %8.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.endpoint(), row.requests(), row.throughput(), row.rejectedPct(), row.errorPct(),
+                    row.p50(), row.p90(), row.p99(), row.p999(), row.max());
+        }
+    }
+
+    Path write(final String directory, final List<Row> rows) throws IOException {
+        final var dir = Files.createDirectories(Path.of(directory));
+        final var file = dir.resolve("load-test-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".csv");
+
+        final var lines = new ArrayList<String>();
+        lines.add("endpoint,requests,throughput,rejected_pct,error_pct,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+        for (final var row : rows) {
+            lines.add("%s,%d,%.2f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f".formatted(
+                    row.endpoint(), row.requests(), row.throughput(), row.rejectedPct(), row.errorPct(),
+                    row.p50(), row.p90(), row.p99(), row.p999(), row.max()));
+        }
+
+        return Files.write(file, lines);
+    }
+
+    private static final class Endpoint {
+
+        private final Recorder latency = new Recorder(1, HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private Row row(final String endpoint, final double seconds) {
+            final var histogram = latency.getIntervalHistogram();
+            final var requests = ok.sum() + rejected.sum() + errors.sum();
+            final var total = Math.max(1, requests);
+
+            return new Row(
+                    endpoint,
+                    requests,
+                    requests / seconds,
+                    100.0 * rejected.sum() / total,
+                    100.0 * errors.sum() / total,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(90) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0
+            );
+        }
+    }
+
+    record Row(String endpoint, long requests, double throughput, double rejectedPct, double errorPct,
+               double p50, double p90, double p99, double p999, double max) {
+    }
+}
@@ -0,0 +1,131 @@
+package br.com.fullcycle.hexagonal.loadtest;
+
+import br.com.fullcycle.hexagonal.infrastructure.Main;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Teste de carga de modelo aberto: as chegadas seguem um processo de Poisson com semente fixa e não
+// esperam as respostas anteriores, como clientes de verdade. Sobe a aplicação com H2 no mesmo processo,
+// popula o banco, aquece, mede e imprime/grava throughput, erros e percentis por endpoint.
+//
+//   ./gradlew loadTest -Ploadtest.rate=300 -Ploadtest.duration=PT2M
+public final class LoadTest {
+
+    private static final String OVERFLOW = "client overflow";
+
+    private LoadTest() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final var settings = LoadTestSettings.fromSystemProperties();
+
+        try (final var context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(Main.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MYSQL;DATABASE_TO_LOWER=TRUE",
+                        "rate-limit.enabled=false",
+                        "waiting-room.enabled=false",
+                        "logging.level.root=WARN"
+                )
+                .run(args)) {
+
+            final var seed = Seeder.seed(context, settings);
+            final var baseUri = "http://localhost:" + context.getWebServer().getPort();
+            final var report = run(settings, seed, baseUri);
+
+            final var rows = report.rows(settings.duration().toMillis() / 1000.0);
+            report.print(rows);
+            System.out.printf("%nReport written to %s%n", report.write(settings.reportDir(), rows));
+        }
+    }
+
+    private static LoadReport run(final LoadTestSettings settings, final Seeder.SeedData seed, final String baseUri)
+            throws InterruptedException {
+        final var random = new Random(settings.seed());
+        final var model = new TrafficModel(settings, seed, random);
+        final var report = new LoadReport();
+        final var inFlight = new Semaphore(settings.maxInFlight());
+        final var executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        final var client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+
+        final var warmupNanos = settings.warmup().toNanos();
+        final var durationNanos = settings.duration().toNanos();
+        final var totalNanos = warmupNanos + durationNanos;
+        final var start = System.nanoTime();
+
+        var offset = 0L;
+        while (true) {
+            final var measured = offset >= warmupNanos;
+            final var fraction = (double) (offset - warmupNanos) / durationNanos;
+            final var burst = measured && fraction >= settings.burstStart() && fraction < settings.burstEnd();
+
+            // Próxima chegada: intervalo exponencial com a taxa do momento
+            offset += (long) (-Math.log(1 - random.nextDouble()) / model.rateAt(burst) * 1_000_000_000L);
+            if (offset >= totalNanos) {
+                break;
+            }
+
+            final var request = model.next(burst);
+            final var intendedStart = start + offset;
+            final var recordIt = offset >= warmupNanos;
+
+            final var wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            if (!inFlight.tryAcquire()) {
+                if (recordIt) {
+                    report.record(OVERFLOW, -1, System.nanoTime() - intendedStart);
+                }
+                continue;
+            }
+
+            client.sendAsync(toHttpRequest(baseUri, request), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        if (recordIt) {
+                            report.record(request.endpoint(), error != null ? -1 : response.statusCode(), System.nanoTime() - intendedStart);
+                        }
+                    });
+        }
+
+        // Espera as requisições pendentes terminarem antes de fechar o relatório
+        if (!inFlight.tryAcquire(settings.maxInFlight(), 30, TimeUnit.SECONDS)) {
+            System.err.println("Some requests did not complete within 30s and were not recorded");
+        }
+        executor.shutdownNow();
+
+        return report;
+    }
+
+    private static HttpRequest toHttpRequest(final String baseUri, final TrafficModel.Request request) {
+        final var builder = HttpRequest.newBuilder(URI.create(baseUri + request.path()))
+                .timeout(Duration.ofSeconds(30));
+
+        if (request.body() == null) {
+            return builder.GET().build();
+        }
+
+        return builder
+                .header("Content-Type", "application/json")
+                .method(request.method(), HttpRequest.BodyPublishers.ofString(request.body()))
+                .build();
+    }
+}
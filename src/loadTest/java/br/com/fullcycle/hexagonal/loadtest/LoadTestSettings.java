@@ -0,0 +1,54 @@
+package br.com.fullcycle.hexagonal.loadtest;
+
+import java.time.Duration;
+
+// Parâmetros do teste de carga, lidos de -Dloadtest.* (./gradlew loadTest -Ploadtest.rate=400 repassa para cá).
+// A semente fixa faz com que duas execuções gerem exatamente a mesma sequência de chegadas e de requisições.
+public record LoadTestSettings(
+        double ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        double burstMultiplier,
+        double burstStart,
+        double burstEnd,
+        int browseWeight,
+        int createCustomerWeight,
+        int subscribeWeight,
+        int partners,
+        int events,
+        int hotEvents,
+        int customers,
+        int maxInFlight,
+        long seed,
+        String reportDir
+) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                doubleProperty("loadtest.rate", 200),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT15S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                doubleProperty("loadtest.burst-multiplier", 5),
+                doubleProperty("loadtest.burst-start", 0.4),
+                doubleProperty("loadtest.burst-end", 0.6),
+                intProperty("loadtest.mix.browse", 70),
+                intProperty("loadtest.mix.create-customer", 5),
+                intProperty("loadtest.mix.subscribe", 25),
+                intProperty("loadtest.seed.partners", 20),
+                intProperty("loadtest.seed.events", 200),
+                intProperty("loadtest.seed.hot-events", 3),
+                intProperty("loadtest.seed.customers", 20_000),
+                intProperty("loadtest.max-in-flight", 5_000),
+                Long.parseLong(System.getProperty("loadtest.random-seed", "42")),
+                System.getProperty("loadtest.report-dir", "build/reports/load-test")
+        );
+    }
+
+    private static double doubleProperty(final String name, final double defaultValue) {
+        return Double.parseDouble(System.getProperty(name, Double.toString(defaultValue)));
+    }
+
+    private static int intProperty(final String name, final int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, Integer.toString(defaultValue)));
+    }
+}
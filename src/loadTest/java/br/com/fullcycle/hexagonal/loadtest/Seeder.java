@@ -0,0 +1,89 @@
+package br.com.fullcycle.hexagonal.loadtest;
+
+import br.com.fullcycle.hexagonal.infrastructure.models.Customer;
+import br.com.fullcycle.hexagonal.infrastructure.models.Event;
+import br.com.fullcycle.hexagonal.infrastructure.models.Partner;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventAvailabilityService;
+import org.springframework.context.ApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+// Popula o banco direto pelos repositórios, sem passar pela API, para que a carga de preparação
+// não apareça nas medições nem esbarre em limites de taxa.
+final class Seeder {
+
+    private Seeder() {
+    }
+
+    static SeedData seed(final ApplicationContext context, final LoadTestSettings settings) {
+        final var partnerRepository = context.getBean(PartnerRepository.class);
+        final var eventRepository = context.getBean(EventRepository.class);
+        final var customerRepository = context.getBean(CustomerRepository.class);
+
+        final var partners = new ArrayList<Partner>(settings.partners());
+        for (int i = 0; i < settings.partners(); i++) {
+            final var partner = new Partner();
+            partner.setName("Partner " + i);
+            partner.setCnpj(Documents.cnpj(i));
+            partner.setEmail("partner" + i + "@loadtest.com");
+            partners.add(partner);
+        }
+        final var savedPartners = StreamSupport.stream(partnerRepository.saveAll(partners).spliterator(), false).toList();
+
+        final var events = new ArrayList<Event>(settings.events());
+        for (int i = 0; i < settings.events(); i++) {
+            final var event = new Event();
+            event.setName("Event " + i);
+            event.setDate(LocalDate.of(2030, 1, 1).plusDays(i));
+            // Os primeiros eventos são os "quentes" da abertura de vendas: muitas vagas, disputadas pelo pico
+            event.setTotalSpots(i < settings.hotEvents() ? settings.customers() : 500);
+            event.setPartner(savedPartners.get(i % savedPartners.size()));
+            events.add(event);
+        }
+        final var savedEvents = ids(eventRepository.saveAll(events), Event::getId);
+
+        // Os eventos foram gravados direto no repositório; a projeção de disponibilidade é recalculada para eles
+        context.getBean(EventAvailabilityService.class).backfill();
+
+        final var customers = new ArrayList<Customer>(settings.customers());
+        for (int i = 0; i < settings.customers(); i++) {
+            customers.add(new Customer(null, "Customer " + i, Documents.cpf(i), "customer" + i + "@loadtest.com"));
+        }
+        final var savedCustomers = ids(customerRepository.saveAll(customers), Customer::getId);
+
+        return new SeedData(
+                savedPartners.stream().map(Partner::getId).toList(),
+                savedEvents,
+                savedEvents.subList(0, Math.min(settings.hotEvents(), savedEvents.size())),
+                savedCustomers
+        );
+    }
+
+    private static <T> List<Long> ids(final Iterable<T> saved, final Function<T, Long> id) {
+        return StreamSupport.stream(saved.spliterator(), false).map(id).toList();
+    }
+
+    record SeedData(List<Long> partnerIds, List<Long> eventIds, List<Long> hotEventIds, List<Long> customerIds) {
+    }
+
+    static final class Documents {
+
+        private Documents() {
+        }
+
+        static String cpf(final long n) {
+            return "%03d.%03d.%03d-%02d".formatted(n / 100_000_000 % 1000, n / 100_000 % 1000, n / 100 % 1000, n % 100);
+        }
+
+        static String cnpj(final long n) {
+            return "%02d.%03d.%03d/0001-%02d".formatted(n / 100_000_000 % 100, n / 100_000 % 1000, n / 100 % 1000, n % 100);
+        }
+    }
+}
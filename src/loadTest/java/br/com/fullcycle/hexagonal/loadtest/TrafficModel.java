@@ -0,0 +1,98 @@
+package br.com.fullcycle.hexagonal.loadtest;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// Mistura de tráfego de uma abertura de vendas: navegação (GETs e GraphQL), cadastro de clientes e
+// inscrições. Durante o pico a taxa de chegada é multiplicada e o excedente é todo de inscrições nos
+// eventos quentes, cada uma com um par (cliente, evento) novo, como numa fila real de compradores.
+final class TrafficModel {
+
+    private final LoadTestSettings settings;
+    private final Seeder.SeedData seed;
+    private final Random random;
+    private final int totalWeight;
+
+    private long nextHotSubscription;
+    private long nextCustomer = 1_000_000;
+
+    TrafficModel(final LoadTestSettings settings, final Seeder.SeedData seed, final Random random) {
+        this.settings = settings;
+        this.seed = seed;
+        this.random = random;
+        this.totalWeight = settings.browseWeight() + settings.createCustomerWeight() + settings.subscribeWeight();
+    }
+
+    double rateAt(final boolean burst) {
+        return settings.ratePerSecond() * (burst ? settings.burstMultiplier() : 1);
+    }
+
+    Request next(final boolean burst) {
+        if (burst && random.nextDouble() < 1 - 1 / settings.burstMultiplier()) {
+            return hotSubscribe();
+        }
+
+        final var pick = random.nextInt(totalWeight);
+        if (pick < settings.browseWeight()) {
+            return browse();
+        }
+        if (pick < settings.browseWeight() + settings.createCustomerWeight()) {
+            return createCustomer();
+        }
+        return subscribe();
+    }
+
+    private Request browse() {
+        return switch (random.nextInt(3)) {
+            case 0 -> Request.get("GET /customers/{id}", "/customers/" + resourceId(any(seed.customerIds())));
+            case 1 -> Request.get("GET /partners/{id}", "/partners/" + resourceId(any(seed.partnerIds())));
+            default -> Request.post("graphql eventOfId", "/graphql",
+                    "{\"query\":\"query($id: ID!) { eventOfId(id: $id) { id name date totalSpots partner { name } } }\","
+                            + "\"variables\":{\"id\":\"" + any(seed.eventIds()) + "\"}}");
+        };
+    }
+
+    private Request createCustomer() {
+        final var n = nextCustomer++;
+        return Request.post("POST /customers", "/customers",
+                "{\"name\":\"Load %d\",\"cpf\":\"%s\",\"email\":\"load%d@loadtest.com\"}"
+                        .formatted(n, Seeder.Documents.cpf(n), n));
+    }
+
+    private Request subscribe() {
+        return subscribe(any(seed.eventIds()), any(seed.customerIds()));
+    }
+
+    private Request hotSubscribe() {
+        final var customers = seed.customerIds();
+        final var k = nextHotSubscription++;
+        final var eventId = seed.hotEventIds().get((int) (k / customers.size() % seed.hotEventIds().size()));
+        return subscribe(eventId, customers.get((int) (k % customers.size())));
+    }
+
+    private static Request subscribe(final Long eventId, final Long customerId) {
+        return Request.post("POST /events/{id}/subscribe", "/events/" + eventId + "/subscribe",
+                "{\"customerId\":" + customerId + "}");
+    }
+
+    // Clientes e parceiros são expostos pela porta com UUID: o id da tabela vai nos 64 bits menos significativos
+    private static UUID resourceId(final Long id) {
+        return new UUID(0L, id);
+    }
+
+    private Long any(final List<Long> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    record Request(String endpoint, String method, String path, String body) {
+
+        static Request get(final String endpoint, final String path) {
+            return new Request(endpoint, "GET", path, null);
+        }
+
+        static Request post(final String endpoint, final String path, final String body) {
+            return new Request(endpoint, "POST", path, body);
+        }
+    }
+}
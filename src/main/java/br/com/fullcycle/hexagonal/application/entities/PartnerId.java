@@ -16,11 +16,25 @@ public record PartnerId(UUID value) {
         return new PartnerId(UUID.randomUUID());
     }
 
+    // Ids gravados ocupam só os 64 bits baixos, onde o adapter guarda o id numérico da tabela
+    public static PartnerId of(final long id) {
+        return new PartnerId(new UUID(0L, id));
+    }
+
+    // Aceita o id numérico, o mesmo que o restante da API usa, ou o UUID
     public static PartnerId with(final String value) {
         try {
+            if (value != null && !value.contains("-")) {
+                return of(Long.parseLong(value));
+            }
             return new PartnerId(UUID.fromString(value));
         } catch (IllegalArgumentException ex) {
             throw new ValidationException("Invalid value for PartnerId");
         }
     }
+
+    // Forma pública do id: o número da tabela quando houver um, senão o UUID
+    public String asString() {
+        return value.getMostSignificantBits() == 0 ? Long.toString(value.getLeastSignificantBits()) : value.toString();
+    }
 }
\ No newline at end of file
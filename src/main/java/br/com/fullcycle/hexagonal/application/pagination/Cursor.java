@@ -0,0 +1,41 @@
+package br.com.fullcycle.hexagonal.application.pagination;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+// Cursor opaco para paginação por keyset: guarda os valores das colunas de ordenação do último item
+// da página. O cliente só repassa a string; o formato pode mudar (prefixo de versão) sem quebrar a API.
+public final class Cursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private Cursor() {
+    }
+
+    public static String encode(final Object... values) {
+        final var raw = new StringBuilder(VERSION);
+        for (final var value : values) {
+            raw.append(SEPARATOR).append(value);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static List<String> decode(final String cursor, final int expectedValues) {
+        try {
+            final var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final var parts = List.of(raw.split("\\" + SEPARATOR, -1));
+
+            if (parts.size() != expectedValues + 1 || !VERSION.equals(parts.get(0))) {
+                throw new ValidationException("Invalid cursor");
+            }
+
+            return parts.subList(1, parts.size());
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Invalid cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.fullcycle.hexagonal.application.pagination;
+
+public record Edge<T>(String cursor, T node) {
+}
@@ -0,0 +1,21 @@
+package br.com.fullcycle.hexagonal.application.pagination;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+
+public record PageInfo(boolean hasNextPage, String endCursor) {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static int pageSize(final Integer first) {
+        if (first == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+
+        if (first < 1 || first > MAX_PAGE_SIZE) {
+            throw new ValidationException("Invalid value for first");
+        }
+
+        return first;
+    }
+}
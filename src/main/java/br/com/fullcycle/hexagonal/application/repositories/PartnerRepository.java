@@ -3,13 +3,19 @@ package br.com.fullcycle.hexagonal.application.repositories;
 import br.com.fullcycle.hexagonal.application.entities.Partner;
 import br.com.fullcycle.hexagonal.application.entities.PartnerId;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PartnerRepository {
 
     Optional<Partner> partnerOfId(PartnerId anId);
     Optional<Partner> partnerOfCNPJ(String cpf);
     Optional<Partner> partnerOfEmail(String email);
+    Set<String> existingCNPJs(Collection<String> cnpjs);
+    Set<String> existingEmails(Collection<String> emails);
     Partner create(Partner partner);
+    List<Partner> createAll(List<Partner> partners);
     Partner update(Partner partner);
 }
\ No newline at end of file
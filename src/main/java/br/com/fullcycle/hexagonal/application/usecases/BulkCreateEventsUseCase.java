@@ -0,0 +1,108 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.models.Event;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
+import br.com.fullcycle.hexagonal.infrastructure.services.PartnerService;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class BulkCreateEventsUseCase
+        extends UseCase<BulkCreateEventsUseCase.Input, BulkCreateEventsUseCase.Output> {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_DATE;
+
+    private final PartnerService partnerService;
+    private final EventService eventService;
+
+    public BulkCreateEventsUseCase(final PartnerService partnerService, final EventService eventService) {
+        this.partnerService = Objects.requireNonNull(partnerService);
+        this.eventService = Objects.requireNonNull(eventService);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var items = input.events() != null ? input.events() : List.<CreateEventUseCase.Input>of();
+        final var results = new Result[items.size()];
+        final var events = new ArrayList<Event>(items.size());
+        final var indexes = new ArrayList<Integer>(items.size());
+
+        // A existência de cada parceiro distinto é verificada uma única vez para todo o lote
+        final var partnerIds = items.stream()
+                .map(CreateEventUseCase.Input::partnerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        final var existingPartnerIds = partnerIds.isEmpty() ? Set.<Long>of() : partnerService.findExistingIds(partnerIds);
+
+        for (int i = 0; i < items.size(); i++) {
+            final var item = items.get(i);
+            try {
+                if (item.partnerId() == null || !existingPartnerIds.contains(item.partnerId())) {
+                    throw new ValidationException("Partner not found");
+                }
+
+                if (item.totalSpots() == null || item.totalSpots() < 0) {
+                    throw new ValidationException("Invalid value for totalSpots");
+                }
+
+                final var event = new Event();
+                event.setDate(parseDate(item.date()));
+                event.setName(item.name());
+                event.setTotalSpots(item.totalSpots());
+                event.setPartner(partnerService.referenceOf(item.partnerId()));
+
+                events.add(event);
+                indexes.add(i);
+            } catch (ValidationException ex) {
+                results[i] = Result.failure(i, ex.getMessage());
+            }
+        }
+
+        final var saved = events.isEmpty() ? List.<Event>of() : eventService.saveAll(events);
+
+        for (int i = 0; i < saved.size(); i++) {
+            final int index = indexes.get(i);
+            results[index] = Result.success(index, saved.get(i).getId());
+        }
+
+        return new Output(saved.size(), items.size() - saved.size(), List.of(results));
+    }
+
+    private static LocalDate parseDate(final String date) {
+        if (date == null) {
+            throw new ValidationException("Invalid value for date");
+        }
+
+        try {
+            return LocalDate.parse(date, DATE_FORMATTER);
+        } catch (DateTimeParseException ex) {
+            throw new ValidationException("Invalid value for date", ex);
+        }
+    }
+
+    public record Input(List<CreateEventUseCase.Input> events) {
+    }
+
+    public record Output(int created, int failed, List<Result> results) {
+    }
+
+    public record Result(int index, Long id, String error) {
+
+        static Result success(final int index, final Long id) {
+            return new Result(index, id, null);
+        }
+
+        static Result failure(final int index, final String error) {
+            return new Result(index, null, error);
+        }
+    }
+}
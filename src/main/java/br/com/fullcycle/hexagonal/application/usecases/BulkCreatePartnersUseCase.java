@@ -0,0 +1,86 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.application.entities.Partner;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class BulkCreatePartnersUseCase
+        extends UseCase<BulkCreatePartnersUseCase.Input, BulkCreatePartnersUseCase.Output> {
+
+    private final PartnerRepository partnerRepository;
+
+    public BulkCreatePartnersUseCase(final PartnerRepository partnerRepository) {
+        this.partnerRepository = Objects.requireNonNull(partnerRepository);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var items = input.partners() != null ? input.partners() : List.<CreatePartnerUseCase.Input>of();
+        final var results = new Result[items.size()];
+        final var partners = new ArrayList<Partner>(items.size());
+        final var indexes = new ArrayList<Integer>(items.size());
+        final var cnpjs = new HashSet<String>();
+        final var emails = new HashSet<String>();
+
+        // Os CNPJs e e-mails já cadastrados são consultados uma única vez para todo o lote
+        final var existingCNPJs = partnerRepository.existingCNPJs(items.stream()
+                .map(CreatePartnerUseCase.Input::cnpj)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        final var existingEmails = partnerRepository.existingEmails(items.stream()
+                .map(CreatePartnerUseCase.Input::email)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        for (int i = 0; i < items.size(); i++) {
+            final var item = items.get(i);
+            try {
+                final var partner = Partner.newPartner(item.name(), item.cnpj(), item.email());
+
+                if (existingCNPJs.contains(item.cnpj()) || existingEmails.contains(item.email())
+                        || !cnpjs.add(item.cnpj()) || !emails.add(item.email())) {
+                    throw new ValidationException("Partner already exists");
+                }
+
+                partners.add(partner);
+                indexes.add(i);
+            } catch (ValidationException ex) {
+                results[i] = Result.failure(i, ex.getMessage());
+            }
+        }
+
+        final var created = partners.isEmpty() ? List.<Partner>of() : partnerRepository.createAll(partners);
+
+        for (int i = 0; i < created.size(); i++) {
+            final int index = indexes.get(i);
+            results[index] = Result.success(index, created.get(i).partnerId().asString());
+        }
+
+        return new Output(created.size(), items.size() - created.size(), List.of(results));
+    }
+
+    public record Input(List<CreatePartnerUseCase.Input> partners) {
+    }
+
+    public record Output(int created, int failed, List<Result> results) {
+    }
+
+    public record Result(int index, String id, String error) {
+
+        static Result success(final int index, final String id) {
+            return new Result(index, id, null);
+        }
+
+        static Result failure(final int index, final String error) {
+            return new Result(index, null, error);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
+import br.com.fullcycle.hexagonal.infrastructure.services.TicketService;
+
+import java.util.Objects;
+
+public class CancelTicketUseCase
+        extends UseCase<CancelTicketUseCase.Input, CancelTicketUseCase.Output> {
+
+    private final EventService eventService;
+    private final TicketService ticketService;
+
+    public CancelTicketUseCase(final EventService eventService, final TicketService ticketService) {
+        this.eventService = Objects.requireNonNull(eventService);
+        this.ticketService = Objects.requireNonNull(ticketService);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var ticket = eventService.findTicketByEventIdAndCustomerId(input.eventId(), input.customerId())
+                .orElseThrow(() -> new ValidationException("Ticket not found"));
+
+        final var status = ticket.getStatus();
+        if (!status.holdsSeat()) {
+            throw new ValidationException("Ticket already released");
+        }
+
+        // A transição só vale se o status lido ainda for o atual (ex.: a expiração pode ter chegado antes)
+        if (!ticketService.changeStatus(ticket.getId(), input.eventId(), status, TicketStatus.CANCELLED)) {
+            throw new ValidationException("Ticket already released");
+        }
+
+        return new Output(input.eventId(), TicketStatus.CANCELLED.name());
+    }
+
+    public record Input(Long eventId, Long customerId) {
+    }
+
+    public record Output(Long eventId, String ticketStatus) {
+    }
+}
@@ -23,15 +23,18 @@ public class CreateEventUseCase
 
     @Override
     public Output execute(final Input input) {
+        if (input.partnerId == null) {
+            throw new ValidationException("Partner not found");
+        }
+
         var event = new Event();
         event.setDate(LocalDate.parse(input.date, DateTimeFormatter.ISO_DATE));
         event.setName(input.name);
         event.setTotalSpots(input.totalSpots);
 
-        partnerService.findById(input.partnerId)
-                .ifPresentOrElse(event::setPartner, () -> {
-                    throw new ValidationException("Partner not found");
-                });
+        // O parceiro não é carregado: apenas a referência é associada ao evento e a FK valida a existência
+        // (o EventService traduz a violação dessa FK em "Partner not found")
+        event.setPartner(partnerService.referenceOf(input.partnerId));
 
         event = eventService.save(event);
 
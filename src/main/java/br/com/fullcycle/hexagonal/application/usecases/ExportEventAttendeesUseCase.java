@@ -0,0 +1,75 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.exports.AttendeeExportFormat;
+import br.com.fullcycle.hexagonal.infrastructure.services.AttendeeExportService;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+public class ExportEventAttendeesUseCase
+        extends UseCase<ExportEventAttendeesUseCase.Input, ExportEventAttendeesUseCase.Output> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EventService eventService;
+    private final AttendeeExportService attendeeExportService;
+
+    public ExportEventAttendeesUseCase(final EventService eventService, final AttendeeExportService attendeeExportService) {
+        this.eventService = Objects.requireNonNull(eventService);
+        this.attendeeExportService = Objects.requireNonNull(attendeeExportService);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        // Validações acontecem antes do streaming: depois do primeiro byte não dá mais para responder 422
+        final var format = AttendeeExportFormat.of(input.format())
+                .orElseThrow(() -> new ValidationException("Invalid value for format"));
+
+        if (input.eventId() == null || eventService.findEventsByIds(List.of(input.eventId())).isEmpty()) {
+            throw new ValidationException("Event not found");
+        }
+
+        final var eventId = input.eventId();
+        final Export export = out -> {
+            final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write(format.header());
+
+            // Cada linha vai direto para o buffer de saída; nenhuma lista de participantes é mantida em memória
+            try {
+                attendeeExportService.streamAttendees(eventId, attendee -> {
+                    try {
+                        writer.write(format.line(attendee));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+
+            writer.flush();
+        };
+
+        return new Output(format.contentType(), "event-" + eventId + "-attendees." + format.extension(), export);
+    }
+
+    public record Input(Long eventId, String format) {
+    }
+
+    public record Output(String contentType, String fileName, Export export) {
+    }
+
+    @FunctionalInterface
+    public interface Export {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
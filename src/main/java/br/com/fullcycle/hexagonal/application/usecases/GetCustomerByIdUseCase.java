@@ -20,7 +20,7 @@ public class GetCustomerByIdUseCase
     public Optional<Output> execute(final Input input) {
         return customerRepository.customerOfId(CustomerId.with(input.id))
                 .map(c -> new Output(
-                        c.customerId().value().toString(),
+                        c.customerId().asString(),
                         c.cpf().value(),
                         c.email().value(),
                         c.name().value())
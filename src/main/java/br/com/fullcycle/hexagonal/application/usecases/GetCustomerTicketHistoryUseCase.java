@@ -0,0 +1,65 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.pagination.Cursor;
+import br.com.fullcycle.hexagonal.application.pagination.Edge;
+import br.com.fullcycle.hexagonal.application.pagination.PageInfo;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketHistoryDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.TicketService;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+
+public class GetCustomerTicketHistoryUseCase
+        extends UseCase<GetCustomerTicketHistoryUseCase.Input, GetCustomerTicketHistoryUseCase.Output> {
+
+    // Maior instante aceito pelo DATETIME do MySQL; a primeira página começa aqui
+    private static final Instant NEWEST = Instant.parse("9999-12-31T23:59:59Z");
+
+    private final TicketService ticketService;
+
+    public GetCustomerTicketHistoryUseCase(final TicketService ticketService) {
+        this.ticketService = Objects.requireNonNull(ticketService);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.customerId() == null) {
+            throw new ValidationException("Customer not found");
+        }
+
+        final var pageSize = PageInfo.pageSize(input.first());
+        var beforeReservedAt = NEWEST;
+        var beforeId = Long.MAX_VALUE;
+
+        if (input.after() != null) {
+            final var position = Cursor.decode(input.after(), 2);
+            try {
+                beforeReservedAt = Instant.parse(position.get(0));
+                beforeId = Long.parseLong(position.get(1));
+            } catch (DateTimeParseException | NumberFormatException ex) {
+                throw new ValidationException("Invalid cursor", ex);
+            }
+        }
+
+        // Mais recentes primeiro; um item a mais indica se existe próxima página
+        final var tickets = ticketService.findHistoryPage(input.customerId(), beforeReservedAt, beforeId, pageSize + 1);
+        final var page = tickets.subList(0, Math.min(pageSize, tickets.size()));
+
+        final var edges = page.stream()
+                .map(ticket -> new Edge<>(Cursor.encode(ticket.reservedAt(), ticket.ticketId()), ticket))
+                .toList();
+
+        final var endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).cursor();
+        return new Output(edges, new PageInfo(tickets.size() > pageSize, endCursor));
+    }
+
+    public record Input(Long customerId, String after, Integer first) {
+    }
+
+    public record Output(List<Edge<TicketHistoryDTO>> edges, PageInfo pageInfo) {
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventAvailabilityDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventAvailabilityService;
+
+import java.util.Objects;
+import java.util.Optional;
+
+public class GetEventAvailabilityUseCase
+        extends UseCase<GetEventAvailabilityUseCase.Input, Optional<GetEventAvailabilityUseCase.Output>> {
+
+    private final EventAvailabilityService eventAvailabilityService;
+
+    public GetEventAvailabilityUseCase(final EventAvailabilityService eventAvailabilityService) {
+        this.eventAvailabilityService = Objects.requireNonNull(eventAvailabilityService);
+    }
+
+    @Override
+    public Optional<Output> execute(final Input input) {
+        if (input.eventId() == null) {
+            return Optional.empty();
+        }
+
+        return eventAvailabilityService.findByEventId(input.eventId())
+                .map(Output::of);
+    }
+
+    public record Input(Long eventId) {
+    }
+
+    public record Output(Long eventId, int totalSpots, int sold, int held, int remaining, String status) {
+
+        public static Output of(final EventAvailabilityDTO availability) {
+            return new Output(
+                    availability.eventId(),
+                    availability.totalSpots(),
+                    availability.sold(),
+                    availability.held(),
+                    availability.remaining(),
+                    availability.status().name()
+            );
+        }
+    }
+}
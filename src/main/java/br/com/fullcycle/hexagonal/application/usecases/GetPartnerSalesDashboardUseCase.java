@@ -0,0 +1,46 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.sales.SalesCounters;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+public class GetPartnerSalesDashboardUseCase
+        extends UseCase<GetPartnerSalesDashboardUseCase.Input, GetPartnerSalesDashboardUseCase.Output> {
+
+    private static final int DEFAULT_MINUTES = 15;
+
+    private final SalesCounters salesCounters;
+
+    public GetPartnerSalesDashboardUseCase(final SalesCounters salesCounters) {
+        this.salesCounters = Objects.requireNonNull(salesCounters);
+    }
+
+    // Lê apenas os contadores em memória: nenhuma consulta ao banco por atualização do painel
+    @Override
+    public Output execute(final Input input) {
+        if (input.partnerId() == null) {
+            throw new ValidationException("Partner not found");
+        }
+
+        final var minutes = input.minutes() != null ? input.minutes() : DEFAULT_MINUTES;
+        if (minutes < 1 || minutes > salesCounters.minutes()) {
+            throw new ValidationException("Invalid value for minutes");
+        }
+
+        final var events = salesCounters.eventsOfPartner(input.partnerId(), minutes).stream()
+                .sorted(Comparator.comparing(SalesCounters.Stats::id))
+                .toList();
+
+        return new Output(salesCounters.partner(input.partnerId(), minutes), events);
+    }
+
+    public record Input(Long partnerId, Integer minutes) {
+    }
+
+    public record Output(SalesCounters.Stats partner, List<SalesCounters.Stats> events) {
+    }
+}
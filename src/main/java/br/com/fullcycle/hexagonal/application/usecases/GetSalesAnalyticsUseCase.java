@@ -0,0 +1,69 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.DailySalesDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.DailySalesRollupService;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+
+public class GetSalesAnalyticsUseCase
+        extends UseCase<GetSalesAnalyticsUseCase.Input, GetSalesAnalyticsUseCase.Output> {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_DATE;
+
+    // A resposta tem uma linha por evento e dia: com filtro ela fica limitada aos eventos do parceiro (ou a um
+    // evento) por até um ano; sem filtro, a todos os eventos da plataforma, então o período cai para um mês
+    private static final long MAX_DAYS = 366;
+    private static final long MAX_UNFILTERED_DAYS = 31;
+
+    private final DailySalesRollupService dailySalesRollupService;
+
+    public GetSalesAnalyticsUseCase(final DailySalesRollupService dailySalesRollupService) {
+        this.dailySalesRollupService = Objects.requireNonNull(dailySalesRollupService);
+    }
+
+    // Responde apenas a partir das tabelas de rollup; os ingressos dos últimos minutos ainda não aparecem.
+    // O número é de reservas feitas no período, não de vendas: cancelamentos e expirações não são descontados
+    @Override
+    public Output execute(final Input input) {
+        final var from = parseDate(input.from());
+        final var to = parseDate(input.to());
+
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new ValidationException("Invalid date range");
+        }
+
+        if (input.partnerId() == null && input.eventId() == null && ChronoUnit.DAYS.between(from, to) >= MAX_UNFILTERED_DAYS) {
+            throw new ValidationException("Partner or event is required for ranges over 31 days");
+        }
+
+        final var days = dailySalesRollupService.findRange(from, to, input.partnerId(), input.eventId());
+        final var reservations = days.stream().mapToLong(DailySalesDTO::reservations).sum();
+
+        return new Output(reservations, days);
+    }
+
+    private static LocalDate parseDate(final String date) {
+        if (date == null) {
+            throw new ValidationException("Invalid date range");
+        }
+
+        try {
+            return LocalDate.parse(date, DATE_FORMATTER);
+        } catch (DateTimeParseException ex) {
+            throw new ValidationException("Invalid date range", ex);
+        }
+    }
+
+    public record Input(String from, String to, Long partnerId, Long eventId) {
+    }
+
+    public record Output(long reservations, List<DailySalesDTO> days) {
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.pagination.Cursor;
+import br.com.fullcycle.hexagonal.application.pagination.Edge;
+import br.com.fullcycle.hexagonal.application.pagination.PageInfo;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.CustomerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.CustomerService;
+
+import java.util.List;
+import java.util.Objects;
+
+public class ListCustomersUseCase
+        extends UseCase<ListCustomersUseCase.Input, ListCustomersUseCase.Output> {
+
+    private final CustomerService customerService;
+
+    public ListCustomersUseCase(final CustomerService customerService) {
+        this.customerService = Objects.requireNonNull(customerService);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var pageSize = PageInfo.pageSize(input.first());
+        final var afterId = input.after() != null ? decode(input.after()) : Long.MIN_VALUE;
+
+        // Um item a mais indica se existe próxima página, sem precisar de count
+        final var customers = customerService.findPage(afterId, pageSize + 1);
+        final var page = customers.subList(0, Math.min(pageSize, customers.size()));
+
+        final var edges = page.stream()
+                .map(customer -> new Edge<>(Cursor.encode(customer.id()), customer))
+                .toList();
+
+        final var endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).cursor();
+        return new Output(edges, new PageInfo(customers.size() > pageSize, endCursor));
+    }
+
+    private static Long decode(final String cursor) {
+        try {
+            return Long.valueOf(Cursor.decode(cursor, 1).get(0));
+        } catch (NumberFormatException ex) {
+            throw new ValidationException("Invalid cursor", ex);
+        }
+    }
+
+    public record Input(String after, Integer first) {
+    }
+
+    public record Output(List<Edge<CustomerDTO>> edges, PageInfo pageInfo) {
+    }
+}
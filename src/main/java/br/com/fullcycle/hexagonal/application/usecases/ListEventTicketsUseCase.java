@@ -0,0 +1,58 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.pagination.Cursor;
+import br.com.fullcycle.hexagonal.application.pagination.Edge;
+import br.com.fullcycle.hexagonal.application.pagination.PageInfo;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
+
+import java.util.List;
+import java.util.Objects;
+
+// Ingressos de um evento em ordem de id, por keyset sobre (event_id, id)
+public class ListEventTicketsUseCase
+        extends UseCase<ListEventTicketsUseCase.Input, ListEventTicketsUseCase.Output> {
+
+    private final EventService eventService;
+
+    public ListEventTicketsUseCase(final EventService eventService) {
+        this.eventService = Objects.requireNonNull(eventService);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.eventId() == null) {
+            throw new ValidationException("Event not found");
+        }
+
+        final var pageSize = PageInfo.pageSize(input.first());
+        final var afterId = input.after() != null ? decode(input.after()) : Long.MIN_VALUE;
+
+        // Um item a mais indica se existe próxima página, sem precisar de count
+        final var tickets = eventService.findTicketPage(input.eventId(), afterId, pageSize + 1);
+        final var page = tickets.subList(0, Math.min(pageSize, tickets.size()));
+
+        final var edges = page.stream()
+                .map(ticket -> new Edge<>(Cursor.encode(ticket.id()), ticket))
+                .toList();
+
+        final var endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).cursor();
+        return new Output(edges, new PageInfo(tickets.size() > pageSize, endCursor));
+    }
+
+    private static Long decode(final String cursor) {
+        try {
+            return Long.valueOf(Cursor.decode(cursor, 1).get(0));
+        } catch (NumberFormatException ex) {
+            throw new ValidationException("Invalid cursor", ex);
+        }
+    }
+
+    public record Input(Long eventId, String after, Integer first) {
+    }
+
+    public record Output(List<Edge<TicketDTO>> edges, PageInfo pageInfo) {
+    }
+}
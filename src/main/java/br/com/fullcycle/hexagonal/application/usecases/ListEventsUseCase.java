@@ -0,0 +1,86 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.pagination.Cursor;
+import br.com.fullcycle.hexagonal.application.pagination.Edge;
+import br.com.fullcycle.hexagonal.application.pagination.PageInfo;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+
+public class ListEventsUseCase
+        extends UseCase<ListEventsUseCase.Input, ListEventsUseCase.Output> {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_DATE;
+
+    // Limites do tipo DATE do MySQL, usados quando o intervalo não é informado
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final EventService eventService;
+
+    public ListEventsUseCase(final EventService eventService) {
+        this.eventService = Objects.requireNonNull(eventService);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var pageSize = PageInfo.pageSize(input.first());
+        final var from = input.from() != null ? parseDate(input.from()) : MIN_DATE;
+        final var to = input.to() != null ? parseDate(input.to()) : MAX_DATE;
+
+        if (from.isAfter(to)) {
+            throw new ValidationException("Invalid date range");
+        }
+
+        var afterDate = from;
+        var afterId = Long.MIN_VALUE;
+
+        if (input.after() != null) {
+            final var position = Cursor.decode(input.after(), 2);
+            try {
+                afterDate = LocalDate.parse(position.get(0), DATE_FORMATTER);
+                afterId = Long.parseLong(position.get(1));
+            } catch (DateTimeParseException | NumberFormatException ex) {
+                throw new ValidationException("Invalid cursor", ex);
+            }
+
+            // Um cursor anterior ao início do intervalo não pode trazer eventos de fora dele
+            if (afterDate.isBefore(from)) {
+                afterDate = from;
+                afterId = Long.MIN_VALUE;
+            }
+        }
+
+        // Um item a mais indica se existe próxima página, sem precisar de count
+        final var events = eventService.findPage(input.partnerId(), afterDate, afterId, to, pageSize + 1);
+        final var page = events.subList(0, Math.min(pageSize, events.size()));
+
+        final var edges = page.stream()
+                .map(event -> new Edge<>(Cursor.encode(event.date().format(DATE_FORMATTER), event.id()), event))
+                .toList();
+
+        final var endCursor = edges.isEmpty() ? null : edges.get(edges.size() - 1).cursor();
+        return new Output(edges, new PageInfo(events.size() > pageSize, endCursor));
+    }
+
+    private static LocalDate parseDate(final String date) {
+        try {
+            return LocalDate.parse(date, DATE_FORMATTER);
+        } catch (DateTimeParseException ex) {
+            throw new ValidationException("Invalid value for date", ex);
+        }
+    }
+
+    public record Input(String after, Integer first, Long partnerId, String from, String to) {
+    }
+
+    public record Output(List<Edge<EventDTO>> edges, PageInfo pageInfo) {
+    }
+}
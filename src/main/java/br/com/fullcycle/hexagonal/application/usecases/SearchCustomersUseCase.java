@@ -0,0 +1,57 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.CustomerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.CustomerSearchService;
+import br.com.fullcycle.hexagonal.infrastructure.services.CustomerService;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+public class SearchCustomersUseCase
+        extends UseCase<SearchCustomersUseCase.Input, SearchCustomersUseCase.Output> {
+
+    private static final int DEFAULT_FIRST = 10;
+    private static final int MAX_FIRST = 50;
+
+    private final CustomerSearchService customerSearchService;
+    private final CustomerService customerService;
+
+    public SearchCustomersUseCase(final CustomerSearchService customerSearchService, final CustomerService customerService) {
+        this.customerSearchService = Objects.requireNonNull(customerSearchService);
+        this.customerService = Objects.requireNonNull(customerService);
+    }
+
+    // Clientes com alguma palavra do nome começando pelo prefixo, sem diferenciar acentos, em ordem alfabética.
+    // O índice escolhe os ids; só os encontrados são lidos do banco, pela chave primária.
+    @Override
+    public Output execute(final Input input) {
+        if (input.prefix() == null || input.prefix().isBlank()) {
+            throw new ValidationException("Invalid value for prefix");
+        }
+
+        final var first = input.first() != null ? input.first() : DEFAULT_FIRST;
+        if (first < 1 || first > MAX_FIRST) {
+            throw new ValidationException("Invalid value for first");
+        }
+
+        final var ids = customerSearchService.search(input.prefix(), first);
+        if (ids.isEmpty()) {
+            return new Output(List.of());
+        }
+
+        final var customers = customerService.findCustomersByIds(ids).stream()
+                .sorted(Comparator.comparingInt(customer -> ids.indexOf(customer.id())))
+                .toList();
+
+        return new Output(customers);
+    }
+
+    public record Input(String prefix, Integer first) {
+    }
+
+    public record Output(List<CustomerDTO> customers) {
+    }
+}
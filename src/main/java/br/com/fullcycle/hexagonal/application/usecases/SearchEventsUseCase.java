@@ -0,0 +1,44 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.UseCase;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventSearchService;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SearchEventsUseCase
+        extends UseCase<SearchEventsUseCase.Input, SearchEventsUseCase.Output> {
+
+    private static final int DEFAULT_FIRST = 10;
+    private static final int MAX_FIRST = 50;
+
+    private final EventSearchService eventSearchService;
+
+    public SearchEventsUseCase(final EventSearchService eventSearchService) {
+        this.eventSearchService = Objects.requireNonNull(eventSearchService);
+    }
+
+    // Eventos cujo nome tem palavras começando com cada termo da consulta, sem diferenciar acentos,
+    // dos mais próximos da data de hoje para os mais distantes
+    @Override
+    public Output execute(final Input input) {
+        if (input.query() == null || input.query().isBlank()) {
+            throw new ValidationException("Invalid value for query");
+        }
+
+        final var first = input.first() != null ? input.first() : DEFAULT_FIRST;
+        if (first < 1 || first > MAX_FIRST) {
+            throw new ValidationException("Invalid value for first");
+        }
+
+        return new Output(eventSearchService.search(input.query(), first));
+    }
+
+    public record Input(String query, Integer first) {
+    }
+
+    public record Output(List<EventDTO> events) {
+    }
+}
@@ -4,6 +4,7 @@ import br.com.fullcycle.hexagonal.application.UseCase;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.infrastructure.models.Ticket;
 import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import br.com.fullcycle.hexagonal.infrastructure.observability.SubscribeStageEvent;
 import br.com.fullcycle.hexagonal.infrastructure.services.CustomerService;
 import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
 
@@ -23,30 +24,34 @@ public class SubscribeCustomerToEventUseCase
 
     @Override
     public Output execute(final Input input) {
-        var customer = customerService.findById(input.customerId)
+        // Cada etapa vira um SubscribeStageEvent no JFR, com custo desprezível quando não há gravação ativa
+        var customer = SubscribeStageEvent.timed(SubscribeStageEvent.CUSTOMER_LOOKUP, input.eventId, input.customerId,
+                () -> customerService.findById(input.customerId))
                 .orElseThrow(() -> new ValidationException("Customer not found"));
 
-        var event = eventService.findById(input.eventId)
+        var event = SubscribeStageEvent.timed(SubscribeStageEvent.EVENT_LOAD, input.eventId, input.customerId,
+                () -> eventService.findById(input.eventId))
                 .orElseThrow(() -> new ValidationException("Event not found"));
 
-        eventService.findTicketByEventIdAndCustomerId(input.eventId, input.customerId)
+        // Um ingresso cancelado ou expirado não impede uma nova inscrição
+        SubscribeStageEvent.timed(SubscribeStageEvent.DUPLICATE_CHECK, input.eventId, input.customerId,
+                () -> eventService.findTicketByEventIdAndCustomerId(input.eventId, input.customerId))
+                .filter(ticket -> ticket.getStatus().holdsSeat())
                 .ifPresent(ticket -> {
                     throw new ValidationException("Ticket already subscribed");
                 });
 
-        if (event.getTotalSpots() < event.getTickets().size() + 1) {
-            throw new ValidationException("Event sold out");
-        }
-
         var ticket = new Ticket();
         ticket.setEvent(event);
         ticket.setCustomer(customer);
         ticket.setReservedAt(Instant.now());
         ticket.setStatus(TicketStatus.PENDING);
 
-        event.getTickets().add(ticket);
-
-        eventService.save(event);
+        // A lotação é verificada na projeção de disponibilidade, no mesmo update que retém a vaga:
+        // nenhuma etapa lê os ingressos do evento. Ingressos cancelados ou expirados não ocupam vaga.
+        SubscribeStageEvent.timed(SubscribeStageEvent.SAVE, input.eventId, input.customerId,
+                () -> eventService.reserve(ticket))
+                .orElseThrow(() -> new ValidationException("Event sold out"));
 
         return new Output(event.getId(), ticket.getStatus().name(), ticket.getReservedAt());
     }
@@ -0,0 +1,51 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.resilience.BulkheadRoutingDataSource;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.EndpointClass;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Locale;
+
+// Substitui o pool único do Spring Boot por um pool Hikari por classe de endpoints. Cada pool herda
+// spring.datasource.hikari.* (timeouts, validação, propriedades do driver); o nome e o tamanho vêm da
+// partição, e bulkheads.partitions.<classe>.hikari.* sobrepõe ajustes só daquele pool (o cursor do
+// MySQL para as exportações, por exemplo).
+@Configuration
+@ConditionalOnProperty(name = "bulkheads.enabled", havingValue = "true")
+public class BulkheadDataSourceConfig {
+
+    @Bean
+    public BulkheadRoutingDataSource dataSource(
+            final DataSourceProperties dataSourceProperties,
+            final BulkheadProperties bulkheadProperties,
+            final MeterRegistry meterRegistry,
+            final Environment environment
+    ) {
+        final var binder = Binder.get(environment);
+        final var partitions = new EnumMap<EndpointClass, DataSource>(EndpointClass.class);
+
+        for (final var endpointClass : EndpointClass.values()) {
+            final var pool = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            final var name = endpointClass.name().toLowerCase(Locale.ROOT);
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            binder.bind("bulkheads.partitions." + name + ".hikari", Bindable.ofInstance(pool));
+            pool.setPoolName("hikari-" + name);
+            pool.setMaximumPoolSize(bulkheadProperties.partition(endpointClass).poolSize());
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            partitions.put(endpointClass, pool);
+        }
+
+        return new BulkheadRoutingDataSource(partitions);
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.resilience.EndpointClass;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "bulkheads")
+public record BulkheadProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1") long retryAfterSeconds,
+        Map<EndpointClass, Partition> partitions
+) {
+
+    private static final Partition DEFAULT_PARTITION = new Partition(10, 5);
+
+    public BulkheadProperties {
+        partitions = partitions != null ? partitions : Map.of();
+    }
+
+    public Partition partition(final EndpointClass endpointClass) {
+        return partitions.getOrDefault(endpointClass, DEFAULT_PARTITION);
+    }
+
+    // Cada permissão além do pool espera por uma conexão no Hikari. O limite fica no pool mais uma fila curta
+    // (QUEUE_FACTOR vezes o pool): o excedente recebe 503 com Retry-After na hora, em vez de esperar o
+    // connectionTimeout. Sem max-concurrent configurado, vale esse limite.
+    public record Partition(int maxConcurrent, int poolSize) {
+
+        private static final int QUEUE_FACTOR = 2;
+
+        public Partition {
+            maxConcurrent = maxConcurrent > 0 ? maxConcurrent : poolSize * QUEUE_FACTOR;
+        }
+    }
+}
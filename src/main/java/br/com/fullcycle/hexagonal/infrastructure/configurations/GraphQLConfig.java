@@ -0,0 +1,43 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.graphql.PersistedQueryDocumentProvider;
+import br.com.fullcycle.hexagonal.infrastructure.graphql.QueryCostCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(GraphQLCostProperties.class)
+public class GraphQLConfig {
+
+    @Bean
+    public PersistedQueryDocumentProvider persistedQueryDocumentProvider(
+            @Value("${graphql.persisted-queries.cache-size:1000}") final int cacheSize
+    ) {
+        return new PersistedQueryDocumentProvider(cacheSize);
+    }
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedQueriesCustomizer(final PersistedQueryDocumentProvider provider) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(provider));
+    }
+
+    // As instrumentações abaixo rodam antes da execução e rejeitam a consulta inteira quando o orçamento é excedido
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(final GraphQLCostProperties properties) {
+        return new MaxQueryDepthInstrumentation(properties.maxDepth());
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(final GraphQLCostProperties properties) {
+        return new MaxQueryComplexityInstrumentation(
+                properties.maxComplexity(),
+                new QueryCostCalculator(properties.weights(), properties.listFactor())
+        );
+    }
+}
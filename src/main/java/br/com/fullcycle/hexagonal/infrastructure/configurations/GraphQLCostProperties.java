@@ -0,0 +1,19 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "graphql.cost")
+public record GraphQLCostProperties(
+        @DefaultValue("15") int maxDepth,
+        @DefaultValue("1000") int maxComplexity,
+        @DefaultValue("10") int listFactor,
+        Map<String, Integer> weights
+) {
+
+    public GraphQLCostProperties {
+        weights = weights != null ? weights : Map.of();
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "latency")
+public record LatencyProperties(
+        @DefaultValue("PT5S") Duration interval,
+        @DefaultValue({"PT10S", "PT1M", "PT5M"}) List<Duration> windows
+) {
+}
@@ -0,0 +1,92 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.graphql.RouteLatencyInstrumentation;
+import br.com.fullcycle.hexagonal.infrastructure.interceptors.StatementScopeInterceptor;
+import br.com.fullcycle.hexagonal.infrastructure.observability.DataSourceInstrumentationPostProcessor;
+import br.com.fullcycle.hexagonal.infrastructure.observability.LatencyEndpoint;
+import br.com.fullcycle.hexagonal.infrastructure.observability.RouteLatencyRecorder;
+import br.com.fullcycle.hexagonal.infrastructure.observability.SlowQueryLog;
+import br.com.fullcycle.hexagonal.infrastructure.observability.StatementInstrumentationListener;
+import br.com.fullcycle.hexagonal.infrastructure.observability.StatementShapes;
+import br.com.fullcycle.hexagonal.infrastructure.observability.StatementStatistics;
+import br.com.fullcycle.hexagonal.infrastructure.observability.StatementsEndpoint;
+import br.com.fullcycle.hexagonal.infrastructure.observability.UseCaseMetricsPostProcessor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({LatencyProperties.class, StatementInstrumentationProperties.class})
+public class ObservabilityConfig {
+
+    // static: post processors são criados antes dos demais beans e não devem arrastar esta configuração junto
+    @Bean
+    public static UseCaseMetricsPostProcessor useCaseMetricsPostProcessor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new UseCaseMetricsPostProcessor(meterRegistry);
+    }
+
+    @Bean
+    public RouteLatencyRecorder routeLatencyRecorder(final LatencyProperties properties) {
+        return new RouteLatencyRecorder(properties.interval(), properties.windows());
+    }
+
+    @Bean
+    public RouteLatencyInstrumentation routeLatencyInstrumentation(final RouteLatencyRecorder recorder) {
+        return new RouteLatencyInstrumentation(recorder);
+    }
+
+    @Bean
+    public LatencyEndpoint latencyEndpoint(final RouteLatencyRecorder recorder) {
+        return new LatencyEndpoint(recorder);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "jdbc.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+    public static DataSourceInstrumentationPostProcessor dataSourceInstrumentationPostProcessor(
+            final ObjectProvider<StatementInstrumentationListener> listener
+    ) {
+        return new DataSourceInstrumentationPostProcessor(listener);
+    }
+
+    @Bean
+    public StatementStatistics statementStatistics(final StatementInstrumentationProperties properties) {
+        return new StatementStatistics(properties.maxShapes());
+    }
+
+    @Bean
+    public SlowQueryLog slowQueryLog(final StatementInstrumentationProperties properties, final MeterRegistry meterRegistry) {
+        final var slowQueryLog = new SlowQueryLog(properties.slowQueryThreshold(), properties.slowQueryQueueSize());
+
+        FunctionCounter.builder("jdbc.slow_query_log.dropped", slowQueryLog, SlowQueryLog::dropped)
+                .description("Slow query log entries dropped because the queue was full")
+                .register(meterRegistry);
+
+        return slowQueryLog;
+    }
+
+    @Bean
+    public StatementInstrumentationListener statementInstrumentationListener(
+            final StatementStatistics statistics,
+            final SlowQueryLog slowQueryLog,
+            final MeterRegistry meterRegistry
+    ) {
+        return new StatementInstrumentationListener(new StatementShapes(), statistics, slowQueryLog, meterRegistry);
+    }
+
+    @Bean
+    public StatementScopeInterceptor statementScopeInterceptor(
+            final StatementInstrumentationProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        return new StatementScopeInterceptor(properties.nPlusOneThreshold(), meterRegistry);
+    }
+
+    @Bean
+    public StatementsEndpoint statementsEndpoint(final StatementStatistics statistics) {
+        return new StatementsEndpoint(statistics);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100000") int maxBuckets,
+        @DefaultValue("10m") Duration idleTimeout,
+        List<Rule> rules,
+        Set<String> apiKeys
+) {
+
+    public RateLimitProperties {
+        rules = rules != null ? rules : List.of();
+        apiKeys = apiKeys != null ? Set.copyOf(apiKeys) : Set.of();
+    }
+
+    public record Rule(String method, String pattern, double permitsPerSecond, int burst) {
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.interceptors.BulkheadInterceptor;
+import br.com.fullcycle.hexagonal.infrastructure.interceptors.RateLimitInterceptor;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.Bulkhead;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.EndpointClass;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.RateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Locale;
+
+@Configuration
+@EnableConfigurationProperties({BulkheadProperties.class, RateLimitProperties.class})
+public class ResilienceConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            @Value("${concurrency-limit.initial:20}") final int initialLimit,
+            @Value("${concurrency-limit.min:5}") final int minLimit,
+            @Value("${concurrency-limit.max:200}") final int maxLimit,
+            @Value("${concurrency-limit.smoothing:0.2}") final double smoothing,
+            @Value("${concurrency-limit.tolerance:1.5}") final double tolerance,
+            final MeterRegistry meterRegistry
+    ) {
+        final var limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, smoothing, tolerance);
+
+        Gauge.builder("usecase.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("usecase.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                .description("Requests currently executing a use case")
+                .register(meterRegistry);
+        FunctionCounter.builder("usecase.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::rejected)
+                .description("Requests shed because the concurrency limit was reached")
+                .register(meterRegistry);
+
+        return limiter;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bulkheads.enabled", havingValue = "true")
+    public BulkheadInterceptor bulkheadInterceptor(
+            final BulkheadProperties properties,
+            final MeterRegistry meterRegistry
+    ) {
+        final var bulkheads = new EnumMap<EndpointClass, Bulkhead>(EndpointClass.class);
+
+        for (final var endpointClass : EndpointClass.values()) {
+            if (endpointClass == EndpointClass.DEFAULT) {
+                continue;
+            }
+
+            final var bulkhead = new Bulkhead(endpointClass, properties.partition(endpointClass).maxConcurrent());
+            Gauge.builder("bulkhead.available", bulkhead, Bulkhead::available)
+                    .description("Free slots in the endpoint class bulkhead")
+                    .tag("partition", endpointClass.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+            bulkheads.put(endpointClass, bulkhead);
+        }
+
+        return new BulkheadInterceptor(bulkheads, properties.retryAfterSeconds());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true")
+    public RateLimiter rateLimiter(final RateLimitProperties properties, final MeterRegistry meterRegistry) {
+        final var rateLimiter = new RateLimiter(properties.maxBuckets(), properties.idleTimeout());
+
+        Gauge.builder("ratelimit.buckets", rateLimiter, RateLimiter::size)
+                .description("Client token buckets currently held in memory")
+                .register(meterRegistry);
+
+        return rateLimiter;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true")
+    public RateLimitInterceptor rateLimitInterceptor(final RateLimiter rateLimiter, final RateLimitProperties properties) {
+        return new RateLimitInterceptor(rateLimiter, properties.rules(), properties.apiKeys());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.sales.SalesCounters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+@Configuration
+public class SalesConfig {
+
+    @Bean
+    public SalesCounters salesCounters(@Value("${sales.window-minutes:60}") final int windowMinutes) {
+        return new SalesCounters(windowMinutes, Clock.systemUTC());
+    }
+}
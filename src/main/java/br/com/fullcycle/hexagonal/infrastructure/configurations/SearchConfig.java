@@ -0,0 +1,52 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.search.CustomerNameIndex;
+import br.com.fullcycle.hexagonal.infrastructure.search.EventSearchIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    public EventSearchIndex eventSearchIndex(final MeterRegistry meterRegistry) {
+        final var index = new EventSearchIndex();
+
+        Gauge.builder("search.events.index.bytes", index, EventSearchIndex::estimatedBytes)
+                .description("Estimated heap used by the event search index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("search.events.index.documents", index, EventSearchIndex::documents)
+                .description("Events in the search index")
+                .register(meterRegistry);
+        Gauge.builder("search.events.index.terms", index, EventSearchIndex::terms)
+                .description("Distinct terms in the search index")
+                .register(meterRegistry);
+
+        return index;
+    }
+
+    @Bean
+    public CustomerNameIndex customerNameIndex(
+            @Value("${search.customers.min-compaction:4096}") final int minCompaction,
+            final MeterRegistry meterRegistry
+    ) {
+        final var index = new CustomerNameIndex(minCompaction);
+
+        Gauge.builder("search.customers.index.bytes", index, CustomerNameIndex::estimatedBytes)
+                .description("Estimated heap used by the customer name index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("search.customers.index.customers", index, CustomerNameIndex::customers)
+                .description("Customers in the compacted part of the name index")
+                .register(meterRegistry);
+        Gauge.builder("search.customers.index.pending", index, CustomerNameIndex::pending)
+                .description("Name index entries waiting for compaction")
+                .register(meterRegistry);
+
+        return index;
+    }
+}
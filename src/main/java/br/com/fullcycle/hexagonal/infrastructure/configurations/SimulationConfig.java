@@ -0,0 +1,37 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.simulation.LatencySimulator;
+import br.com.fullcycle.hexagonal.infrastructure.simulation.SimulatedLatencyPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Apenas para ensaios de capacidade: nunca ligar em produção
+@Configuration
+@ConditionalOnProperty(name = "simulation.enabled", havingValue = "true")
+@EnableConfigurationProperties(SimulationProperties.class)
+public class SimulationConfig {
+
+    @Bean
+    public LatencySimulator latencySimulator(final SimulationProperties properties) {
+        return new LatencySimulator(
+                properties.distribution(),
+                properties.median(),
+                properties.jitter(),
+                properties.sigma(),
+                properties.errorRate(),
+                new Random(properties.seed()),
+                TimeUnit.NANOSECONDS::sleep
+        );
+    }
+
+    @Bean
+    public static SimulatedLatencyPostProcessor simulatedLatencyPostProcessor(final ObjectProvider<LatencySimulator> simulator) {
+        return new SimulatedLatencyPostProcessor(simulator);
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.simulation.LatencySimulator;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "simulation")
+public record SimulationProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("LOG_NORMAL") LatencySimulator.Distribution distribution,
+        @DefaultValue("PT0.02S") Duration median,
+        @DefaultValue("PT0.01S") Duration jitter,
+        @DefaultValue("0.5") double sigma,
+        @DefaultValue("0") double errorRate,
+        @DefaultValue("42") long seed
+) {
+}
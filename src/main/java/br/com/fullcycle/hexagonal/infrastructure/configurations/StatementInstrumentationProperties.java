@@ -0,0 +1,16 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "jdbc.instrumentation")
+public record StatementInstrumentationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT0.2S") Duration slowQueryThreshold,
+        @DefaultValue("1000") int slowQueryQueueSize,
+        @DefaultValue("5") int nPlusOneThreshold,
+        @DefaultValue("1000") int maxShapes
+) {
+}
@@ -0,0 +1,32 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.streaming.AvailabilityBroadcaster;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(StreamingProperties.class)
+public class StreamingConfig {
+
+    @Bean
+    public AvailabilityBroadcaster availabilityBroadcaster(final StreamingProperties properties, final MeterRegistry meterRegistry) {
+        final var broadcaster = new AvailabilityBroadcaster(
+                properties.interval(), properties.senderThreads(), properties.sendTimeout());
+
+        Gauge.builder("availability.stream.subscribers", broadcaster, AvailabilityBroadcaster::subscribers)
+                .description("Open availability subscriptions (SSE and GraphQL)")
+                .register(meterRegistry);
+        FunctionCounter.builder("availability.stream.dropped", broadcaster, AvailabilityBroadcaster::dropped)
+                .description("Subscriptions dropped because a send took longer than the send timeout")
+                .register(meterRegistry);
+        Gauge.builder("availability.stream.stalled-senders", broadcaster, AvailabilityBroadcaster::stalledSenders)
+                .description("Sender threads stuck on dropped subscriptions and covered by replacement threads")
+                .register(meterRegistry);
+
+        return broadcaster;
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "availability.stream")
+public record StreamingProperties(
+        @DefaultValue("PT1S") Duration interval,
+        @DefaultValue("PT30M") Duration timeout,
+        @DefaultValue("4") int senderThreads,
+        @DefaultValue("PT5S") Duration sendTimeout
+) {
+}
@@ -1,9 +1,18 @@
 package br.com.fullcycle.hexagonal.infrastructure.configurations;
 
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
 import br.com.fullcycle.hexagonal.application.usecases.*;
+import br.com.fullcycle.hexagonal.infrastructure.services.AttendeeExportService;
+import br.com.fullcycle.hexagonal.infrastructure.services.CustomerSearchService;
 import br.com.fullcycle.hexagonal.infrastructure.services.CustomerService;
+import br.com.fullcycle.hexagonal.infrastructure.services.DailySalesRollupService;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventAvailabilityService;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventSearchService;
 import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
 import br.com.fullcycle.hexagonal.infrastructure.services.PartnerService;
+import br.com.fullcycle.hexagonal.infrastructure.sales.SalesCounters;
+import br.com.fullcycle.hexagonal.infrastructure.services.TicketService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,24 +21,60 @@ import java.util.Objects;
 @Configuration
 public class UseCaseConfig {
 
+    private final AttendeeExportService attendeeExportService;
+    private final CustomerRepository customerRepository;
+    private final CustomerSearchService customerSearchService;
     private final CustomerService customerService;
+    private final DailySalesRollupService dailySalesRollupService;
+    private final EventAvailabilityService eventAvailabilityService;
+    private final EventSearchService eventSearchService;
     private final EventService eventService;
+    private final PartnerRepository partnerRepository;
     private final PartnerService partnerService;
+    private final SalesCounters salesCounters;
+    private final TicketService ticketService;
 
     public UseCaseConfig(
+            final AttendeeExportService attendeeExportService,
+            final CustomerRepository customerRepository,
+            final CustomerSearchService customerSearchService,
             final CustomerService customerService,
+            final DailySalesRollupService dailySalesRollupService,
+            final EventAvailabilityService eventAvailabilityService,
+            final EventSearchService eventSearchService,
             final EventService eventService,
-            final PartnerService partnerService
+            final PartnerRepository partnerRepository,
+            final PartnerService partnerService,
+            final SalesCounters salesCounters,
+            final TicketService ticketService
     ) {
+        this.attendeeExportService = Objects.requireNonNull(attendeeExportService);
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.customerSearchService = Objects.requireNonNull(customerSearchService);
         this.customerService = Objects.requireNonNull(customerService);
+        this.dailySalesRollupService = Objects.requireNonNull(dailySalesRollupService);
+        this.eventAvailabilityService = Objects.requireNonNull(eventAvailabilityService);
+        this.eventSearchService = Objects.requireNonNull(eventSearchService);
         this.eventService = Objects.requireNonNull(eventService);
+        this.partnerRepository = Objects.requireNonNull(partnerRepository);
         this.partnerService = Objects.requireNonNull(partnerService);
+        this.salesCounters = Objects.requireNonNull(salesCounters);
+        this.ticketService = Objects.requireNonNull(ticketService);
+    }
+
+    @Bean
+    public BulkCreateEventsUseCase bulkCreateEventsUseCase() {
+        return new BulkCreateEventsUseCase(partnerService, eventService);
+    }
+
+    @Bean
+    public BulkCreatePartnersUseCase bulkCreatePartnersUseCase() {
+        return new BulkCreatePartnersUseCase(partnerRepository);
     }
 
     @Bean
     public CreateCustomerUseCase createCustomerUseCase() {
-        // TODO: Fix dependency
-        return new CreateCustomerUseCase(null);
+        return new CreateCustomerUseCase(customerRepository);
     }
 
     @Bean
@@ -39,18 +84,77 @@ public class UseCaseConfig {
 
     @Bean
     public CreatePartnerUseCase createPartnerUseCase() {
-        return new CreatePartnerUseCase(null);
+        return new CreatePartnerUseCase(partnerRepository);
     }
 
     @Bean
     public GetCustomerByIdUseCase getCustomerByIdUseCase() {
-        // TODO: Fix dependency
-        return new GetCustomerByIdUseCase(null);
+        return new GetCustomerByIdUseCase(customerRepository);
+    }
+
+    @Bean
+    public CancelTicketUseCase cancelTicketUseCase() {
+        return new CancelTicketUseCase(eventService, ticketService);
+    }
+
+    @Bean
+    public ExportEventAttendeesUseCase exportEventAttendeesUseCase() {
+        return new ExportEventAttendeesUseCase(eventService, attendeeExportService);
+    }
+
+    @Bean
+    public GetCustomerTicketHistoryUseCase getCustomerTicketHistoryUseCase() {
+        return new GetCustomerTicketHistoryUseCase(ticketService);
+    }
+
+    @Bean
+    public GetEventAvailabilityUseCase getEventAvailabilityUseCase() {
+        return new GetEventAvailabilityUseCase(eventAvailabilityService);
     }
 
     @Bean
     public GetPartnerByIdUseCase getPartnerByIdUseCase() {
-        return new GetPartnerByIdUseCase(null);
+        return new GetPartnerByIdUseCase(partnerRepository);
+    }
+
+    @Bean
+    public ListCustomersUseCase listCustomersUseCase() {
+        return new ListCustomersUseCase(customerService);
+    }
+
+    @Bean
+    public GetPartnerSalesDashboardUseCase getPartnerSalesDashboardUseCase() {
+        return new GetPartnerSalesDashboardUseCase(salesCounters);
+    }
+
+    @Bean
+    public GetSalesAnalyticsUseCase getSalesAnalyticsUseCase() {
+        return new GetSalesAnalyticsUseCase(dailySalesRollupService);
+    }
+
+    @Bean
+    public ListEventTicketsUseCase listEventTicketsUseCase() {
+        return new ListEventTicketsUseCase(eventService);
+    }
+
+    @Bean
+    public ListEventsUseCase listEventsUseCase() {
+        return new ListEventsUseCase(eventService);
+    }
+
+    @Bean
+    public ListPartnersUseCase listPartnersUseCase() {
+        return new ListPartnersUseCase(partnerService);
+    }
+
+    @Bean
+    public SearchCustomersUseCase searchCustomersUseCase() {
+        return new SearchCustomersUseCase(customerSearchService, customerService);
+    }
+
+    @Bean
+    public SearchEventsUseCase searchEventsUseCase() {
+        return new SearchEventsUseCase(eventSearchService);
     }
 
     @Bean
@@ -0,0 +1,78 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.interceptors.BulkheadInterceptor;
+import br.com.fullcycle.hexagonal.infrastructure.interceptors.ConcurrencyLimitInterceptor;
+import br.com.fullcycle.hexagonal.infrastructure.interceptors.RateLimitInterceptor;
+import br.com.fullcycle.hexagonal.infrastructure.interceptors.RouteLatencyInterceptor;
+import br.com.fullcycle.hexagonal.infrastructure.interceptors.StatementScopeInterceptor;
+import br.com.fullcycle.hexagonal.infrastructure.interceptors.WaitingRoomInterceptor;
+import br.com.fullcycle.hexagonal.infrastructure.observability.RouteLatencyRecorder;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import br.com.fullcycle.hexagonal.infrastructure.services.WaitingRoomService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Objects;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private static final String[] API_PATHS = {"/customers/**", "/partners/**", "/events/**", "/analytics/**", "/graphql"};
+    private static final String[] CONTROLLER_PATHS = {"/customers/**", "/partners/**", "/events/**", "/analytics/**"};
+
+    private final WaitingRoomService waitingRoomService;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ObjectProvider<BulkheadInterceptor> bulkheadInterceptor;
+    private final ObjectProvider<RateLimitInterceptor> rateLimitInterceptor;
+    private final RouteLatencyRecorder routeLatencyRecorder;
+    private final StatementScopeInterceptor statementScopeInterceptor;
+    private final long retryAfterSeconds;
+
+    public WebConfig(
+            final WaitingRoomService waitingRoomService,
+            final AdaptiveConcurrencyLimiter concurrencyLimiter,
+            final ObjectProvider<BulkheadInterceptor> bulkheadInterceptor,
+            final ObjectProvider<RateLimitInterceptor> rateLimitInterceptor,
+            final RouteLatencyRecorder routeLatencyRecorder,
+            final StatementScopeInterceptor statementScopeInterceptor,
+            @Value("${concurrency-limit.retry-after-seconds:1}") final long retryAfterSeconds
+    ) {
+        this.waitingRoomService = Objects.requireNonNull(waitingRoomService);
+        this.concurrencyLimiter = Objects.requireNonNull(concurrencyLimiter);
+        this.bulkheadInterceptor = Objects.requireNonNull(bulkheadInterceptor);
+        this.rateLimitInterceptor = Objects.requireNonNull(rateLimitInterceptor);
+        this.routeLatencyRecorder = Objects.requireNonNull(routeLatencyRecorder);
+        this.statementScopeInterceptor = Objects.requireNonNull(statementScopeInterceptor);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Registrado primeiro para medir o tempo total, inclusive de pedidos recusados pelos interceptors seguintes.
+        // O GraphQL é medido por campo raiz em RouteLatencyInstrumentation.
+        registry.addInterceptor(new RouteLatencyInterceptor(routeLatencyRecorder))
+                .addPathPatterns(CONTROLLER_PATHS);
+
+        registry.addInterceptor(statementScopeInterceptor)
+                .addPathPatterns(API_PATHS);
+
+        // Clientes abusivos são barrados primeiro, antes de entrar na fila ou ocupar qualquer vaga
+        rateLimitInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns(API_PATHS));
+
+        registry.addInterceptor(new WaitingRoomInterceptor(waitingRoomService))
+                .addPathPatterns("/events/*/subscribe");
+
+        // O bulkhead vem antes do limite global: uma classe saturada é recusada sem ocupar vagas das demais
+        bulkheadInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns(API_PATHS)
+                .excludePathPatterns("/events/*/queue"));
+
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(concurrencyLimiter, retryAfterSeconds))
+                .addPathPatterns(API_PATHS)
+                .excludePathPatterns("/events/*/queue");
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.fullcycle.hexagonal.infrastructure.controllers;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.usecases.GetSalesAnalyticsUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Objects;
+
+// Adapter
+@RestController
+@RequestMapping(value = "analytics")
+public class AnalyticsController {
+
+    private final GetSalesAnalyticsUseCase getSalesAnalyticsUseCase;
+
+    public AnalyticsController(final GetSalesAnalyticsUseCase getSalesAnalyticsUseCase) {
+        this.getSalesAnalyticsUseCase = Objects.requireNonNull(getSalesAnalyticsUseCase);
+    }
+
+    @GetMapping("/sales")
+    public ResponseEntity<?> sales(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(required = false) Long partnerId,
+            @RequestParam(required = false) Long eventId
+    ) {
+        try {
+            return ResponseEntity.ok(getSalesAnalyticsUseCase.execute(new GetSalesAnalyticsUseCase.Input(from, to, partnerId, eventId)));
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.fullcycle.hexagonal.infrastructure.controllers;
+
+import br.com.fullcycle.hexagonal.application.usecases.GetEventAvailabilityUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.configurations.StreamingProperties;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventAvailabilityService;
+import br.com.fullcycle.hexagonal.infrastructure.streaming.AvailabilityBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+// Adapter
+// Disponibilidade ao vivo via Server-Sent Events: o estado atual na conexão e, depois, no máximo um
+// envio por intervalo quando o evento muda. Os envios saem do pool do difusor, nunca da thread da
+// requisição; um cliente que trava o envio perde a assinatura e tem a conexão encerrada com erro, o que
+// libera a thread presa no envio. O EventSource do navegador reconecta sozinho.
+@RestController
+@RequestMapping(value = "events/{id}/availability/stream")
+public class AvailabilityStreamController {
+
+    private final EventAvailabilityService eventAvailabilityService;
+    private final AvailabilityBroadcaster availabilityBroadcaster;
+    private final long timeoutMillis;
+
+    public AvailabilityStreamController(
+            final EventAvailabilityService eventAvailabilityService,
+            final AvailabilityBroadcaster availabilityBroadcaster,
+            final StreamingProperties properties
+    ) {
+        this.eventAvailabilityService = Objects.requireNonNull(eventAvailabilityService);
+        this.availabilityBroadcaster = Objects.requireNonNull(availabilityBroadcaster);
+        this.timeoutMillis = properties.timeout().toMillis();
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> stream(@PathVariable Long id) {
+        final var current = eventAvailabilityService.findByEventId(id);
+        if (current.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        final var emitter = new SseEmitter(timeoutMillis);
+        final var unsubscribe = availabilityBroadcaster.subscribe(current.get(), availability -> {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("availability")
+                        .id(Long.toString(availability.version()))
+                        .data(GetEventAvailabilityUseCase.Output.of(availability), MediaType.APPLICATION_JSON));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, () -> emitter.completeWithError(new TimeoutException("Availability send timed out")));
+
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(ex -> unsubscribe.run());
+
+        return ResponseEntity.ok(emitter);
+    }
+}
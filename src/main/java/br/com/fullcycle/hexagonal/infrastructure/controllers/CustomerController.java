@@ -3,6 +3,9 @@ package br.com.fullcycle.hexagonal.infrastructure.controllers;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.usecases.CreateCustomerUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.GetCustomerByIdUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.GetCustomerTicketHistoryUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ListCustomersUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.SearchCustomersUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewCustomerDTO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -17,13 +20,22 @@ public class CustomerController {
 
     private final CreateCustomerUseCase createCustomerUseCase;
     private final GetCustomerByIdUseCase getCustomerByIdUseCase;
+    private final GetCustomerTicketHistoryUseCase getCustomerTicketHistoryUseCase;
+    private final ListCustomersUseCase listCustomersUseCase;
+    private final SearchCustomersUseCase searchCustomersUseCase;
 
     public CustomerController(
             final CreateCustomerUseCase createCustomerUseCase,
-            final GetCustomerByIdUseCase getCustomerByIdUseCase
+            final GetCustomerByIdUseCase getCustomerByIdUseCase,
+            final GetCustomerTicketHistoryUseCase getCustomerTicketHistoryUseCase,
+            final ListCustomersUseCase listCustomersUseCase,
+            final SearchCustomersUseCase searchCustomersUseCase
     ) {
         this.createCustomerUseCase = Objects.requireNonNull(createCustomerUseCase);
         this.getCustomerByIdUseCase = Objects.requireNonNull(getCustomerByIdUseCase);
+        this.getCustomerTicketHistoryUseCase = Objects.requireNonNull(getCustomerTicketHistoryUseCase);
+        this.listCustomersUseCase = Objects.requireNonNull(listCustomersUseCase);
+        this.searchCustomersUseCase = Objects.requireNonNull(searchCustomersUseCase);
     }
 
     @PostMapping
@@ -38,10 +50,42 @@ public class CustomerController {
         }
     }
 
+    @GetMapping
+    public ResponseEntity<?> list(@RequestParam(required = false) String after, @RequestParam(required = false) Integer first) {
+        try {
+            return ResponseEntity.ok(listCustomersUseCase.execute(new ListCustomersUseCase.Input(after, first)));
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> search(@RequestParam(required = false) String prefix, @RequestParam(required = false) Integer first) {
+        try {
+            return ResponseEntity.ok(searchCustomersUseCase.execute(new SearchCustomersUseCase.Input(prefix, first)));
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> get(@PathVariable String id) {
         return getCustomerByIdUseCase.execute(new GetCustomerByIdUseCase.Input(id))
                 .map(ResponseEntity::ok)
                 .orElseGet(ResponseEntity.notFound()::build);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{id}/tickets")
+    public ResponseEntity<?> tickets(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer first
+    ) {
+        try {
+            return ResponseEntity.ok(getCustomerTicketHistoryUseCase.execute(
+                    new GetCustomerTicketHistoryUseCase.Input(id, after, first)));
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+}
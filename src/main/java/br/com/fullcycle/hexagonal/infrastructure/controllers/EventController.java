@@ -1,15 +1,28 @@
 package br.com.fullcycle.hexagonal.infrastructure.controllers;
 
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.usecases.BulkCreateEventsUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.CancelTicketUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.CreateEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ExportEventAttendeesUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.GetEventAvailabilityUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ListEventsUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.SearchEventsUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.SubscribeCustomerToEventUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewEventDTO;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.SubscribeDTO;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.BulkheadRoutingDataSource;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.EndpointClass;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 import static org.springframework.http.HttpStatus.CREATED;
@@ -19,17 +32,90 @@ import static org.springframework.http.HttpStatus.CREATED;
 @RequestMapping(value = "events")
 public class EventController {
 
+    private final BulkCreateEventsUseCase bulkCreateEventsUseCase;
+    private final CancelTicketUseCase cancelTicketUseCase;
     private final CreateEventUseCase createEventUseCase;
+    private final ExportEventAttendeesUseCase exportEventAttendeesUseCase;
+    private final GetEventAvailabilityUseCase getEventAvailabilityUseCase;
+    private final ListEventsUseCase listEventsUseCase;
+    private final SearchEventsUseCase searchEventsUseCase;
     private final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
 
     public EventController(
+            final BulkCreateEventsUseCase bulkCreateEventsUseCase,
+            final CancelTicketUseCase cancelTicketUseCase,
             final CreateEventUseCase createEventUseCase,
+            final ExportEventAttendeesUseCase exportEventAttendeesUseCase,
+            final GetEventAvailabilityUseCase getEventAvailabilityUseCase,
+            final ListEventsUseCase listEventsUseCase,
+            final SearchEventsUseCase searchEventsUseCase,
             final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase
     ) {
+        this.bulkCreateEventsUseCase = Objects.requireNonNull(bulkCreateEventsUseCase);
+        this.cancelTicketUseCase = Objects.requireNonNull(cancelTicketUseCase);
         this.createEventUseCase = Objects.requireNonNull(createEventUseCase);
+        this.exportEventAttendeesUseCase = Objects.requireNonNull(exportEventAttendeesUseCase);
+        this.getEventAvailabilityUseCase = Objects.requireNonNull(getEventAvailabilityUseCase);
+        this.listEventsUseCase = Objects.requireNonNull(listEventsUseCase);
+        this.searchEventsUseCase = Objects.requireNonNull(searchEventsUseCase);
         this.subscribeCustomerToEventUseCase = Objects.requireNonNull(subscribeCustomerToEventUseCase);
     }
 
+    @GetMapping
+    public ResponseEntity<?> list(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer first,
+            @RequestParam(required = false) Long partnerId,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to
+    ) {
+        try {
+            return ResponseEntity.ok(listEventsUseCase.execute(new ListEventsUseCase.Input(after, first, partnerId, from, to)));
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+
+    @GetMapping(value = "/search")
+    public ResponseEntity<?> search(@RequestParam(required = false) String q, @RequestParam(required = false) Integer first) {
+        try {
+            return ResponseEntity.ok(searchEventsUseCase.execute(new SearchEventsUseCase.Input(q, first)));
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+
+    @GetMapping(value = "/{id}/availability")
+    public ResponseEntity<?> availability(@PathVariable Long id) {
+        return getEventAvailabilityUseCase.execute(new GetEventAvailabilityUseCase.Input(id))
+                .map(ResponseEntity::ok)
+                .orElseGet(ResponseEntity.notFound()::build);
+    }
+
+    @GetMapping(value = "/{id}/attendees")
+    public ResponseEntity<?> attendees(@PathVariable Long id, @RequestParam(required = false) String format) {
+        try {
+            final var output = exportEventAttendeesUseCase.execute(new ExportEventAttendeesUseCase.Input(id, format));
+            final var disposition = ContentDisposition.attachment().filename(output.fileName()).build();
+            // O streaming roda numa thread do executor assíncrono, fora do bind feito pelo interceptor
+            final StreamingResponseBody body = out -> {
+                BulkheadRoutingDataSource.bind(EndpointClass.EXPORTS);
+                try {
+                    output.export().writeTo(out);
+                } finally {
+                    BulkheadRoutingDataSource.clear();
+                }
+            };
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(output.contentType() + ";charset=UTF-8"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                    .body(body);
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+
     @PostMapping
     @ResponseStatus(CREATED)
     public ResponseEntity<?> create(@RequestBody NewEventDTO dto) {
@@ -41,6 +127,15 @@ public class EventController {
         }
     }
 
+    @PostMapping(value = "/bulk")
+    public ResponseEntity<?> createAll(@RequestBody List<NewEventDTO> dtos) {
+        final var inputs = dtos.stream()
+                .map(dto -> new CreateEventUseCase.Input(dto.date(), dto.name(), dto.partnerId(), dto.totalSpots()))
+                .toList();
+
+        return ResponseEntity.ok(bulkCreateEventsUseCase.execute(new BulkCreateEventsUseCase.Input(inputs)));
+    }
+
     @Transactional
     @PostMapping(value = "/{id}/subscribe")
     public ResponseEntity<?> subscribe(@PathVariable Long id, @RequestBody SubscribeDTO dto) {
@@ -52,4 +147,13 @@ public class EventController {
             return ResponseEntity.unprocessableEntity().body(ex.getMessage());
         }
     }
+
+    @PostMapping(value = "/{id}/cancel")
+    public ResponseEntity<?> cancel(@PathVariable Long id, @RequestBody SubscribeDTO dto) {
+        try {
+            return ResponseEntity.ok(cancelTicketUseCase.execute(new CancelTicketUseCase.Input(id, dto.customerId())));
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
 }
@@ -1,28 +1,41 @@
 package br.com.fullcycle.hexagonal.infrastructure.controllers;
 
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.usecases.BulkCreatePartnersUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.CreatePartnerUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.GetPartnerByIdUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.GetPartnerSalesDashboardUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ListPartnersUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewPartnerDTO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
 @RequestMapping(value = "partners")
 public class PartnerController {
 
+    private final BulkCreatePartnersUseCase bulkCreatePartnersUseCase;
     private final CreatePartnerUseCase createPartnerUseCase;
     private final GetPartnerByIdUseCase getPartnerByIdUseCase;
+    private final GetPartnerSalesDashboardUseCase getPartnerSalesDashboardUseCase;
+    private final ListPartnersUseCase listPartnersUseCase;
 
     public PartnerController(
+            final BulkCreatePartnersUseCase bulkCreatePartnersUseCase,
             final CreatePartnerUseCase createPartnerUseCase,
-            final GetPartnerByIdUseCase getPartnerByIdUseCase
+            final GetPartnerByIdUseCase getPartnerByIdUseCase,
+            final GetPartnerSalesDashboardUseCase getPartnerSalesDashboardUseCase,
+            final ListPartnersUseCase listPartnersUseCase
     ) {
+        this.bulkCreatePartnersUseCase = Objects.requireNonNull(bulkCreatePartnersUseCase);
         this.createPartnerUseCase = Objects.requireNonNull(createPartnerUseCase);
         this.getPartnerByIdUseCase = Objects.requireNonNull(getPartnerByIdUseCase);
+        this.getPartnerSalesDashboardUseCase = Objects.requireNonNull(getPartnerSalesDashboardUseCase);
+        this.listPartnersUseCase = Objects.requireNonNull(listPartnersUseCase);
     }
 
     @PostMapping
@@ -40,6 +53,24 @@ public class PartnerController {
         }
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createAll(@RequestBody List<NewPartnerDTO> dtos) {
+        final var inputs = dtos.stream()
+                .map(dto -> new CreatePartnerUseCase.Input(dto.cnpj(), dto.email(), dto.name()))
+                .toList();
+
+        return ResponseEntity.ok(bulkCreatePartnersUseCase.execute(new BulkCreatePartnersUseCase.Input(inputs)));
+    }
+
+    @GetMapping
+    public ResponseEntity<?> list(@RequestParam(required = false) String after, @RequestParam(required = false) Integer first) {
+        try {
+            return ResponseEntity.ok(listPartnersUseCase.execute(new ListPartnersUseCase.Input(after, first)));
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> get(@PathVariable String id) {
         return getPartnerByIdUseCase.execute(new GetPartnerByIdUseCase.Input(id))
@@ -47,4 +78,12 @@ public class PartnerController {
                 .orElseGet(ResponseEntity.notFound()::build);
     }
 
+    @GetMapping("/{id}/sales")
+    public ResponseEntity<?> sales(@PathVariable Long id, @RequestParam(required = false) Integer minutes) {
+        try {
+            return ResponseEntity.ok(getPartnerSalesDashboardUseCase.execute(new GetPartnerSalesDashboardUseCase.Input(id, minutes)));
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
 }
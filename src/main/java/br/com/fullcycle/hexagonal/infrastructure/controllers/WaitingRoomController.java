@@ -0,0 +1,32 @@
+package br.com.fullcycle.hexagonal.infrastructure.controllers;
+
+import br.com.fullcycle.hexagonal.infrastructure.services.WaitingRoomService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Objects;
+
+@RestController
+@RequestMapping(value = "events/{id}/queue")
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    public WaitingRoomController(final WaitingRoomService waitingRoomService) {
+        this.waitingRoomService = Objects.requireNonNull(waitingRoomService);
+    }
+
+    @PostMapping
+    public ResponseEntity<?> join(@PathVariable Long id) {
+        return waitingRoomService.join(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(ResponseEntity.notFound()::build);
+    }
+
+    @GetMapping
+    public ResponseEntity<?> poll(@PathVariable Long id, @RequestParam String token) {
+        return waitingRoomService.poll(id, token)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.unprocessableEntity().body("Invalid queue token"));
+    }
+}
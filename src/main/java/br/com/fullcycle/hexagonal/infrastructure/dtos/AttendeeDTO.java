@@ -0,0 +1,14 @@
+package br.com.fullcycle.hexagonal.infrastructure.dtos;
+
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+
+import java.time.Instant;
+
+public record AttendeeDTO(
+        Long ticketId,
+        String customerName,
+        String customerEmail,
+        TicketStatus status,
+        Instant reservedAt
+) {
+}
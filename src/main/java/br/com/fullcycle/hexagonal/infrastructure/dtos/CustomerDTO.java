@@ -0,0 +1,4 @@
+package br.com.fullcycle.hexagonal.infrastructure.dtos;
+
+public record CustomerDTO(Long id, String name, String cpf, String email) {
+}
@@ -0,0 +1,6 @@
+package br.com.fullcycle.hexagonal.infrastructure.dtos;
+
+import java.time.LocalDate;
+
+public record DailySalesDTO(LocalDate day, Long partnerId, Long eventId, long reservations) {
+}
@@ -0,0 +1,18 @@
+package br.com.fullcycle.hexagonal.infrastructure.dtos;
+
+import br.com.fullcycle.hexagonal.infrastructure.models.AvailabilityStatus;
+
+public record EventAvailabilityDTO(
+        Long eventId,
+        Long partnerId,
+        int totalSpots,
+        int sold,
+        int held,
+        AvailabilityStatus status,
+        long version
+) {
+
+    public int remaining() {
+        return Math.max(0, totalSpots - sold - held);
+    }
+}
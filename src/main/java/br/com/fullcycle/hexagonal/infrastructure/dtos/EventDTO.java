@@ -0,0 +1,6 @@
+package br.com.fullcycle.hexagonal.infrastructure.dtos;
+
+import java.time.LocalDate;
+
+public record EventDTO(Long id, String name, LocalDate date, int totalSpots, Long partnerId) {
+}
@@ -0,0 +1,4 @@
+package br.com.fullcycle.hexagonal.infrastructure.dtos;
+
+public record PartnerDTO(Long id, String name, String cnpj, String email) {
+}
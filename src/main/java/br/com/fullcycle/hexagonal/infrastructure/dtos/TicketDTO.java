@@ -0,0 +1,15 @@
+package br.com.fullcycle.hexagonal.infrastructure.dtos;
+
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+
+import java.time.Instant;
+
+public record TicketDTO(
+        Long id,
+        Long eventId,
+        Long customerId,
+        TicketStatus status,
+        Instant reservedAt,
+        Instant paidAt
+) {
+}
@@ -0,0 +1,16 @@
+package br.com.fullcycle.hexagonal.infrastructure.dtos;
+
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record TicketHistoryDTO(
+        Long ticketId,
+        Long eventId,
+        String eventName,
+        LocalDate eventDate,
+        TicketStatus status,
+        Instant reservedAt
+) {
+}
@@ -0,0 +1,6 @@
+package br.com.fullcycle.hexagonal.infrastructure.dtos;
+
+import java.time.Instant;
+
+public record TicketRollupDTO(Long id, Long partnerId, Long eventId, Instant reservedAt) {
+}
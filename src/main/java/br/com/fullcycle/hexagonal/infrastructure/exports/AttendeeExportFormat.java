@@ -0,0 +1,114 @@
+package br.com.fullcycle.hexagonal.infrastructure.exports;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.AttendeeDTO;
+
+import java.util.Locale;
+import java.util.Optional;
+
+// Formatos da lista de presença. Cada linha é escrita à medida que sai do banco, sem montar o documento inteiro.
+public enum AttendeeExportFormat {
+
+    CSV("text/csv", "csv") {
+        @Override
+        public String header() {
+            return "ticket_id,customer_name,customer_email,status,reserved_at\n";
+        }
+
+        @Override
+        public String line(final AttendeeDTO attendee) {
+            return attendee.ticketId() + ","
+                    + csv(attendee.customerName()) + ","
+                    + csv(attendee.customerEmail()) + ","
+                    + attendee.status() + ","
+                    + (attendee.reservedAt() != null ? attendee.reservedAt() : "") + "\n";
+        }
+    },
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public String header() {
+            return "";
+        }
+
+        @Override
+        public String line(final AttendeeDTO attendee) {
+            return "{\"ticketId\":" + attendee.ticketId()
+                    + ",\"customerName\":" + json(attendee.customerName())
+                    + ",\"customerEmail\":" + json(attendee.customerEmail())
+                    + ",\"status\":" + json(attendee.status() != null ? attendee.status().name() : null)
+                    + ",\"reservedAt\":" + json(attendee.reservedAt() != null ? attendee.reservedAt().toString() : null)
+                    + "}\n";
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    AttendeeExportFormat(final String contentType, final String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static Optional<AttendeeExportFormat> of(final String name) {
+        if (name == null) {
+            return Optional.of(CSV);
+        }
+
+        try {
+            return Optional.of(valueOf(name.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public abstract String header();
+
+    public abstract String line(AttendeeDTO attendee);
+
+    private static String csv(final String value) {
+        if (value == null) {
+            return "";
+        }
+
+        // Campos iniciados por =, +, - ou @ são prefixados para não virarem fórmulas na planilha
+        final var safe = !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.indexOf(',') < 0 && safe.indexOf('"') < 0 && safe.indexOf('\n') < 0 && safe.indexOf('\r') < 0) {
+            return safe;
+        }
+        return '"' + safe.replace("\"", "\"\"") + '"';
+    }
+
+    private static String json(final String value) {
+        if (value == null) {
+            return "null";
+        }
+
+        final var json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+}
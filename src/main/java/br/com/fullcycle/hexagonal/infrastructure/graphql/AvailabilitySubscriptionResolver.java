@@ -0,0 +1,43 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import br.com.fullcycle.hexagonal.application.usecases.GetEventAvailabilityUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventAvailabilityService;
+import br.com.fullcycle.hexagonal.infrastructure.streaming.AvailabilityBroadcaster;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+// Adapter
+// Mesma difusão do stream SSE, exposta como subscription GraphQL (transporte WebSocket em /graphql)
+@Controller
+public class AvailabilitySubscriptionResolver {
+
+    private final EventAvailabilityService eventAvailabilityService;
+    private final AvailabilityBroadcaster availabilityBroadcaster;
+
+    public AvailabilitySubscriptionResolver(
+            final EventAvailabilityService eventAvailabilityService,
+            final AvailabilityBroadcaster availabilityBroadcaster
+    ) {
+        this.eventAvailabilityService = Objects.requireNonNull(eventAvailabilityService);
+        this.availabilityBroadcaster = Objects.requireNonNull(availabilityBroadcaster);
+    }
+
+    @SubscriptionMapping
+    public Flux<GetEventAvailabilityUseCase.Output> eventAvailability(@Argument Long eventId) {
+        return eventAvailabilityService.findByEventId(eventId)
+                .map(current -> Flux.<GetEventAvailabilityUseCase.Output>create(sink -> {
+                    final var unsubscribe = availabilityBroadcaster.subscribe(current,
+                            availability -> sink.next(GetEventAvailabilityUseCase.Output.of(availability)),
+                            () -> sink.error(new TimeoutException("Availability send timed out")));
+                    sink.onDispose(unsubscribe::run);
+                }))
+                // Cliente que não acompanha recebe só o estado mais recente
+                .map(Flux::onBackpressureLatest)
+                .orElseGet(Flux::empty);
+    }
+}
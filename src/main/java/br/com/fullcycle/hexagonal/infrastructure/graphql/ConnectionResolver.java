@@ -0,0 +1,60 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import br.com.fullcycle.hexagonal.application.usecases.ListCustomersUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ListEventTicketsUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ListEventsUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.ListPartnersUseCase;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.Objects;
+
+// Adapter
+// Listagens no formato de connections do Relay (edges/node/pageInfo), com os mesmos cursores da API REST
+@Controller
+public class ConnectionResolver {
+
+    private final ListCustomersUseCase listCustomersUseCase;
+    private final ListEventTicketsUseCase listEventTicketsUseCase;
+    private final ListEventsUseCase listEventsUseCase;
+    private final ListPartnersUseCase listPartnersUseCase;
+
+    public ConnectionResolver(
+            final ListCustomersUseCase listCustomersUseCase,
+            final ListEventTicketsUseCase listEventTicketsUseCase,
+            final ListEventsUseCase listEventsUseCase,
+            final ListPartnersUseCase listPartnersUseCase
+    ) {
+        this.listCustomersUseCase = Objects.requireNonNull(listCustomersUseCase);
+        this.listEventTicketsUseCase = Objects.requireNonNull(listEventTicketsUseCase);
+        this.listEventsUseCase = Objects.requireNonNull(listEventsUseCase);
+        this.listPartnersUseCase = Objects.requireNonNull(listPartnersUseCase);
+    }
+
+    @QueryMapping
+    public ListCustomersUseCase.Output customers(@Argument Integer first, @Argument String after) {
+        return listCustomersUseCase.execute(new ListCustomersUseCase.Input(after, first));
+    }
+
+    @QueryMapping
+    public ListPartnersUseCase.Output partners(@Argument Integer first, @Argument String after) {
+        return listPartnersUseCase.execute(new ListPartnersUseCase.Input(after, first));
+    }
+
+    @QueryMapping
+    public ListEventsUseCase.Output events(
+            @Argument Integer first,
+            @Argument String after,
+            @Argument Long partnerId,
+            @Argument String from,
+            @Argument String to
+    ) {
+        return listEventsUseCase.execute(new ListEventsUseCase.Input(after, first, partnerId, from, to));
+    }
+
+    @QueryMapping
+    public ListEventTicketsUseCase.Output ticketsOfEvent(@Argument Long eventId, @Argument Integer first, @Argument String after) {
+        return listEventTicketsUseCase.execute(new ListEventTicketsUseCase.Input(eventId, after, first));
+    }
+}
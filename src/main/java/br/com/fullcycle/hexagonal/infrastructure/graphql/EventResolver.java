@@ -0,0 +1,96 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.CustomerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.PartnerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.CustomerService;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
+import br.com.fullcycle.hexagonal.infrastructure.services.PartnerService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Adapter
+// Os campos aninhados são resolvidos com @BatchMapping (DataLoader): cada nível da consulta executa
+// um único SELECT para todos os itens, evitando o N+1. Event.tickets traz no máximo maxTicketsPerEvent
+// ingressos por evento; a lista completa de um evento é paginada em ticketsOfEvent (ConnectionResolver).
+@Controller
+public class EventResolver {
+
+    private final CustomerService customerService;
+    private final EventService eventService;
+    private final PartnerService partnerService;
+    private final int maxTicketsPerEvent;
+
+    public EventResolver(
+            final CustomerService customerService,
+            final EventService eventService,
+            final PartnerService partnerService,
+            @Value("${graphql.event-tickets.max:100}") final int maxTicketsPerEvent
+    ) {
+        this.customerService = Objects.requireNonNull(customerService);
+        this.eventService = Objects.requireNonNull(eventService);
+        this.partnerService = Objects.requireNonNull(partnerService);
+        this.maxTicketsPerEvent = maxTicketsPerEvent;
+    }
+
+    @QueryMapping
+    public EventDTO eventOfId(@Argument Long id) {
+        return eventService.findEventsByIds(List.of(id)).stream().findFirst().orElse(null);
+    }
+
+    @BatchMapping(typeName = "Event")
+    public Map<EventDTO, PartnerDTO> partner(final List<EventDTO> events) {
+        final var partners = new HashMap<Long, PartnerDTO>();
+        partnerService.findAllById(ids(events, EventDTO::partnerId))
+                .forEach(p -> partners.put(p.getId(), new PartnerDTO(p.getId(), p.getName(), p.getCnpj(), p.getEmail())));
+
+        return associate(events, e -> partners.get(e.partnerId()));
+    }
+
+    @BatchMapping(typeName = "Event")
+    public Map<EventDTO, List<TicketDTO>> tickets(final List<EventDTO> events) {
+        final var tickets = eventService.findFirstTicketsByEventIds(ids(events, EventDTO::id), maxTicketsPerEvent).stream()
+                .collect(Collectors.groupingBy(TicketDTO::eventId));
+
+        return associate(events, e -> tickets.getOrDefault(e.id(), List.of()));
+    }
+
+    @BatchMapping(typeName = "Ticket")
+    public Map<TicketDTO, EventDTO> event(final List<TicketDTO> tickets) {
+        final var events = eventService.findEventsByIds(ids(tickets, TicketDTO::eventId)).stream()
+                .collect(Collectors.toMap(EventDTO::id, Function.identity()));
+
+        return associate(tickets, t -> events.get(t.eventId()));
+    }
+
+    @BatchMapping(typeName = "Ticket")
+    public Map<TicketDTO, CustomerDTO> customer(final List<TicketDTO> tickets) {
+        final var customers = new HashMap<Long, CustomerDTO>();
+        customerService.findAllById(ids(tickets, TicketDTO::customerId))
+                .forEach(c -> customers.put(c.getId(), new CustomerDTO(c.getId(), c.getName(), c.getCpf(), c.getEmail())));
+
+        return associate(tickets, t -> customers.get(t.customerId()));
+    }
+
+    private static <T> Set<Long> ids(final List<T> sources, final Function<T, Long> id) {
+        return sources.stream().map(id).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static <K, V> Map<K, V> associate(final List<K> sources, final Function<K, V> value) {
+        final var result = new HashMap<K, V>(sources.size());
+        sources.forEach(source -> result.put(source, value.apply(source)));
+        return result;
+    }
+}
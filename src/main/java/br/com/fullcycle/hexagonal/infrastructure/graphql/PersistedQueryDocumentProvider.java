@@ -0,0 +1,127 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+// Automatic Persisted Queries (protocolo do Apollo) + cache de documentos já parseados e validados.
+// Toda consulta é indexada pelo SHA-256 do texto, de modo que clientes APQ podem enviar apenas o hash
+// e requisições comuns com o mesmo texto também deixam de pagar parse/validate. O cache é o Caffeine,
+// limitado a maximumSize: leituras não travam nada, e a política por frequência (W-TinyLFU) mantém as
+// operações quentes mesmo sob uma rajada de consultas únicas.
+public class PersistedQueryDocumentProvider implements PreparsedDocumentProvider {
+
+    private static final String PERSISTED_QUERY = "persistedQuery";
+    private static final String SHA_256_HASH = "sha256Hash";
+
+    private final Cache<String, PreparsedDocumentEntry> documents;
+
+    public PersistedQueryDocumentProvider(final int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+
+        // A manutenção (despejo) roda na própria thread da requisição, amortizada: o pool comum não é usado
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    @Override
+    public PreparsedDocumentEntry getDocument(
+            final ExecutionInput executionInput,
+            final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+    ) {
+        final var query = executionInput.getQuery();
+        final var hasQuery = query != null && !query.isBlank() && !PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query);
+        final var hash = persistedQueryHash(executionInput);
+
+        if (hash == null) {
+            return hasQuery
+                    ? cached(sha256(query), executionInput, parseAndValidateFunction)
+                    : parseAndValidateFunction.apply(executionInput);
+        }
+
+        // Cliente enviou apenas o hash: só pode ser atendido se a consulta já estiver registrada
+        if (!hasQuery) {
+            final var entry = documents.getIfPresent(hash);
+            return entry != null ? entry : new PreparsedDocumentEntry(new PersistedQueryNotFound(hash));
+        }
+
+        if (!hash.equals(sha256(query))) {
+            return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                    .message("PersistedQueryIdInvalid")
+                    .build());
+        }
+
+        return cached(hash, executionInput, parseAndValidateFunction);
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            final ExecutionInput executionInput,
+            final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+    ) {
+        return CompletableFuture.completedFuture(getDocument(executionInput, parseAndValidateFunction));
+    }
+
+    public int size() {
+        documents.cleanUp();
+        return (int) documents.estimatedSize();
+    }
+
+    private PreparsedDocumentEntry cached(
+            final String hash,
+            final ExecutionInput executionInput,
+            final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+    ) {
+        final var cached = documents.getIfPresent(hash);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var entry = parseAndValidateFunction.apply(executionInput);
+
+        // Documentos inválidos não são armazenados para que um cliente não consiga encher o cache com lixo
+        if (!entry.hasErrors()) {
+            documents.asMap().putIfAbsent(hash, entry);
+        }
+
+        return entry;
+    }
+
+    private static String persistedQueryHash(final ExecutionInput executionInput) {
+        final var extensions = executionInput.getExtensions();
+        if (extensions == null || !(extensions.get(PERSISTED_QUERY) instanceof Map<?, ?> persistedQuery)) {
+            return null;
+        }
+
+        return persistedQuery.get(SHA_256_HASH) instanceof String hash && !hash.isBlank()
+                ? hash.toLowerCase(Locale.ROOT)
+                : null;
+    }
+
+    private static String sha256(final String query) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
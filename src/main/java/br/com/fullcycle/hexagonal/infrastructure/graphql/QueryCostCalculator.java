@@ -0,0 +1,40 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.schema.GraphQLTypeUtil;
+
+import java.util.Map;
+import java.util.Objects;
+
+// Custo estático de uma consulta: cada campo custa o seu peso (padrão 1, configurável por "Tipo.campo")
+// e campos de lista multiplicam o custo dos filhos, já que serão resolvidos uma vez por elemento.
+public class QueryCostCalculator implements FieldComplexityCalculator {
+
+    private static final int DEFAULT_WEIGHT = 1;
+
+    private final Map<String, Integer> weights;
+    private final int listFactor;
+
+    public QueryCostCalculator(final Map<String, Integer> weights, final int listFactor) {
+        this.weights = Map.copyOf(Objects.requireNonNull(weights));
+        this.listFactor = listFactor;
+    }
+
+    @Override
+    public int calculate(final FieldComplexityEnvironment environment, final int childComplexity) {
+        final var fieldName = environment.getField().getName();
+
+        // Introspecção (GraphiQL, clientes gerando tipos) não disputa o pool do banco
+        if (fieldName.startsWith("__")) {
+            return 0;
+        }
+
+        final var coordinate = environment.getParentType().getName() + "." + fieldName;
+        final var weight = weights.getOrDefault(coordinate, DEFAULT_WEIGHT);
+        final var type = GraphQLTypeUtil.unwrapNonNull(environment.getFieldDefinition().getType());
+        final var multiplier = GraphQLTypeUtil.isList(type) ? listFactor : 1;
+
+        return weight + multiplier * childComplexity;
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import br.com.fullcycle.hexagonal.infrastructure.observability.RouteLatencyRecorder;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+// Para o GraphQL, a "rota" é o campo raiz (Query.x / Mutation.y): todos chegam pelo mesmo POST /graphql.
+// Campos aninhados não são medidos aqui, o custo por resolver já aparece em graphql.datafetcher.
+public class RouteLatencyInstrumentation extends SimplePerformantInstrumentation {
+
+    private final RouteLatencyRecorder recorder;
+
+    public RouteLatencyInstrumentation(final RouteLatencyRecorder recorder) {
+        this.recorder = Objects.requireNonNull(recorder);
+    }
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(
+            final DataFetcher<?> dataFetcher,
+            final InstrumentationFieldFetchParameters parameters,
+            final InstrumentationState state
+    ) {
+        final var stepInfo = parameters.getExecutionStepInfo();
+        if (stepInfo.getPath().getLevel() != 1) {
+            return dataFetcher;
+        }
+
+        final var route = "graphql " + stepInfo.getObjectType().getName() + "." + stepInfo.getFieldDefinition().getName();
+
+        return environment -> {
+            final var start = System.nanoTime();
+            final Object result;
+            try {
+                result = dataFetcher.get(environment);
+            } catch (Exception ex) {
+                recorder.record(route, System.nanoTime() - start);
+                throw ex;
+            }
+
+            if (result instanceof CompletionStage<?> stage) {
+                return stage.whenComplete((value, error) -> recorder.record(route, System.nanoTime() - start));
+            }
+
+            recorder.record(route, System.nanoTime() - start);
+            return result;
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.fullcycle.hexagonal.infrastructure.interceptors;
+
+import br.com.fullcycle.hexagonal.infrastructure.resilience.Bulkhead;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.BulkheadRoutingDataSource;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.EndpointClass;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// Classifica a requisição (leituras, exportações, criações, subscribe, GraphQL), reserva uma vaga no
+// bulkhead da classe e associa a thread ao pool de conexões correspondente.
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String BULKHEAD = BulkheadInterceptor.class.getName() + ".BULKHEAD";
+
+    private final Map<EndpointClass, Bulkhead> bulkheads;
+    private final String retryAfterSeconds;
+
+    public BulkheadInterceptor(final Map<EndpointClass, Bulkhead> bulkheads, final long retryAfterSeconds) {
+        this.bulkheads = new EnumMap<>(bulkheads);
+        this.retryAfterSeconds = Long.toString(retryAfterSeconds);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        final var endpointClass = classify(request);
+        final var bulkhead = bulkheads.get(endpointClass);
+
+        // No dispatch assíncrono a resposta pode já ter sido enviada; não há mais como recusar com 503
+        if (bulkhead != null && request.getDispatcherType() != DispatcherType.ASYNC) {
+            if (!bulkhead.tryAcquire()) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Bulkhead " + endpointClass + " is full");
+                return false;
+            }
+            request.setAttribute(BULKHEAD, bulkhead);
+        }
+
+        BulkheadRoutingDataSource.bind(endpointClass);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // O processamento continua em outra thread; a vaga é liberada aqui e o dispatch assíncrono
+        // apenas reassocia a thread ao pool da classe. Exportações seguram a vaga até o fim do dispatch
+        // assíncrono, já que o streaming é que ocupa a conexão por minutos
+        if (request.getAttribute(BULKHEAD) instanceof Bulkhead bulkhead
+                && bulkhead.endpointClass() == EndpointClass.EXPORTS) {
+            BulkheadRoutingDataSource.clear();
+            return;
+        }
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        release(request);
+    }
+
+    private static void release(final HttpServletRequest request) {
+        BulkheadRoutingDataSource.clear();
+
+        if (request.getAttribute(BULKHEAD) instanceof Bulkhead bulkhead) {
+            request.removeAttribute(BULKHEAD);
+            bulkhead.release();
+        }
+    }
+
+    static EndpointClass classify(final HttpServletRequest request) {
+        final var path = request.getRequestURI().substring(request.getContextPath().length());
+
+        if (path.startsWith("/graphql")) {
+            return EndpointClass.GRAPHQL;
+        }
+
+        if ("GET".equals(request.getMethod())) {
+            return path.endsWith("/attendees") ? EndpointClass.EXPORTS : EndpointClass.READS;
+        }
+
+        if (path.endsWith("/subscribe")) {
+            return EndpointClass.SUBSCRIBE;
+        }
+
+        return EndpointClass.CREATES;
+    }
+}
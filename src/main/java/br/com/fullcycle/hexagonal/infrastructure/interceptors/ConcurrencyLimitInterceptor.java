@@ -0,0 +1,60 @@
+package br.com.fullcycle.hexagonal.infrastructure.interceptors;
+
+import br.com.fullcycle.hexagonal.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Objects;
+
+// Envolve a execução dos controllers (e, portanto, dos casos de uso) com o limite adaptativo.
+// Excesso de carga recebe 503 com Retry-After na hora, sem ocupar thread esperando conexão.
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String STARTED_AT = ConcurrencyLimitInterceptor.class.getName() + ".STARTED_AT";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitInterceptor(final AdaptiveConcurrencyLimiter limiter, final long retryAfterSeconds) {
+        this.limiter = Objects.requireNonNull(limiter);
+        this.retryAfterSeconds = Long.toString(retryAfterSeconds);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        // O dispatch assíncrono só finaliza uma resposta que já foi admitida (e possivelmente já enviada)
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        if (!limiter.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), "Server overloaded");
+            return false;
+        }
+
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Respostas em streaming liberam a vaga ao sair do controller; a duração da transferência
+        // depende do cliente e distorceria a latência usada pelo limite adaptativo
+        if (request.getAttribute(STARTED_AT) instanceof Long startedAt) {
+            request.removeAttribute(STARTED_AT);
+            limiter.release(System.nanoTime() - startedAt);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(STARTED_AT) instanceof Long startedAt) {
+            limiter.release(System.nanoTime() - startedAt);
+        }
+    }
+}
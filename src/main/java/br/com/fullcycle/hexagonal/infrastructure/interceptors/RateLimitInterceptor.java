@@ -0,0 +1,81 @@
+package br.com.fullcycle.hexagonal.infrastructure.interceptors;
+
+import br.com.fullcycle.hexagonal.infrastructure.configurations.RateLimitProperties;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.RateLimiter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Limita cada cliente por rota, antes de qualquer outro trabalho. O cliente é o endereço remoto, já resolvido
+// pelo Tomcat a partir do X-Forwarded-For quando o pedido vem de um proxy confiável; só uma
+// API key cadastrada em rate-limit.api-keys vira a chave, senão bastaria trocar o header a cada pedido
+// para ganhar um bucket novo.
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String API_KEY_HEADER = "X-API-Key";
+
+    private final RateLimiter rateLimiter;
+    private final List<CompiledRule> rules;
+    private final Set<String> apiKeys;
+
+    public RateLimitInterceptor(
+            final RateLimiter rateLimiter,
+            final List<RateLimitProperties.Rule> rules,
+            final Set<String> apiKeys
+    ) {
+        this.rateLimiter = Objects.requireNonNull(rateLimiter);
+        this.apiKeys = Set.copyOf(apiKeys);
+        this.rules = rules.stream()
+                .map(rule -> new CompiledRule(rule, PathPatternParser.defaultInstance.parse(rule.pattern())))
+                .toList();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        // A cota já foi consumida no dispatch original da requisição
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        final var path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+
+        for (int i = 0; i < rules.size(); i++) {
+            final var rule = rules.get(i);
+            if (!rule.matches(request.getMethod(), path)) {
+                continue;
+            }
+
+            final var wait = rateLimiter.tryAcquire(i + ":" + clientOf(request), rule.rule().permitsPerSecond(), rule.rule().burst());
+            if (wait > 0) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait) + 1)));
+                response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded");
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String clientOf(final HttpServletRequest request) {
+        final var apiKey = request.getHeader(API_KEY_HEADER);
+        return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+
+    private record CompiledRule(RateLimitProperties.Rule rule, PathPattern pattern) {
+
+        boolean matches(final String method, final PathContainer path) {
+            return (rule.method() == null || rule.method().equalsIgnoreCase(method)) && pattern.matches(path);
+        }
+    }
+}
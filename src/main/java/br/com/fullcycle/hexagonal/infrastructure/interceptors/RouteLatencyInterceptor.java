@@ -0,0 +1,38 @@
+package br.com.fullcycle.hexagonal.infrastructure.interceptors;
+
+import br.com.fullcycle.hexagonal.infrastructure.observability.RouteLatencyRecorder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Objects;
+
+// Mede a latência vista pelo cliente em cada rota dos controllers, inclusive pedidos recusados pelos
+// limites mais adiante. Em pedidos assíncronos o início é o do primeiro dispatch.
+public class RouteLatencyInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String STARTED_AT = RouteLatencyInterceptor.class.getName() + ".STARTED_AT";
+
+    private final RouteLatencyRecorder recorder;
+
+    public RouteLatencyInterceptor(final RouteLatencyRecorder recorder) {
+        this.recorder = Objects.requireNonNull(recorder);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(STARTED_AT) == null) {
+            request.setAttribute(STARTED_AT, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(STARTED_AT) instanceof Long startedAt
+                && request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern) {
+            recorder.record(request.getMethod() + " " + pattern, System.nanoTime() - startedAt);
+        }
+    }
+}
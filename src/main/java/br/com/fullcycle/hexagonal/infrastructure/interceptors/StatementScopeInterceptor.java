@@ -0,0 +1,66 @@
+package br.com.fullcycle.hexagonal.infrastructure.interceptors;
+
+import br.com.fullcycle.hexagonal.infrastructure.observability.StatementScope;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Objects;
+
+// Abre um StatementScope por requisição e, no fim, aponta N+1: o mesmo select repetido várias vezes
+// na mesma requisição (ex.: carga preguiçosa de Event.tickets dentro de um laço).
+public class StatementScopeInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StatementScopeInterceptor.class);
+    private static final String SCOPE = StatementScopeInterceptor.class.getName() + ".SCOPE";
+
+    private final int nPlusOneThreshold;
+    private final MeterRegistry meterRegistry;
+
+    public StatementScopeInterceptor(final int nPlusOneThreshold, final MeterRegistry meterRegistry) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(SCOPE, StatementScope.open());
+        return true;
+    }
+
+    // O escopo é da thread: ao liberar a thread num pedido assíncrono, ele é fechado sem análise
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(SCOPE) instanceof StatementScope scope) {
+            request.removeAttribute(SCOPE);
+            scope.close();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(SCOPE) instanceof StatementScope scope)) {
+            return;
+        }
+
+        request.removeAttribute(SCOPE);
+        scope.close();
+
+        final var route = request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        scope.countsByShape().forEach((shape, count) -> {
+            if (count >= nPlusOneThreshold && shape.startsWith("select")) {
+                LOG.warn("Possible N+1 on {}: {} executions of {}", route, count, shape);
+                Counter.builder("jdbc.n_plus_one")
+                        .description("Requests that repeated the same select at least the configured number of times")
+                        .tag("route", route)
+                        .register(meterRegistry)
+                        .increment();
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.fullcycle.hexagonal.infrastructure.interceptors;
+
+import br.com.fullcycle.hexagonal.infrastructure.services.WaitingRoomService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Objects;
+
+// Barra o subscribe sem token de admissão antes de abrir a transação do controller,
+// para que a fila de espera não consuma conexões do pool.
+public class WaitingRoomInterceptor implements HandlerInterceptor {
+
+    private final WaitingRoomService waitingRoomService;
+
+    public WaitingRoomInterceptor(final WaitingRoomService waitingRoomService) {
+        this.waitingRoomService = Objects.requireNonNull(waitingRoomService);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!waitingRoomService.isEnabled() || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+
+        final var variables = (Map<?, ?>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        final var eventId = variables != null ? parseLong(variables.get("id")) : null;
+        if (eventId != null && waitingRoomService.admit(eventId, request.getHeader(WaitingRoomService.ADMISSION_HEADER))) {
+            return true;
+        }
+
+        response.sendError(HttpStatus.FORBIDDEN.value(), "Admission token required");
+        return false;
+    }
+
+    private static Long parseLong(final Object value) {
+        try {
+            return value != null ? Long.valueOf(value.toString()) : null;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.fullcycle.hexagonal.infrastructure.models;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.Objects;
+
+// Ingressos de eventos passados, movidos da tabela quente pelo arquivador. Mantém o id original e
+// guarda as referências como colunas simples: nada aqui é carregado pelos caminhos de venda.
+// Em MySQL a tabela pode ser recriada com ROW_FORMAT=COMPRESSED, já que só recebe inserts em lote.
+@Entity
+@Table(name = "tickets_archive", indexes = {
+        @Index(name = "idx_tickets_archive_customer_reserved", columnList = "customer_id, reserved_at, id, status, event_id"),
+        @Index(name = "idx_tickets_archive_event_id", columnList = "event_id, id")
+})
+public class ArchivedTicket {
+
+    @Id
+    private Long id;
+
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    private TicketStatus status;
+
+    private Instant paidAt;
+
+    private Instant reservedAt;
+
+    private Instant archivedAt;
+
+    public ArchivedTicket() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TicketStatus status) {
+        this.status = status;
+    }
+
+    public Instant getPaidAt() {
+        return paidAt;
+    }
+
+    public void setPaidAt(Instant paidAt) {
+        this.paidAt = paidAt;
+    }
+
+    public Instant getReservedAt() {
+        return reservedAt;
+    }
+
+    public void setReservedAt(Instant reservedAt) {
+        this.reservedAt = reservedAt;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(Instant archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArchivedTicket that = (ArchivedTicket) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
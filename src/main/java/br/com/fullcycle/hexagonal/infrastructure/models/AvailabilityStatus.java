@@ -0,0 +1,9 @@
+package br.com.fullcycle.hexagonal.infrastructure.models;
+
+public enum AvailabilityStatus {
+    AVAILABLE, SOLD_OUT;
+
+    public static AvailabilityStatus of(final int totalSpots, final int sold, final int held) {
+        return sold + held >= totalSpots ? SOLD_OUT : AVAILABLE;
+    }
+}
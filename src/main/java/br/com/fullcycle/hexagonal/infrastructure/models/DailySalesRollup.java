@@ -0,0 +1,101 @@
+package br.com.fullcycle.hexagonal.infrastructure.models;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+// Reservas por evento e dia (UTC) da reserva, com o parceiro copiado do evento. Preenchida
+// incrementalmente pelo job de rollup; as consultas analíticas leem só daqui, nunca de tickets.
+// Cada ingresso conta uma vez, no dia em que foi reservado: pagamento, cancelamento e expiração
+// posteriores não mudam o número. Vendas pagas vêm da projeção de disponibilidade e do rollup por minuto.
+@Entity
+@Table(name = "daily_reservation_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_reservation_rollups_event_day", columnNames = {"event_id", "sales_day"}),
+        indexes = {
+                @Index(name = "idx_daily_reservation_rollups_partner_day", columnList = "partner_id, sales_day"),
+                @Index(name = "idx_daily_reservation_rollups_day", columnList = "sales_day")
+        })
+public class DailySalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "partner_id")
+    private Long partnerId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    // day é palavra reservada no H2
+    @Column(name = "sales_day", nullable = false)
+    private LocalDate day;
+
+    private long reservations;
+
+    public DailySalesRollup() {
+    }
+
+    public DailySalesRollup(Long partnerId, Long eventId, LocalDate day, long reservations) {
+        this.partnerId = partnerId;
+        this.eventId = eventId;
+        this.day = day;
+        this.reservations = reservations;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getPartnerId() {
+        return partnerId;
+    }
+
+    public void setPartnerId(Long partnerId) {
+        this.partnerId = partnerId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public long getReservations() {
+        return reservations;
+    }
+
+    public void setReservations(long reservations) {
+        this.reservations = reservations;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DailySalesRollup that = (DailySalesRollup) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
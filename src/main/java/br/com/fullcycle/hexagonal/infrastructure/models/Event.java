@@ -3,16 +3,21 @@ package br.com.fullcycle.hexagonal.infrastructure.models;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.Set;
 
 import static jakarta.persistence.GenerationType.IDENTITY;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_date_id", columnList = "date, id"),
+        @Index(name = "idx_events_partner_date_id", columnList = "partner_id, date, id")
+})
 public class Event {
 
+    public static final String PARTNER_FOREIGN_KEY = "fk_events_partner";
+
     @Id
     @GeneratedValue(strategy = IDENTITY)
     private Long id;
@@ -24,21 +29,23 @@ public class Event {
     private int totalSpots;
 
     @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "partner_id", foreignKey = @ForeignKey(name = PARTNER_FOREIGN_KEY))
     private Partner partner;
 
+    // Bag, não Set: carregar a coleção não calcula hash nem compara ingressos entre si
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "event")
-    private Set<Ticket> tickets;
+    private List<Ticket> tickets;
 
     public Event() {
-        this.tickets = new HashSet<>();
+        this.tickets = new ArrayList<>();
     }
 
-    public Event(Long id, String name, LocalDate date, int totalSpots, Set<Ticket> tickets) {
+    public Event(Long id, String name, LocalDate date, int totalSpots, List<Ticket> tickets) {
         this.id = id;
         this.name = name;
         this.date = date;
         this.totalSpots = totalSpots;
-        this.tickets = tickets != null ? tickets : new HashSet<>();
+        this.tickets = tickets != null ? tickets : new ArrayList<>();
     }
 
     public Long getId() {
@@ -81,11 +88,11 @@ public class Event {
         this.partner = partner;
     }
 
-    public Set<Ticket> getTickets() {
+    public List<Ticket> getTickets() {
         return tickets;
     }
 
-    public void setTickets(Set<Ticket> tickets) {
+    public void setTickets(List<Ticket> tickets) {
         this.tickets = tickets;
     }
 
@@ -0,0 +1,111 @@
+package br.com.fullcycle.hexagonal.infrastructure.models;
+
+import jakarta.persistence.*;
+
+import java.util.Objects;
+
+// Modelo de leitura desnormalizado da disponibilidade de um evento. É atualizado de forma incremental
+// junto com cada mudança de ingresso, para que a consulta de vagas nunca precise contar a tabela de tickets.
+@Entity
+@Table(name = "event_availability")
+public class EventAvailability {
+
+    @Id
+    private Long eventId;
+
+    // Copiado do evento para que consumidores da projeção (ex.: painel de vendas) não precisem carregá-lo
+    private Long partnerId;
+
+    private int totalSpots;
+
+    private int sold;
+
+    private int held;
+
+    @Enumerated(EnumType.STRING)
+    private AvailabilityStatus status;
+
+    // Incrementado a cada atualização; ordena as cópias em memória sem depender da ordem dos commits
+    private long version;
+
+    public EventAvailability() {
+    }
+
+    public EventAvailability(Long eventId, Long partnerId, int totalSpots, int sold, int held) {
+        this.eventId = eventId;
+        this.partnerId = partnerId;
+        this.totalSpots = totalSpots;
+        this.sold = sold;
+        this.held = held;
+        this.status = AvailabilityStatus.of(totalSpots, sold, held);
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getPartnerId() {
+        return partnerId;
+    }
+
+    public void setPartnerId(Long partnerId) {
+        this.partnerId = partnerId;
+    }
+
+    public int getTotalSpots() {
+        return totalSpots;
+    }
+
+    public void setTotalSpots(int totalSpots) {
+        this.totalSpots = totalSpots;
+    }
+
+    public int getSold() {
+        return sold;
+    }
+
+    public void setSold(int sold) {
+        this.sold = sold;
+    }
+
+    public int getHeld() {
+        return held;
+    }
+
+    public void setHeld(int held) {
+        this.held = held;
+    }
+
+    public AvailabilityStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AvailabilityStatus status) {
+        this.status = status;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EventAvailability that = (EventAvailability) o;
+        return Objects.equals(eventId, that.eventId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId);
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.fullcycle.hexagonal.infrastructure.models;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.Objects;
+
+// Até onde cada job incremental já leu. A linha é travada durante a execução, o que também impede
+// duas instâncias de processarem o mesmo lote.
+@Entity
+@Table(name = "rollup_watermarks")
+public class RollupWatermark {
+
+    @Id
+    private String name;
+
+    private long lastId;
+
+    private Instant updatedAt;
+
+    public RollupWatermark() {
+    }
+
+    public RollupWatermark(String name, long lastId, Instant updatedAt) {
+        this.name = name;
+        this.lastId = lastId;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+    public void setLastId(long lastId) {
+        this.lastId = lastId;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RollupWatermark that = (RollupWatermark) o;
+        return Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name);
+    }
+}
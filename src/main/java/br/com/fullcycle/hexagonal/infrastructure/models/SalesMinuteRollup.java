@@ -0,0 +1,109 @@
+package br.com.fullcycle.hexagonal.infrastructure.models;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+// Minutos fechados dos contadores de vendas, somados por (evento, minuto). Várias instâncias podem
+// gravar o mesmo minuto: a gravação é um upsert que acumula.
+@Entity
+@Table(name = "sales_minute_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sales_minute_rollups_event_minute", columnNames = {"event_id", "minute_start"}),
+        indexes = @Index(name = "idx_sales_minute_rollups_partner_minute", columnList = "partner_id, minute_start"))
+public class SalesMinuteRollup {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "partner_id")
+    private Long partnerId;
+
+    // minute é palavra reservada no H2
+    @Column(name = "minute_start", nullable = false)
+    private Instant minute;
+
+    private long reserved;
+
+    private long paid;
+
+    private long released;
+
+    public SalesMinuteRollup() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getPartnerId() {
+        return partnerId;
+    }
+
+    public void setPartnerId(Long partnerId) {
+        this.partnerId = partnerId;
+    }
+
+    public Instant getMinute() {
+        return minute;
+    }
+
+    public void setMinute(Instant minute) {
+        this.minute = minute;
+    }
+
+    public long getReserved() {
+        return reserved;
+    }
+
+    public void setReserved(long reserved) {
+        this.reserved = reserved;
+    }
+
+    public long getPaid() {
+        return paid;
+    }
+
+    public void setPaid(long paid) {
+        this.paid = paid;
+    }
+
+    public long getReleased() {
+        return released;
+    }
+
+    public void setReleased(long released) {
+        this.released = released;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SalesMinuteRollup that = (SalesMinuteRollup) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -8,7 +8,12 @@ import java.util.Objects;
 import static jakarta.persistence.GenerationType.IDENTITY;
 
 @Entity
-@Table(name = "tickets")
+// O índice cobre tudo o que o histórico do cliente lê de tickets: a consulta percorre um intervalo
+// do índice e só visita a tabela de eventos (pela PK) para nome e data.
+@Table(name = "tickets", indexes = {
+        @Index(name = "idx_tickets_customer_reserved", columnList = "customer_id, reserved_at, id, status, event_id"),
+        @Index(name = "idx_tickets_status_reserved", columnList = "status, reserved_at, id")
+})
 public class Ticket {
 
     @Id
@@ -93,11 +98,14 @@ public class Ticket {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Ticket ticket = (Ticket) o;
-        return Objects.equals(customer, ticket.customer) && Objects.equals(event, ticket.event);
+        return id != null && Objects.equals(id, ticket.id);
     }
 
+    // Pelo id, não por (cliente, evento): quem cancelou ou expirou pode se inscrever de novo, e os dois
+    // ingressos são distintos. O hash não usa o id porque ele só é gerado no insert; por isso Event.tickets
+    // é uma lista e nenhuma coleção de ingressos depende de hash.
     @Override
     public int hashCode() {
-        return Objects.hash(customer, event);
+        return getClass().hashCode();
     }
 }
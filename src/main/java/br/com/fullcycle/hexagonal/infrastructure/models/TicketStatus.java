@@ -1,5 +1,10 @@
 package br.com.fullcycle.hexagonal.infrastructure.models;
 
 public enum TicketStatus {
-    PENDING, PROCESSING, PAID;
+    PENDING, PROCESSING, PAID, CANCELLED, EXPIRED;
+
+    // Ingressos cancelados ou expirados devolvem a vaga ao evento
+    public boolean holdsSeat() {
+        return this != CANCELLED && this != EXPIRED;
+    }
 }
@@ -0,0 +1,32 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+
+// Envolve o DataSource da aplicação (o pool único ou o roteador dos bulkheads) num proxy JDBC
+// instrumentado. Os pools internos não são beans, então cada statement é medido uma única vez.
+public class DataSourceInstrumentationPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<StatementInstrumentationListener> listener;
+
+    public DataSourceInstrumentationPostProcessor(final ObjectProvider<StatementInstrumentationListener> listener) {
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(listener.getObject())
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+// GET /actuator/latency -> p50/p90/p99/p99.9/max (ms) por rota e janela.
+// ?route=POST%20/events filtra as rotas que começam com o prefixo informado.
+@Endpoint(id = "latency")
+public class LatencyEndpoint {
+
+    private final RouteLatencyRecorder recorder;
+
+    public LatencyEndpoint(final RouteLatencyRecorder recorder) {
+        this.recorder = Objects.requireNonNull(recorder);
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, RouteLatencyRecorder.Snapshot>> routes(@Nullable final String route) {
+        final var snapshot = recorder.snapshot();
+        if (route == null || route.isBlank()) {
+            return snapshot;
+        }
+
+        return snapshot.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(route))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+// Evento JFR com a duração de cada chamada a repositório feita pelos services. Ids ausentes ficam 0.
+@Name("br.com.fullcycle.RepositoryCall")
+@Label("Repository Call")
+@Description("Duration of a repository call made by an infrastructure service")
+@Category({"Ticket Sales", "Repository"})
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Event Id")
+    long eventId;
+
+    @Label("Customer Id")
+    long customerId;
+
+    public static <T> T timed(final String operation, final Long eventId, final Long customerId, final Supplier<T> call) {
+        final var event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return call.get();
+        }
+
+        event.begin();
+        try {
+            return call.get();
+        } finally {
+            event.operation = operation;
+            event.eventId = eventId != null ? eventId : 0;
+            event.customerId = customerId != null ? customerId : 0;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+// Latência por rota em HdrHistogram. A gravação no Recorder não aloca nem trava; a cada intervalo o
+// histograma corrente é trocado por um reciclado e guardado num anel, e as janelas deslizantes
+// (ex.: 10s, 1m, 5m) são a soma dos últimos intervalos fechados.
+public class RouteLatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final ConcurrentMap<String, Route> routes;
+    private final Duration interval;
+    private final List<Duration> windows;
+    private final int history;
+
+    public RouteLatencyRecorder(final Duration interval, final List<Duration> windows) {
+        if (interval.isZero() || interval.isNegative() || windows.isEmpty()) {
+            throw new IllegalArgumentException("interval must be positive and at least one window is required");
+        }
+
+        this.routes = new ConcurrentHashMap<>();
+        this.interval = interval;
+        this.windows = List.copyOf(windows);
+        this.history = windows.stream()
+                .mapToInt(this::intervalsIn)
+                .max()
+                .getAsInt();
+    }
+
+    public void record(final String route, final long nanos) {
+        var state = routes.get(route);
+        if (state == null) {
+            state = routes.computeIfAbsent(route, r -> new Route(history));
+        }
+
+        final var micros = Math.min(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)), HIGHEST_TRACKABLE_MICROS);
+        state.recorder.recordValue(micros);
+    }
+
+    @Scheduled(fixedRateString = "${latency.interval:PT5S}")
+    public void rotate() {
+        for (final var route : routes.values()) {
+            route.rotate();
+        }
+    }
+
+    // Rota -> janela -> percentis, em milissegundos
+    public Map<String, Map<String, Snapshot>> snapshot() {
+        final var snapshot = new TreeMap<String, Map<String, Snapshot>>();
+
+        routes.forEach((name, route) -> {
+            final var byWindow = new LinkedHashMap<String, Snapshot>();
+            for (final var window : windows) {
+                byWindow.put(label(window), Snapshot.of(route.window(intervalsIn(window))));
+            }
+            snapshot.put(name, byWindow);
+        });
+
+        return snapshot;
+    }
+
+    private int intervalsIn(final Duration window) {
+        return (int) Math.max(1, (window.toMillis() + interval.toMillis() - 1) / interval.toMillis());
+    }
+
+    private static String label(final Duration window) {
+        return window.toSeconds() % 60 == 0 ? window.toMinutes() + "m" : window.toSeconds() + "s";
+    }
+
+    private static final class Route {
+
+        private final Recorder recorder;
+        private final Histogram[] intervals;
+        private int next;
+
+        private Route(final int history) {
+            this.recorder = new Recorder(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+            this.intervals = new Histogram[history];
+        }
+
+        // O slot mais antigo é devolvido ao Recorder para ser reaproveitado, então não há alocação em regime
+        private synchronized void rotate() {
+            intervals[next] = recorder.getIntervalHistogram(intervals[next]);
+            next = (next + 1) % intervals.length;
+        }
+
+        private synchronized Histogram window(final int count) {
+            final var window = new Histogram(1, HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+            for (int i = 1; i <= count; i++) {
+                final var histogram = intervals[(next - i + intervals.length) % intervals.length];
+                if (histogram != null) {
+                    window.add(histogram);
+                }
+            }
+            return window;
+        }
+    }
+
+    public record Snapshot(long count, double p50, double p90, double p99, double p999, double max) {
+
+        private static Snapshot of(final Histogram histogram) {
+            return new Snapshot(
+                    histogram.getTotalCount(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue())
+            );
+        }
+
+        private static double millis(final long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
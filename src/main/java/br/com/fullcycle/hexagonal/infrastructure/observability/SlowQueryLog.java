@@ -0,0 +1,54 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Log de queries lentas escrito por uma thread própria: a thread da requisição só enfileira.
+// Com a fila cheia a entrada é descartada (e contada), nunca bloqueia quem está atendendo o cliente.
+// Apenas o SQL com ? é logado, sem parâmetros, para não vazar dados pessoais.
+public class SlowQueryLog implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger("sql.slow");
+
+    private final long thresholdNanos;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder dropped;
+
+    public SlowQueryLog(final Duration threshold, final int queueSize) {
+        this.thresholdNanos = threshold.toNanos();
+        this.dropped = new LongAdder();
+        this.executor = new ThreadPoolExecutor(
+                1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    final var thread = new Thread(runnable, "slow-query-log");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> dropped.increment()
+        );
+    }
+
+    public void offer(final String sql, final long nanos, final int batchSize) {
+        if (nanos < thresholdNanos) {
+            return;
+        }
+
+        executor.execute(() -> LOG.warn("Slow query: {} ms (batch={}) {}", TimeUnit.NANOSECONDS.toMillis(nanos), batchSize, sql));
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// Ouvinte do datasource-proxy: cada statement alimenta as estatísticas por formato, o timer por tipo
+// (select/insert/update/delete), o escopo da thread (orçamentos e N+1) e o log de queries lentas.
+public class StatementInstrumentationListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = StatementInstrumentationListener.class.getName() + ".STARTED_AT";
+
+    private final StatementShapes shapes;
+    private final StatementStatistics statistics;
+    private final SlowQueryLog slowQueryLog;
+    private final MeterProvider<Timer> timers;
+
+    public StatementInstrumentationListener(
+            final StatementShapes shapes,
+            final StatementStatistics statistics,
+            final SlowQueryLog slowQueryLog,
+            final MeterRegistry meterRegistry
+    ) {
+        this.shapes = Objects.requireNonNull(shapes);
+        this.statistics = Objects.requireNonNull(statistics);
+        this.slowQueryLog = Objects.requireNonNull(slowQueryLog);
+        this.timers = Timer.builder("jdbc.statements")
+                .description("JDBC statement execution time by statement type")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(final ExecutionInfo execInfo, final List<QueryInfo> queryInfoList) {
+        final var startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        if (startedAt == null || queryInfoList.isEmpty()) {
+            return;
+        }
+
+        final var elapsed = System.nanoTime() - startedAt;
+        final var perQuery = elapsed / queryInfoList.size();
+
+        for (final var queryInfo : queryInfoList) {
+            final var shape = shapes.shapeOf(queryInfo.getQuery());
+
+            statistics.record(shape, perQuery);
+            timers.withTags("type", StatementShapes.typeOf(shape)).record(perQuery, TimeUnit.NANOSECONDS);
+            StatementScope.record(shape);
+        }
+
+        slowQueryLog.offer(queryInfoList.get(0).getQuery(), elapsed, execInfo.isBatch() ? execInfo.getBatchSize() : 1);
+    }
+}
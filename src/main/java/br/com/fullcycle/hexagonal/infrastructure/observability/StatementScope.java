@@ -0,0 +1,50 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Conta os statements executados pela thread corrente enquanto o escopo estiver aberto. Escopos podem ser
+// aninhados (ex.: o orçamento de um teste dentro do escopo de uma requisição) e cada statement conta em todos.
+public final class StatementScope implements AutoCloseable {
+
+    private static final ThreadLocal<StatementScope> CURRENT = new ThreadLocal<>();
+
+    private final StatementScope parent;
+    private final Map<String, Integer> countsByShape;
+    private int count;
+
+    private StatementScope(final StatementScope parent) {
+        this.parent = parent;
+        this.countsByShape = new HashMap<>();
+    }
+
+    public static StatementScope open() {
+        final var scope = new StatementScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void record(final String shape) {
+        for (var scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+            scope.countsByShape.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public Map<String, Integer> countsByShape() {
+        return Map.copyOf(countsByShape);
+    }
+
+    @Override
+    public void close() {
+        if (parent != null) {
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+// Reduz um SQL ao seu "formato": literais viram ?, listas de IN viram um único ? e espaços são normalizados.
+// O Hibernate reaproveita as mesmas strings, então o resultado é guardado num cache limitado.
+public final class StatementShapes {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final int MAX_CACHED = 2_000;
+
+    private final Map<String, String> cache = new ConcurrentHashMap<>();
+
+    public String shapeOf(final String sql) {
+        final var cached = cache.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var shape = normalize(sql);
+        if (cache.size() < MAX_CACHED) {
+            cache.put(sql, shape);
+        }
+        return shape;
+    }
+
+    static String normalize(final String sql) {
+        var shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    static String typeOf(final String shape) {
+        final var space = shape.indexOf(' ');
+        final var keyword = space > 0 ? shape.substring(0, space) : shape;
+        return switch (keyword) {
+            case "select", "insert", "update", "delete" -> keyword;
+            default -> "other";
+        };
+    }
+}
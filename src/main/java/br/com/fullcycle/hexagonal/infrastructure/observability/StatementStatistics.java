@@ -0,0 +1,63 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Contagem e latência acumuladas por formato de statement. O número de formatos é limitado;
+// excedentes caem num balde "other" em vez de crescer sem fim.
+public class StatementStatistics {
+
+    static final String OTHER = "other";
+
+    private final Map<String, Stats> byShape;
+    private final int maxShapes;
+
+    public StatementStatistics(final int maxShapes) {
+        this.byShape = new ConcurrentHashMap<>();
+        this.maxShapes = maxShapes;
+    }
+
+    public void record(final String shape, final long nanos) {
+        var stats = byShape.get(shape);
+        if (stats == null) {
+            final var key = byShape.size() < maxShapes ? shape : OTHER;
+            stats = byShape.computeIfAbsent(key, k -> new Stats());
+        }
+
+        stats.count.increment();
+        stats.totalNanos.add(nanos);
+        stats.maxNanos.accumulate(nanos);
+    }
+
+    // Ordenado pelo tempo total, que é o que mais pesa no banco
+    public List<Snapshot> snapshot() {
+        return byShape.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(Snapshot::totalMs).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        byShape.clear();
+    }
+
+    private static final class Stats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private Snapshot snapshot(final String shape) {
+            final var count = this.count.sum();
+            final var total = totalNanos.sum() / 1_000_000.0;
+            return new Snapshot(shape, count, total, count > 0 ? total / count : 0, maxNanos.get() / 1_000_000.0);
+        }
+    }
+
+    public record Snapshot(String statement, long count, double totalMs, double meanMs, double maxMs) {
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+import java.util.Objects;
+
+// GET /actuator/statements -> contagem e latência por formato de statement; DELETE zera os contadores
+@Endpoint(id = "statements")
+public class StatementsEndpoint {
+
+    private final StatementStatistics statistics;
+
+    public StatementsEndpoint(final StatementStatistics statistics) {
+        this.statistics = Objects.requireNonNull(statistics);
+    }
+
+    @ReadOperation
+    public List<StatementStatistics.Snapshot> statements() {
+        return statistics.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.reset();
+    }
+}
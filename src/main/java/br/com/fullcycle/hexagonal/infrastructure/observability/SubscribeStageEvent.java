@@ -0,0 +1,53 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+// Evento JFR com a duração de cada etapa da inscrição em um evento. Sem gravação ativa, isEnabled()
+// é falso e a etapa roda direto, sem marcação de tempo; o objeto do evento costuma ser eliminado pelo JIT.
+// Para coletar em produção: jcmd <pid> JFR.start duration=60s filename=subscribe.jfr
+@Name("br.com.fullcycle.SubscribeStage")
+@Label("Subscribe Stage")
+@Description("Duration of one stage of a customer subscribing to an event")
+@Category({"Ticket Sales", "Subscribe"})
+@StackTrace(false)
+public class SubscribeStageEvent extends Event {
+
+    public static final String CUSTOMER_LOOKUP = "customer_lookup";
+    public static final String EVENT_LOAD = "event_load";
+    public static final String DUPLICATE_CHECK = "duplicate_check";
+    // Verificação de lotação e insert do ingresso, numa única transação
+    public static final String SAVE = "save";
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Event Id")
+    long eventId;
+
+    @Label("Customer Id")
+    long customerId;
+
+    public static <T> T timed(final String stage, final Long eventId, final Long customerId, final Supplier<T> action) {
+        final var event = new SubscribeStageEvent();
+        if (!event.isEnabled()) {
+            return action.get();
+        }
+
+        event.begin();
+        try {
+            return action.get();
+        } finally {
+            event.stage = stage;
+            event.eventId = eventId != null ? eventId : 0;
+            event.customerId = customerId != null ? customerId : 0;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Mede cada chamada a execute() de um caso de uso: duração com percentis, desfecho e chamadas em andamento.
+// As mensagens de ValidationException são fixas no código dos casos de uso, então usá-las como tag não
+// explode a cardinalidade; demais exceções viram apenas o nome da classe.
+public class UseCaseMetricsInterceptor implements MethodInterceptor {
+
+    public static final String TIMER_NAME = "usecase.execution";
+    public static final String INFLIGHT_NAME = "usecase.inflight";
+
+    private static final String EXECUTE = "execute";
+
+    private final MeterProvider<Timer> timers;
+    private final AtomicInteger inFlight;
+
+    public UseCaseMetricsInterceptor(final String useCase, final MeterRegistry meterRegistry) {
+        Objects.requireNonNull(useCase);
+        Objects.requireNonNull(meterRegistry);
+
+        this.timers = Timer.builder(TIMER_NAME)
+                .description("Use case execution time")
+                .tag("usecase", useCase)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+
+        this.inFlight = new AtomicInteger();
+        Gauge.builder(INFLIGHT_NAME, inFlight, AtomicInteger::get)
+                .description("Use case executions currently running")
+                .tag("usecase", useCase)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        if (!EXECUTE.equals(invocation.getMethod().getName())) {
+            return invocation.proceed();
+        }
+
+        final var start = System.nanoTime();
+        var outcome = "success";
+        var exception = "none";
+
+        inFlight.incrementAndGet();
+        try {
+            return invocation.proceed();
+        } catch (ValidationException ex) {
+            outcome = "validation";
+            exception = ex.getMessage() != null ? ex.getMessage() : "none";
+            throw ex;
+        } catch (Throwable ex) {
+            outcome = "error";
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            inFlight.decrementAndGet();
+            timers.withTags("outcome", outcome, "exception", exception)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
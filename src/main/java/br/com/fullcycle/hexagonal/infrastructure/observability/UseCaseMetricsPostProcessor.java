@@ -0,0 +1,39 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import br.com.fullcycle.hexagonal.application.NullaryUseCase;
+import br.com.fullcycle.hexagonal.application.UnitUseCase;
+import br.com.fullcycle.hexagonal.application.UseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.Objects;
+
+// Envolve todo bean de caso de uso num proxy CGLIB com métricas, sem que a camada de aplicação
+// precise conhecer o Micrometer. Como os casos de uso são classes concretas, o proxy é por subclasse
+// e os controllers continuam recebendo o tipo que declaram.
+public class UseCaseMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public UseCaseMetricsPostProcessor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!isUseCase(bean)) {
+            return bean;
+        }
+
+        final var proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new UseCaseMetricsInterceptor(bean.getClass().getSimpleName(), meterRegistry.getObject()));
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+
+    private static boolean isUseCase(final Object bean) {
+        return bean instanceof UseCase<?, ?> || bean instanceof UnitUseCase<?> || bean instanceof NullaryUseCase<?>;
+    }
+}
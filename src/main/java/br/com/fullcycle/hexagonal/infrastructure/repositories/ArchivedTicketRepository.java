@@ -0,0 +1,30 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketHistoryDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.ArchivedTicket;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ArchivedTicketRepository extends CrudRepository<ArchivedTicket, Long> {
+
+    // Mesmo keyset do histórico quente, sobre idx_tickets_archive_customer_reserved
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.TicketHistoryDTO(a.id, e.id, e.name, e.date, a.status, a.reservedAt)
+            from ArchivedTicket a
+            join Event e on e.id = a.eventId
+            where a.customerId = :customerId
+              and a.reservedAt <= :beforeReservedAt and (a.reservedAt < :beforeReservedAt or a.id < :beforeId)
+            order by a.reservedAt desc, a.id desc
+            """)
+    List<TicketHistoryDTO> findHistoryPage(
+            @Param("customerId") Long customerId,
+            @Param("beforeReservedAt") Instant beforeReservedAt,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+}
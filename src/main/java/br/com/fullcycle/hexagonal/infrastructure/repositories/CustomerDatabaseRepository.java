@@ -0,0 +1,67 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.entities.Customer;
+import br.com.fullcycle.hexagonal.application.entities.CustomerId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.services.CustomerService;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+// Adapter: mesma codificação do PartnerDatabaseRepository, com o id da tabela nos 64 bits menos
+// significativos do UUID. Criar pelo CustomerService mantém o índice de busca por nome atualizado.
+@Component
+public class CustomerDatabaseRepository implements CustomerRepository {
+
+    private final CustomerService customerService;
+
+    public CustomerDatabaseRepository(final CustomerService customerService) {
+        this.customerService = Objects.requireNonNull(customerService);
+    }
+
+    @Override
+    public Optional<Customer> customerOfId(final CustomerId anId) {
+        final var uuid = Objects.requireNonNull(anId).value();
+        if (uuid.getMostSignificantBits() != 0) {
+            return Optional.empty();
+        }
+
+        return customerService.findById(uuid.getLeastSignificantBits()).map(CustomerDatabaseRepository::toEntity);
+    }
+
+    @Override
+    public Optional<Customer> customerOfCPF(final String cpf) {
+        return customerService.findByCpf(cpf).map(CustomerDatabaseRepository::toEntity);
+    }
+
+    @Override
+    public Optional<Customer> customerOfEmail(final String email) {
+        return customerService.findByEmail(email).map(CustomerDatabaseRepository::toEntity);
+    }
+
+    @Override
+    public Customer create(final Customer customer) {
+        return toEntity(customerService.save(toModel(null, customer)));
+    }
+
+    @Override
+    public Customer update(final Customer customer) {
+        final var uuid = customer.customerId().value();
+        if (uuid.getMostSignificantBits() != 0) {
+            throw new ValidationException("Customer not found");
+        }
+
+        return toEntity(customerService.save(toModel(uuid.getLeastSignificantBits(), customer)));
+    }
+
+    private static br.com.fullcycle.hexagonal.infrastructure.models.Customer toModel(final Long id, final Customer customer) {
+        return new br.com.fullcycle.hexagonal.infrastructure.models.Customer(
+                id, customer.name().value(), customer.cpf().value(), customer.email().value());
+    }
+
+    private static Customer toEntity(final br.com.fullcycle.hexagonal.infrastructure.models.Customer model) {
+        return new Customer(CustomerId.of(model.getId()), model.getName(), model.getCpf(), model.getEmail());
+    }
+}
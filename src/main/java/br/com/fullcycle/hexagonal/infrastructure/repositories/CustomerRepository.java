@@ -1,8 +1,14 @@
 package br.com.fullcycle.hexagonal.infrastructure.repositories;
 
+import br.com.fullcycle.hexagonal.infrastructure.dtos.CustomerDTO;
 import br.com.fullcycle.hexagonal.infrastructure.models.Customer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CustomerRepository extends CrudRepository<Customer, Long> {
@@ -10,4 +16,20 @@ public interface CustomerRepository extends CrudRepository<Customer, Long> {
     Optional<Customer> findByCpf(String cpf);
 
     Optional<Customer> findByEmail(String email);
+
+    // Keyset pela PK: o custo de qualquer página é o mesmo, independente de quantas vieram antes
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.CustomerDTO(c.id, c.name, c.cpf, c.email)
+            from Customer c
+            where c.id > :afterId
+            order by c.id
+            """)
+    List<CustomerDTO> findPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.CustomerDTO(c.id, c.name, c.cpf, c.email)
+            from Customer c
+            where c.id in :ids
+            """)
+    List<CustomerDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
 }
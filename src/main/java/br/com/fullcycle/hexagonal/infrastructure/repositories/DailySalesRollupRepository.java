@@ -0,0 +1,38 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.DailySalesDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.DailySalesRollup;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailySalesRollupRepository extends CrudRepository<DailySalesRollup, Long> {
+
+    @Modifying
+    @Query("""
+            update DailySalesRollup r
+            set r.reservations = r.reservations + :reservations
+            where r.eventId = :eventId and r.day = :day
+            """)
+    int increment(@Param("eventId") Long eventId, @Param("day") LocalDate day, @Param("reservations") long reservations);
+
+    // Filtros opcionais: cada combinação cai num dos índices (event_id, day), (partner_id, day) ou (day)
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.DailySalesDTO(r.day, r.partnerId, r.eventId, r.reservations)
+            from DailySalesRollup r
+            where r.day between :from and :to
+              and (:partnerId is null or r.partnerId = :partnerId)
+              and (:eventId is null or r.eventId = :eventId)
+            order by r.day, r.partnerId, r.eventId
+            """)
+    List<DailySalesDTO> findRange(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("partnerId") Long partnerId,
+            @Param("eventId") Long eventId
+    );
+}
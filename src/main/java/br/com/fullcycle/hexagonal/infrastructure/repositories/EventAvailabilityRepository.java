@@ -0,0 +1,65 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventAvailabilityDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.AvailabilityStatus;
+import br.com.fullcycle.hexagonal.infrastructure.models.EventAvailability;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface EventAvailabilityRepository extends CrudRepository<EventAvailability, Long> {
+
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.EventAvailabilityDTO(a.eventId, a.partnerId, a.totalSpots, a.sold, a.held, a.status, a.version)
+            from EventAvailability a
+            where a.eventId = :eventId
+            """)
+    Optional<EventAvailabilityDTO> findDTOById(@Param("eventId") Long eventId);
+
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.EventAvailabilityDTO(a.eventId, a.partnerId, a.totalSpots, a.sold, a.held, a.status, a.version)
+            from EventAvailability a
+            where a.eventId in :eventIds
+            """)
+    List<EventAvailabilityDTO> findDTOsByIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    // Incremento atômico na própria linha, sem ler antes. O status vem primeiro e é calculado só com os
+    // valores antigos mais os deltas: o MySQL aplica as atribuições da esquerda para a direita.
+    @Modifying
+    @Query("""
+            update EventAvailability a
+            set a.status = case when (a.sold + :soldDelta) + (a.held + :heldDelta) >= a.totalSpots then :soldOut else :available end,
+                a.sold = a.sold + :soldDelta,
+                a.held = a.held + :heldDelta,
+                a.version = a.version + 1
+            where a.eventId = :eventId
+            """)
+    int increment(
+            @Param("eventId") Long eventId,
+            @Param("soldDelta") int soldDelta,
+            @Param("heldDelta") int heldDelta,
+            @Param("soldOut") AvailabilityStatus soldOut,
+            @Param("available") AvailabilityStatus available
+    );
+
+    // Reserva de uma vaga: a lotação é verificada e o ingresso retido é somado no mesmo update, com a linha
+    // travada; duas inscrições concorrentes nunca levam a mesma última vaga. Devolve 0 se o evento lotou.
+    @Modifying
+    @Query("""
+            update EventAvailability a
+            set a.status = case when a.sold + a.held + 1 >= a.totalSpots then :soldOut else :available end,
+                a.held = a.held + 1,
+                a.version = a.version + 1
+            where a.eventId = :eventId and a.sold + a.held < a.totalSpots
+            """)
+    int reserve(
+            @Param("eventId") Long eventId,
+            @Param("soldOut") AvailabilityStatus soldOut,
+            @Param("available") AvailabilityStatus available
+    );
+}
@@ -1,8 +1,55 @@
 package br.com.fullcycle.hexagonal.infrastructure.repositories;
 
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO;
 import br.com.fullcycle.hexagonal.infrastructure.models.Event;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 public interface EventRepository extends CrudRepository<Event, Long> {
 
-}
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO(e.id, e.name, e.date, e.totalSpots, e.partner.id)
+            from Event e
+            where e.id in :ids
+            """)
+    List<EventDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset por (date, id), servido pelo índice idx_events_date_id. A condição redundante
+    // "e.date >= :afterDate" deixa o início do intervalo explícito para o otimizador.
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO(e.id, e.name, e.date, e.totalSpots, e.partner.id)
+            from Event e
+            where e.date >= :afterDate and (e.date > :afterDate or e.id > :afterId)
+              and e.date <= :to
+            order by e.date, e.id
+            """)
+    List<EventDTO> findPage(
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            @Param("to") LocalDate to,
+            Pageable pageable
+    );
+
+    // Mesmo keyset, prefixado pelo parceiro: servido pelo índice idx_events_partner_date_id
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO(e.id, e.name, e.date, e.totalSpots, e.partner.id)
+            from Event e
+            where e.partner.id = :partnerId
+              and e.date >= :afterDate and (e.date > :afterDate or e.id > :afterId)
+              and e.date <= :to
+            order by e.date, e.id
+            """)
+    List<EventDTO> findPageByPartner(
+            @Param("partnerId") Long partnerId,
+            @Param("afterDate") LocalDate afterDate,
+            @Param("afterId") Long afterId,
+            @Param("to") LocalDate to,
+            Pageable pageable
+    );
+}
\ No newline at end of file
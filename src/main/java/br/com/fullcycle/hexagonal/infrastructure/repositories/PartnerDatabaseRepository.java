@@ -0,0 +1,87 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.entities.Partner;
+import br.com.fullcycle.hexagonal.application.entities.PartnerId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.services.PartnerService;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+// Adapter: a porta identifica parceiros por UUID e a tabela por id numérico. O id da tabela vai nos
+// 64 bits menos significativos do UUID (PartnerId.of(42)); para fora, PartnerId.asString() devolve "42",
+// o mesmo id que eventos, ingressos e painéis usam.
+@Component
+public class PartnerDatabaseRepository implements PartnerRepository {
+
+    private final PartnerService partnerService;
+
+    public PartnerDatabaseRepository(final PartnerService partnerService) {
+        this.partnerService = Objects.requireNonNull(partnerService);
+    }
+
+    @Override
+    public Optional<Partner> partnerOfId(final PartnerId anId) {
+        final var uuid = Objects.requireNonNull(anId).value();
+        if (uuid.getMostSignificantBits() != 0) {
+            return Optional.empty();
+        }
+
+        return partnerService.findById(uuid.getLeastSignificantBits()).map(PartnerDatabaseRepository::toEntity);
+    }
+
+    @Override
+    public Optional<Partner> partnerOfCNPJ(final String cnpj) {
+        return partnerService.findByCnpj(cnpj).map(PartnerDatabaseRepository::toEntity);
+    }
+
+    @Override
+    public Optional<Partner> partnerOfEmail(final String email) {
+        return partnerService.findByEmail(email).map(PartnerDatabaseRepository::toEntity);
+    }
+
+    @Override
+    public Set<String> existingCNPJs(final Collection<String> cnpjs) {
+        return cnpjs.isEmpty() ? Set.of() : partnerService.findExistingCnpjs(cnpjs);
+    }
+
+    @Override
+    public Set<String> existingEmails(final Collection<String> emails) {
+        return emails.isEmpty() ? Set.of() : partnerService.findExistingEmails(emails);
+    }
+
+    @Override
+    public Partner create(final Partner partner) {
+        return toEntity(partnerService.save(toModel(null, partner)));
+    }
+
+    @Override
+    public List<Partner> createAll(final List<Partner> partners) {
+        final var models = partners.stream().map(partner -> toModel(null, partner)).toList();
+        return partnerService.saveAll(models).stream().map(PartnerDatabaseRepository::toEntity).toList();
+    }
+
+    @Override
+    public Partner update(final Partner partner) {
+        final var uuid = partner.partnerId().value();
+        if (uuid.getMostSignificantBits() != 0) {
+            throw new ValidationException("Partner not found");
+        }
+
+        return toEntity(partnerService.save(toModel(uuid.getLeastSignificantBits(), partner)));
+    }
+
+    private static br.com.fullcycle.hexagonal.infrastructure.models.Partner toModel(final Long id, final Partner partner) {
+        return new br.com.fullcycle.hexagonal.infrastructure.models.Partner(
+                id, partner.name().value(), partner.cnpj().value(), partner.email().value());
+    }
+
+    private static Partner toEntity(final br.com.fullcycle.hexagonal.infrastructure.models.Partner model) {
+        return new Partner(PartnerId.of(model.getId()), model.getName(), model.getCnpj(), model.getEmail());
+    }
+}
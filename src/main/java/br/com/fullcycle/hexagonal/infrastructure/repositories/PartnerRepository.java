@@ -1,13 +1,37 @@
 package br.com.fullcycle.hexagonal.infrastructure.repositories;
 
+import br.com.fullcycle.hexagonal.infrastructure.dtos.PartnerDTO;
 import br.com.fullcycle.hexagonal.infrastructure.models.Partner;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PartnerRepository extends CrudRepository<Partner, Long> {
 
     Optional<Partner> findByCnpj(String cnpj);
 
     Optional<Partner> findByEmail(String email);
+
+    @Query("select p.cnpj from Partner p where p.cnpj in :cnpjs")
+    Set<String> findExistingCnpjs(@Param("cnpjs") Collection<String> cnpjs);
+
+    @Query("select p.email from Partner p where p.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("select p.id from Partner p where p.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.PartnerDTO(p.id, p.name, p.cnpj, p.email)
+            from Partner p
+            where p.id > :afterId
+            order by p.id
+            """)
+    List<PartnerDTO> findPage(@Param("afterId") Long afterId, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.infrastructure.models.RollupWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface RollupWatermarkRepository extends CrudRepository<RollupWatermark, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from RollupWatermark w where w.name = :name")
+    Optional<RollupWatermark> findForUpdate(@Param("name") String name);
+}
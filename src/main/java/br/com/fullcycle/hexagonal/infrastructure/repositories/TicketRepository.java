@@ -1,11 +1,112 @@
 package br.com.fullcycle.hexagonal.infrastructure.repositories;
 
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketHistoryDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketRollupDTO;
 import br.com.fullcycle.hexagonal.infrastructure.models.Ticket;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TicketRepository extends CrudRepository<Ticket, Long> {
 
-    Optional<Ticket> findByEventIdAndCustomerId(Long id, Long customerId);
+    // Um cliente pode voltar a se inscrever depois de cancelar ou expirar, então há vários ingressos
+    // por par; o mais recente é o único que pode ainda ocupar vaga
+    Optional<Ticket> findFirstByEventIdAndCustomerIdOrderByIdDesc(Long id, Long customerId);
+
+    // Keyset por id dentro do evento, sobre o índice da FK event_id (que no InnoDB já termina na PK)
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.TicketDTO(t.id, t.event.id, t.customer.id, t.status, t.reservedAt, t.paidAt)
+            from Ticket t
+            where t.event.id = :eventId and t.id > :afterId
+            order by t.id
+            """)
+    List<TicketDTO> findDTOPageByEventId(@Param("eventId") Long eventId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // Os ids dos primeiros :limit ingressos (em ordem de id) de cada evento, numa única consulta:
+    // ROW_NUMBER por evento percorre o índice da FK event_id e corta cada evento no limite
+    @Query(value = """
+            select ranked.id from (
+                select t.id, row_number() over (partition by t.event_id order by t.id) as ticket_order
+                from tickets t
+                where t.event_id in (:eventIds)
+            ) ranked
+            where ranked.ticket_order <= :limit
+            """, nativeQuery = true)
+    List<Number> findFirstIdsByEventIdIn(@Param("eventIds") Collection<Long> eventIds, @Param("limit") int limit);
+
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.TicketDTO(t.id, t.event.id, t.customer.id, t.status, t.reservedAt, t.paidAt)
+            from Ticket t
+            where t.id in :ids
+            order by t.id
+            """)
+    List<TicketDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Projeção em uma única consulta, com join explícito: nenhum Ticket é materializado, então
+    // Ticket.event e Ticket.customer nunca são carregados preguiçosamente. Keyset decrescente por
+    // (reservedAt, id) sobre o índice idx_tickets_customer_reserved.
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.TicketHistoryDTO(t.id, e.id, e.name, e.date, t.status, t.reservedAt)
+            from Ticket t
+            join t.event e
+            where t.customer.id = :customerId
+              and t.reservedAt <= :beforeReservedAt and (t.reservedAt < :beforeReservedAt or t.id < :beforeId)
+            order by t.reservedAt desc, t.id desc
+            """)
+    List<TicketHistoryDTO> findHistoryPage(
+            @Param("customerId") Long customerId,
+            @Param("beforeReservedAt") Instant beforeReservedAt,
+            @Param("beforeId") Long beforeId,
+            Pageable pageable
+    );
+
+    // Reservas vencidas, da mais antiga para a mais nova, pelo índice idx_tickets_status_reserved
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.TicketDTO(t.id, t.event.id, t.customer.id, t.status, t.reservedAt, t.paidAt)
+            from Ticket t
+            where t.status = :status and t.reservedAt < :reservedBefore
+            order by t.reservedAt, t.id
+            """)
+    List<TicketDTO> findDTOsByStatusAndReservedAtBefore(
+            @Param("status") TicketStatus status,
+            @Param("reservedBefore") Instant reservedBefore,
+            Pageable pageable
+    );
+
+    // Transição condicional: só quem encontra o status esperado altera a linha, então cancelamento
+    // e expiração concorrentes não descontam a mesma vaga duas vezes
+    @Modifying
+    @Query("""
+            update Ticket t
+            set t.status = :to
+            where t.id = :id and t.status = :from
+            """)
+    int updateStatus(@Param("id") Long id, @Param("from") TicketStatus from, @Param("to") TicketStatus to);
+
+    // Primeiro ingresso novo demais para o rollup: ids menores que ele já tiveram tempo de ser confirmados
+    @Query("""
+            select min(t.id)
+            from Ticket t
+            where t.id > :afterId and t.reservedAt >= :cutoff
+            """)
+    Long findFirstIdReservedSince(@Param("afterId") Long afterId, @Param("cutoff") Instant cutoff);
+
+    // Lote do rollup por faixa de PK; o parceiro vem do evento, lido pela PK
+    @Query("""
+            select new br.com.fullcycle.hexagonal.infrastructure.dtos.TicketRollupDTO(t.id, e.partner.id, e.id, t.reservedAt)
+            from Ticket t
+            join t.event e
+            where t.id > :afterId and t.id < :beforeId
+            order by t.id
+            """)
+    List<TicketRollupDTO> findRollupBatch(@Param("afterId") Long afterId, @Param("beforeId") Long beforeId, Pageable pageable);
 }
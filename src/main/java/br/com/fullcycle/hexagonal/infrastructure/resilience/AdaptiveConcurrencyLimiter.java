@@ -0,0 +1,120 @@
+package br.com.fullcycle.hexagonal.infrastructure.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Limite de concorrência adaptativo no estilo "gradient" (Netflix concurrency-limits):
+// compara a latência recente com a latência de longo prazo. Quando a recente sobe, há fila
+// se formando (pool do JDBC saturado) e o limite diminui; quando fica estável, o limite cresce
+// aos poucos. Pedidos acima do limite são recusados imediatamente em vez de esperar na fila.
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_WINDOW_ALPHA = 2.0 / (10 + 1);
+    private static final double LONG_WINDOW_ALPHA = 2.0 / (600 + 1);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+
+    private final AtomicInteger inFlight;
+    private final LongAdder rejected;
+    private final ReentrantLock sampleLock;
+
+    private volatile double limit;
+
+    // Protegidos por sampleLock
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final double smoothing,
+            final double tolerance
+    ) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid limits");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.inFlight = new AtomicInteger();
+        this.rejected = new LongAdder();
+        this.sampleLock = new ReentrantLock();
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            final var current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(final long rttNanos) {
+        final var inFlightBefore = inFlight.getAndDecrement();
+
+        // Sob contenção uma amostra pode ser descartada sem prejuízo; isso evita serializar as requisições aqui
+        if (rttNanos > 0 && sampleLock.tryLock()) {
+            try {
+                onSample(rttNanos, inFlightBefore);
+            } finally {
+                sampleLock.unlock();
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    private void onSample(final long rtt, final int inFlightBefore) {
+        if (longRtt == 0) {
+            shortRtt = rtt;
+            longRtt = rtt;
+            return;
+        }
+
+        shortRtt = shortRtt * (1 - SHORT_WINDOW_ALPHA) + rtt * SHORT_WINDOW_ALPHA;
+        longRtt = longRtt * (1 - LONG_WINDOW_ALPHA) + rtt * LONG_WINDOW_ALPHA;
+
+        // Recupera rapidamente depois de um período de latência alta que "contaminou" a média longa
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        final var current = limit;
+
+        // Sem demanda suficiente não há sinal para aumentar o limite
+        if (inFlightBefore < current / 2) {
+            return;
+        }
+
+        final var gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        final var queueSize = Math.sqrt(current);
+        final var target = current * gradient + queueSize;
+        final var next = current * (1 - smoothing) + target * smoothing;
+
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.fullcycle.hexagonal.infrastructure.resilience;
+
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+
+// Partição de threads de uma classe de endpoints: limita quantas requisições da classe
+// podem ocupar threads do Tomcat ao mesmo tempo, para que uma não esgote as demais.
+public class Bulkhead {
+
+    private final EndpointClass endpointClass;
+    private final int maxConcurrent;
+    private final Semaphore permits;
+
+    public Bulkhead(final EndpointClass endpointClass, final int maxConcurrent) {
+        this.endpointClass = Objects.requireNonNull(endpointClass);
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public boolean tryAcquire() {
+        return permits.tryAcquire();
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public EndpointClass endpointClass() {
+        return endpointClass;
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int available() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.fullcycle.hexagonal.infrastructure.resilience;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+// Um pool de conexões por classe de endpoints. A classe da requisição corrente é associada à thread
+// pelo BulkheadInterceptor; threads fora de uma requisição (agendadores, inicialização) usam DEFAULT.
+public class BulkheadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final ThreadLocal<EndpointClass> CURRENT = new ThreadLocal<>();
+
+    private final Map<EndpointClass, DataSource> partitions;
+
+    public BulkheadRoutingDataSource(final Map<EndpointClass, DataSource> partitions) {
+        if (!partitions.containsKey(EndpointClass.DEFAULT)) {
+            throw new IllegalArgumentException("A DEFAULT partition is required");
+        }
+
+        this.partitions = new EnumMap<>(partitions);
+        setTargetDataSources(new HashMap<>(partitions));
+        setDefaultTargetDataSource(partitions.get(EndpointClass.DEFAULT));
+    }
+
+    public static void bind(final EndpointClass endpointClass) {
+        CURRENT.set(endpointClass);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (final var partition : partitions.values()) {
+            if (partition instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.fullcycle.hexagonal.infrastructure.resilience;
+
+public enum EndpointClass {
+    READS, EXPORTS, CREATES, SUBSCRIBE, GRAPHQL, DEFAULT;
+}
@@ -0,0 +1,64 @@
+package br.com.fullcycle.hexagonal.infrastructure.resilience;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Registro de token buckets por (regra, cliente) num ConcurrentHashMap: o caminho de um cliente conhecido
+// é uma leitura sem lock mais o CAS do bucket. A memória é limitada pelo tempo: buckets cheios há mais de
+// idleTimeout saem na varredura periódica, e passar de maxBuckets antecipa uma varredura dos buckets já
+// cheios (descartá-los equivale a recriá-los). Um cliente novo sempre recebe bucket; nenhum é zerado em uso.
+public class RateLimiter {
+
+    private final ConcurrentMap<String, TokenBucket> buckets;
+    private final int maxBuckets;
+    private final long idleNanos;
+    private final AtomicBoolean evicting;
+
+    public RateLimiter(final int maxBuckets, final Duration idleTimeout) {
+        this.buckets = new ConcurrentHashMap<>();
+        this.maxBuckets = maxBuckets;
+        this.idleNanos = idleTimeout.toNanos();
+        this.evicting = new AtomicBoolean();
+    }
+
+    // Retorna 0 se o pedido foi aceito, ou quantos nanossegundos o cliente deve esperar
+    public long tryAcquire(final String key, final double permitsPerSecond, final int burst) {
+        final var now = System.nanoTime();
+
+        var bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(permitsPerSecond, burst, now));
+            if (buckets.size() > maxBuckets) {
+                evict(now, 0);
+            }
+        }
+
+        return bucket.tryAcquire(now);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:30000}")
+    public void evictIdle() {
+        evict(System.nanoTime(), idleNanos);
+    }
+
+    // Uma varredura por vez; quem chega durante ela segue sem esperar
+    private void evict(final long now, final long idleNanos) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        } finally {
+            evicting.set(false);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.fullcycle.hexagonal.infrastructure.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket sem locks, implementado como GCRA (generic cell rate algorithm): o estado inteiro
+// é um único long com o "theoretical arrival time" (TAT). A reposição de fichas é preguiçosa,
+// calculada a partir do relógio no momento do pedido, então um bucket ocioso não custa nada.
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrivalTime;
+
+    public TokenBucket(final double permitsPerSecond, final int burst, final long nowNanos) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and burst must be positive");
+        }
+
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.toleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+    }
+
+    // Retorna 0 se a ficha foi consumida, ou quantos nanossegundos esperar até a próxima ficha
+    public long tryAcquire(final long nowNanos) {
+        while (true) {
+            final var tat = theoreticalArrivalTime.get();
+            final var start = Math.max(tat, nowNanos);
+            final var wait = start - nowNanos - toleranceNanos;
+
+            if (wait > 0) {
+                return wait;
+            }
+
+            if (theoreticalArrivalTime.compareAndSet(tat, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    // Bucket cheio há mais de idleNanos: descartá-lo equivale a recriá-lo cheio no próximo pedido
+    public boolean isIdle(final long nowNanos, final long idleNanos) {
+        return nowNanos - theoreticalArrivalTime.get() > idleNanos;
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.fullcycle.hexagonal.infrastructure.sales;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Anel de baldes de um minuto. Cada posição guarda o minuto a que pertence; ao dar a volta, o balde
+// antigo é substituído por um novo via CAS (nunca zerado no lugar), então nenhum incremento concorrente
+// se perde na virada. Os contadores são LongAdder: sob disputa, cada thread soma na sua célula.
+final class MinuteRing {
+
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    MinuteRing(final int minutes) {
+        this.buckets = new AtomicReferenceArray<>(minutes);
+    }
+
+    int minutes() {
+        return buckets.length();
+    }
+
+    void add(final long minute, final SalesKind kind) {
+        final var bucket = bucket(minute);
+        if (bucket != null) {
+            bucket.counters[kind.ordinal()].increment();
+        }
+    }
+
+    // Zeros para minutos sem movimento ou que já saíram do anel
+    long[] counts(final long minute) {
+        final var counts = new long[SalesKind.values().length];
+        final var bucket = buckets.get(index(minute));
+
+        if (bucket != null && bucket.minute == minute) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = bucket.counters[i].sum();
+            }
+        }
+        return counts;
+    }
+
+    private Bucket bucket(final long minute) {
+        final var index = index(minute);
+
+        while (true) {
+            final var current = buckets.get(index);
+            if (current != null && current.minute == minute) {
+                return current;
+            }
+
+            // Registro atrasado de um minuto que o anel já descartou
+            if (current != null && current.minute > minute) {
+                return null;
+            }
+
+            final var fresh = new Bucket(minute);
+            if (buckets.compareAndSet(index, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private int index(final long minute) {
+        return (int) Math.floorMod(minute, (long) buckets.length());
+    }
+
+    private static final class Bucket {
+
+        private final long minute;
+        private final LongAdder[] counters;
+
+        private Bucket(final long minute) {
+            this.minute = minute;
+            this.counters = new LongAdder[SalesKind.values().length];
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] = new LongAdder();
+            }
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package br.com.fullcycle.hexagonal.infrastructure.sales;
+
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Contadores de vendas ao vivo por evento e por parceiro, alimentados após o commit de cada mudança de
+// ingresso. O painel lê apenas daqui; os minutos fechados de cada evento são entregues para a tabela de
+// rollup até uma gravação confirmá-los, e janelas sem movimento saem da memória depois disso.
+//
+// O incremento não passa pelo lock do mapa: a janela sai de um get (computeIfAbsent só na primeira venda)
+// e o anel é lock-free. Cada janela conta os incrementos em andamento; a leitura dos minutos fechados sela
+// o minuto e espera esses incrementos terminarem, e a remoção só acontece quando nenhum está em andamento.
+public class SalesCounters {
+
+    private static final long MINUTE_MILLIS = 60_000;
+    private static final int QUIESCE_SPINS = 1_000;
+
+    private final ConcurrentMap<Long, Window> events;
+    private final ConcurrentMap<Long, Window> partners;
+    private final ConcurrentMap<Long, LongAdder> soldByEvent;
+    private final ConcurrentMap<Long, LongAdder> soldByPartner;
+    private final int minutes;
+    private final Clock clock;
+
+    public SalesCounters(final int minutes, final Clock clock) {
+        if (minutes <= 0) {
+            throw new IllegalArgumentException("minutes must be positive");
+        }
+
+        this.events = new ConcurrentHashMap<>();
+        this.partners = new ConcurrentHashMap<>();
+        this.soldByEvent = new ConcurrentHashMap<>();
+        this.soldByPartner = new ConcurrentHashMap<>();
+        this.minutes = minutes;
+        this.clock = clock;
+    }
+
+    public int minutes() {
+        return minutes;
+    }
+
+    // from == null significa um ingresso novo
+    public void record(final Long partnerId, final Long eventId, final TicketStatus from, final TicketStatus to) {
+        final var kind = SalesKind.of(from, to);
+        if (kind.isEmpty()) {
+            return;
+        }
+
+        add(events, eventId, partnerId, kind.get());
+        if (partnerId != null) {
+            add(partners, partnerId, partnerId, kind.get());
+        }
+
+        final var soldDelta = (to == TicketStatus.PAID ? 1 : 0) - (from == TicketStatus.PAID ? 1 : 0);
+        if (soldDelta != 0) {
+            adder(soldByEvent, eventId).add(soldDelta);
+            if (partnerId != null) {
+                adder(soldByPartner, partnerId).add(soldDelta);
+            }
+        }
+    }
+
+    // Vendas acumuladas antes do processo subir, lidas da projeção de disponibilidade
+    public void seed(final Long eventId, final Long partnerId, final long sold) {
+        adder(soldByEvent, eventId).add(sold);
+        if (partnerId != null) {
+            adder(soldByPartner, partnerId).add(sold);
+        }
+    }
+
+    public Stats partner(final Long partnerId, final int lastMinutes) {
+        return stats(partnerId, partners.get(partnerId), soldByPartner.get(partnerId), lastMinutes);
+    }
+
+    public List<Stats> eventsOfPartner(final Long partnerId, final int lastMinutes) {
+        final var stats = new ArrayList<Stats>();
+        events.forEach((eventId, window) -> {
+            if (partnerId.equals(window.partnerId)) {
+                stats.add(stats(eventId, window, soldByEvent.get(eventId), lastMinutes));
+            }
+        });
+        return stats;
+    }
+
+    // Minutos já encerrados e ainda não entregues, de cada evento. Nada muda aqui: os minutos só contam
+    // como entregues em markFlushed, depois que a gravação deu certo, e uma falha os entrega de novo.
+    // Cada janela é selada antes da leitura: incrementos que começarem depois caem no minuto seguinte ao selo,
+    // e os que já estavam em andamento terminam antes da leitura. Uma janela que não para de receber
+    // incrementos nesse meio tempo fica para a próxima execução. Só um flush roda por vez.
+    public Drain closedMinutes() {
+        final var current = currentMinute();
+        final var rows = new ArrayList<MinuteRow>();
+
+        events.forEach((id, window) -> {
+            window.seal(current - 1);
+            if (!window.quiesce()) {
+                window.drainedUpTo = window.flushedUpTo;
+                return;
+            }
+
+            final var from = Math.max(window.flushedUpTo + 1, current - minutes + 1);
+            for (long minute = from; minute < current; minute++) {
+                final var counts = window.ring.counts(minute);
+                if (counts[0] != 0 || counts[1] != 0 || counts[2] != 0) {
+                    rows.add(new MinuteRow(id, window.partnerId, Instant.ofEpochMilli(minute * MINUTE_MILLIS),
+                            counts[SalesKind.RESERVED.ordinal()], counts[SalesKind.PAID.ordinal()], counts[SalesKind.RELEASED.ordinal()]));
+                }
+            }
+            window.drainedUpTo = current - 1;
+        });
+
+        return new Drain(List.copyOf(rows), current - 1);
+    }
+
+    // Confirma a entrega de closedMinutes, até onde cada janela foi lida; janelas criadas depois da leitura só têm
+    // minutos posteriores a ela. Sem movimento por uma volta inteira do anel e já entregue, a janela é aposentada
+    // e sai da memória. A aposentadoria só vale sem incremento em andamento e bloqueia os próximos até a remoção,
+    // então um incremento concorrente cai na janela antes dela sair ou numa janela nova, nunca se perde.
+    public void markFlushed(final Drain drain) {
+        final var current = currentMinute();
+
+        events.forEach((id, window) -> {
+            window.flushedUpTo = Math.max(window.flushedUpTo, Math.min(drain.upTo(), window.drainedUpTo));
+            evictIfIdle(events, id, window, current, true);
+        });
+        partners.forEach((id, window) -> evictIfIdle(partners, id, window, current, false));
+    }
+
+    private void add(final ConcurrentMap<Long, Window> windows, final Long id, final Long partnerId, final SalesKind kind) {
+        while (true) {
+            var window = windows.get(id);
+            if (window == null) {
+                window = windows.computeIfAbsent(id, key -> new Window(partnerId, minutes));
+            }
+
+            if (window.enter()) {
+                try {
+                    // O relógio é lido depois de entrar: a leitura do minuto fechado espera este incremento
+                    window.add(Math.max(currentMinute(), window.sealedUpTo + 1), kind);
+                } finally {
+                    window.exit();
+                }
+                return;
+            }
+
+            // Janela aposentada: em instantes ela sai do mapa ou volta a aceitar incrementos
+            Thread.onSpinWait();
+        }
+    }
+
+    private void evictIfIdle(
+            final ConcurrentMap<Long, Window> windows,
+            final Long id,
+            final Window window,
+            final long current,
+            final boolean flushed
+    ) {
+        if (!window.idle(current, minutes, flushed) || !window.retire()) {
+            return;
+        }
+
+        // Um incremento pode ter terminado entre a primeira verificação e a aposentadoria
+        if (window.idle(current, minutes, flushed)) {
+            windows.remove(id, window);
+        } else {
+            window.reopen();
+        }
+    }
+
+    private Stats stats(final Long id, final Window window, final LongAdder sold, final int lastMinutes) {
+        final var span = Math.max(1, Math.min(lastMinutes, minutes));
+        final var current = currentMinute();
+        final var series = new ArrayList<MinuteStats>(span);
+        long reserved = 0;
+        long paid = 0;
+        long released = 0;
+
+        for (long minute = current - span + 1; minute <= current; minute++) {
+            final var counts = window != null ? window.ring.counts(minute) : new long[SalesKind.values().length];
+            final var minuteStats = new MinuteStats(Instant.ofEpochMilli(minute * MINUTE_MILLIS),
+                    counts[SalesKind.RESERVED.ordinal()], counts[SalesKind.PAID.ordinal()], counts[SalesKind.RELEASED.ordinal()]);
+
+            series.add(minuteStats);
+            reserved += minuteStats.reserved();
+            paid += minuteStats.paid();
+            released += minuteStats.released();
+        }
+
+        final var conversion = reserved == 0 ? 0.0 : (double) paid / reserved;
+        return new Stats(id, sold != null ? sold.sum() : 0, reserved, paid, released, conversion, series);
+    }
+
+    private long currentMinute() {
+        return Math.floorDiv(clock.millis(), MINUTE_MILLIS);
+    }
+
+    private static LongAdder adder(final ConcurrentMap<Long, LongAdder> adders, final Long id) {
+        return adders.computeIfAbsent(id, key -> new LongAdder());
+    }
+
+    public record Stats(
+            Long id,
+            long cumulativeSold,
+            long reserved,
+            long paid,
+            long released,
+            double conversion,
+            List<MinuteStats> minutes
+    ) {
+    }
+
+    public record MinuteStats(Instant minute, long reserved, long paid, long released) {
+    }
+
+    public record Drain(List<MinuteRow> rows, long upTo) {
+    }
+
+    public record MinuteRow(Long eventId, Long partnerId, Instant minute, long reserved, long paid, long released) {
+    }
+
+    private static final class Window {
+
+        private static final int RETIRED = Integer.MIN_VALUE;
+
+        private final Long partnerId;
+        private final MinuteRing ring;
+        // Incrementos em andamento, ou RETIRED enquanto markFlushed decide a remoção
+        private final AtomicInteger writers;
+        private volatile long lastMinute;
+        private volatile long sealedUpTo;
+        private volatile long drainedUpTo;
+        private volatile long flushedUpTo;
+
+        private Window(final Long partnerId, final int minutes) {
+            this.partnerId = partnerId;
+            this.ring = new MinuteRing(minutes);
+            this.writers = new AtomicInteger();
+            this.lastMinute = Long.MIN_VALUE;
+            this.sealedUpTo = Long.MIN_VALUE / 2;
+            this.drainedUpTo = Long.MIN_VALUE / 2;
+            this.flushedUpTo = Long.MIN_VALUE / 2;
+        }
+
+        private boolean enter() {
+            while (true) {
+                final var current = writers.get();
+                if (current == RETIRED) {
+                    return false;
+                }
+                if (writers.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void exit() {
+            writers.decrementAndGet();
+        }
+
+        private void seal(final long minute) {
+            if (minute > sealedUpTo) {
+                sealedUpTo = minute;
+            }
+        }
+
+        // Os incrementos seguram o contador por nanossegundos; um zero observado basta
+        private boolean quiesce() {
+            for (int spins = 0; spins < QUIESCE_SPINS; spins++) {
+                if (writers.get() == 0) {
+                    return true;
+                }
+                Thread.onSpinWait();
+            }
+            return false;
+        }
+
+        private boolean idle(final long current, final int minutes, final boolean flushed) {
+            return lastMinute < current - minutes && (!flushed || flushedUpTo >= lastMinute);
+        }
+
+        private boolean retire() {
+            return writers.compareAndSet(0, RETIRED);
+        }
+
+        private void reopen() {
+            writers.set(0);
+        }
+
+        private void add(final long minute, final SalesKind kind) {
+            ring.add(minute, kind);
+            if (minute > lastMinute) {
+                lastMinute = minute;
+            }
+        }
+    }
+}
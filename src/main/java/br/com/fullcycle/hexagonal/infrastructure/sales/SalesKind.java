@@ -0,0 +1,26 @@
+package br.com.fullcycle.hexagonal.infrastructure.sales;
+
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+
+import java.util.Optional;
+
+public enum SalesKind {
+    RESERVED, PAID, RELEASED;
+
+    // from == null significa um ingresso novo
+    public static Optional<SalesKind> of(final TicketStatus from, final TicketStatus to) {
+        if (to == TicketStatus.PAID && from != TicketStatus.PAID) {
+            return Optional.of(PAID);
+        }
+
+        if (from == null && to != null && to.holdsSeat()) {
+            return Optional.of(RESERVED);
+        }
+
+        if (from != null && from.holdsSeat() && to != null && !to.holdsSeat()) {
+            return Optional.of(RELEASED);
+        }
+
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,366 @@
+package br.com.fullcycle.hexagonal.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// Índice de prefixo dos nomes de clientes. A base é um vetor ordenado de posições (cliente, início de palavra)
+// sobre os nomes normalizados, consultado por busca binária: "silva" encontra "João da Silva" sem guardar uma
+// string por palavra, só um long. Clientes novos entram num delta ordenado e pequeno, que a compactação funde
+// na base de tempos em tempos; as buscas leem a base e o delta sem travar.
+public class CustomerNameIndex {
+
+    private static final int OFFSET_BITS = 16;
+    private static final int MAX_OFFSET = (1 << OFFSET_BITS) - 1;
+    private static final int INSERTION_SORT_THRESHOLD = 12;
+
+    // Estimativas de layout da JVM de 64 bits com compressed oops, usadas só no relatório de memória
+    private static final long STRING_BYTES = 48;
+    private static final long DELTA_ENTRY_BYTES = 96;
+
+    private static final Comparator<Posting> POSTING_ORDER = (a, b) -> {
+        final var compared = compare(a.name(), a.offset(), b.name(), b.offset());
+        return compared != 0 ? compared : Long.compare(a.id(), b.id());
+    };
+
+    private final int minCompaction;
+    private final Object compactionLock;
+    private volatile State state;
+
+    public CustomerNameIndex(final int minCompaction) {
+        this.minCompaction = minCompaction;
+        this.compactionLock = new Object();
+        this.state = new State(Snapshot.EMPTY, new ConcurrentSkipListSet<>(POSTING_ORDER));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Substitui a base; o que já estava no delta continua lá e as repetições somem na busca e na compactação
+    public void load(final Builder builder) {
+        final var snapshot = builder.build();
+        synchronized (compactionLock) {
+            synchronized (this) {
+                state = new State(snapshot, state.delta());
+            }
+        }
+    }
+
+    public synchronized void add(final long id, final String name) {
+        final var normalized = normalize(name);
+        for (final var offset : wordStarts(normalized)) {
+            state.delta().add(new Posting(normalized, offset, id));
+        }
+    }
+
+    // Até limit clientes distintos em ordem alfabética do trecho que casou com o prefixo
+    public List<Long> search(final String prefix, final int limit) {
+        final var key = queryKey(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        final var current = state;
+        final var base = current.base();
+        final var delta = current.delta().tailSet(new Posting(key, 0, Long.MIN_VALUE), true).iterator();
+
+        final var ids = new LinkedHashSet<Long>();
+        var position = base.lowerBound(key);
+        var pending = delta.hasNext() ? delta.next() : null;
+
+        while (ids.size() < limit) {
+            final var fromBase = position < base.entries().length && base.startsWith(position, key);
+            final var fromDelta = pending != null && pending.name().startsWith(key, pending.offset());
+
+            if (!fromBase && !fromDelta) {
+                break;
+            }
+
+            if (fromBase && (!fromDelta || base.compareTo(position, pending) <= 0)) {
+                ids.add(base.ids()[base.slot(position)]);
+                position++;
+            } else {
+                ids.add(pending.id());
+                pending = delta.hasNext() ? delta.next() : null;
+            }
+        }
+
+        return List.copyOf(ids);
+    }
+
+    public boolean needsCompaction() {
+        final var current = state;
+        return current.delta().size() >= Math.max(minCompaction, current.base().entries().length / 16);
+    }
+
+    // A nova base é montada sem travar quem inclui clientes; na troca, fica no delta só o que chegou durante a montagem
+    public void compact() {
+        synchronized (compactionLock) {
+            final var current = state;
+            final var merged = List.copyOf(current.delta());
+            if (merged.isEmpty()) {
+                return;
+            }
+
+            final var added = new TreeMap<Long, String>();
+            merged.forEach(posting -> added.putIfAbsent(posting.id(), posting.name()));
+
+            final var builder = new Builder();
+            final var base = current.base();
+            var next = added.pollFirstEntry();
+            for (int slot = 0; slot < base.ids().length; slot++) {
+                while (next != null && next.getKey() < base.ids()[slot]) {
+                    builder.addNormalized(next.getKey(), next.getValue());
+                    next = added.pollFirstEntry();
+                }
+                if (next != null && next.getKey() == base.ids()[slot]) {
+                    next = added.pollFirstEntry();
+                }
+                builder.addNormalized(base.ids()[slot], base.names()[slot]);
+            }
+            for (; next != null; next = added.pollFirstEntry()) {
+                builder.addNormalized(next.getKey(), next.getValue());
+            }
+
+            final var snapshot = builder.build();
+            synchronized (this) {
+                final var remaining = new ConcurrentSkipListSet<>(POSTING_ORDER);
+                remaining.addAll(state.delta());
+                merged.forEach(remaining::remove);
+                state = new State(snapshot, remaining);
+            }
+        }
+    }
+
+    public int customers() {
+        return state.base().ids().length;
+    }
+
+    public int pending() {
+        return state.delta().size();
+    }
+
+    public long estimatedBytes() {
+        final var current = state;
+        return current.base().bytes() + DELTA_ENTRY_BYTES * current.delta().size();
+    }
+
+    // Palavras normalizadas separadas por um espaço: "  JOÃO  da Silva" -> "joao da silva"
+    private static String normalize(final String name) {
+        return String.join(" ", TextNormalizer.words(name));
+    }
+
+    // Conectivos no início da consulta são ignorados, já que não há posição começando neles
+    private static String queryKey(final String prefix) {
+        final var words = TextNormalizer.words(prefix);
+        int first = 0;
+        while (first < words.size() - 1 && TextNormalizer.isStopWord(words.get(first))) {
+            first++;
+        }
+        return String.join(" ", words.subList(first, words.size()));
+    }
+
+    private static int[] wordStarts(final String normalized) {
+        final var starts = new ArrayList<Integer>();
+        int start = 0;
+        while (start < normalized.length() && start <= MAX_OFFSET) {
+            var end = normalized.indexOf(' ', start);
+            end = end < 0 ? normalized.length() : end;
+
+            if (!TextNormalizer.isStopWord(normalized.substring(start, end))) {
+                starts.add(start);
+            }
+            start = end + 1;
+        }
+
+        if (starts.isEmpty() && !normalized.isEmpty()) {
+            starts.add(0);
+        }
+        return starts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int compare(final String a, final int aOffset, final String b, final int bOffset) {
+        final var aLength = a.length() - aOffset;
+        final var bLength = b.length() - bOffset;
+        final var length = Math.min(aLength, bLength);
+
+        for (int i = 0; i < length; i++) {
+            final var compared = a.charAt(aOffset + i) - b.charAt(bOffset + i);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return aLength - bLength;
+    }
+
+    // Quicksort de três vias por caractere (Bentley-Sedgewick): os trechos dividem prefixos longos ("silva ...")
+    // e cada caractere é comparado uma vez por nível, sem objetos por entrada. Trechos iguais ficam na ordem
+    // do slot, que é a ordem de id.
+    private static void sort(final long[] entries, final String[] names, int low, int high, int depth) {
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            final var pivot = charAt(entries[(low + high) >>> 1], names, depth);
+            var lessThan = low;
+            var greaterThan = high - 1;
+            var i = low;
+
+            while (i <= greaterThan) {
+                final var current = charAt(entries[i], names, depth);
+                if (current < pivot) {
+                    swap(entries, lessThan++, i++);
+                } else if (current > pivot) {
+                    swap(entries, i, greaterThan--);
+                } else {
+                    i++;
+                }
+            }
+
+            sort(entries, names, low, lessThan, depth);
+            sort(entries, names, greaterThan + 1, high, depth);
+
+            if (pivot < 0) {
+                Arrays.sort(entries, lessThan, greaterThan + 1);
+                return;
+            }
+
+            low = lessThan;
+            high = greaterThan + 1;
+            depth++;
+        }
+
+        for (int i = low + 1; i < high; i++) {
+            final var entry = entries[i];
+            var j = i;
+            while (j > low && compareEntries(entries[j - 1], entry, names, depth) > 0) {
+                entries[j] = entries[j - 1];
+                j--;
+            }
+            entries[j] = entry;
+        }
+    }
+
+    private static int compareEntries(final long a, final long b, final String[] names, final int depth) {
+        final var compared = compare(
+                names[(int) (a >>> OFFSET_BITS)], (int) (a & MAX_OFFSET) + depth,
+                names[(int) (b >>> OFFSET_BITS)], (int) (b & MAX_OFFSET) + depth);
+        return compared != 0 ? compared : Long.compare(a, b);
+    }
+
+    private static int charAt(final long entry, final String[] names, final int depth) {
+        final var name = names[(int) (entry >>> OFFSET_BITS)];
+        final var index = (int) (entry & MAX_OFFSET) + depth;
+        return index < name.length() ? name.charAt(index) : -1;
+    }
+
+    private static void swap(final long[] entries, final int i, final int j) {
+        final var entry = entries[i];
+        entries[i] = entries[j];
+        entries[j] = entry;
+    }
+
+    private record State(Snapshot base, NavigableSet<Posting> delta) {
+    }
+
+    private record Posting(String name, int offset, long id) {
+    }
+
+    // ids e names são indexados pelo slot do cliente, em ordem de id; cada entrada é slot << 16 | início da palavra
+    private record Snapshot(long[] ids, String[] names, long[] entries, long bytes) {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new String[0], new long[0], 0);
+
+        int slot(final int position) {
+            return (int) (entries[position] >>> OFFSET_BITS);
+        }
+
+        int offset(final int position) {
+            return (int) (entries[position] & MAX_OFFSET);
+        }
+
+        boolean startsWith(final int position, final String key) {
+            return names[slot(position)].startsWith(key, offset(position));
+        }
+
+        int compareTo(final int position, final Posting posting) {
+            final var compared = compare(names[slot(position)], offset(position), posting.name(), posting.offset());
+            return compared != 0 ? compared : Long.compare(ids[slot(position)], posting.id());
+        }
+
+        // Primeira entrada cujo trecho é maior ou igual à chave
+        int lowerBound(final String key) {
+            int low = 0;
+            int high = entries.length;
+            while (low < high) {
+                final var middle = (low + high) >>> 1;
+                if (compare(names[slot(middle)], offset(middle), key, 0) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    // Recebe os clientes em ordem crescente de id, como na leitura da tabela pela chave primária
+    public static class Builder {
+
+        private long[] ids = new long[1024];
+        private String[] names = new String[1024];
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(final long id, final String name) {
+            return addNormalized(id, normalize(name));
+        }
+
+        private Builder addNormalized(final long id, final String normalized) {
+            if (size > 0 && id <= ids[size - 1]) {
+                throw new IllegalArgumentException("Customers must be added in ascending id order");
+            }
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                names = Arrays.copyOf(names, size * 2);
+            }
+
+            ids[size] = id;
+            names[size] = normalized;
+            size++;
+            return this;
+        }
+
+        private Snapshot build() {
+            final var slotIds = Arrays.copyOf(ids, size);
+            final var slotNames = Arrays.copyOf(names, size);
+
+            var count = 0;
+            var bytes = 0L;
+            final var starts = new int[size][];
+            for (int slot = 0; slot < size; slot++) {
+                starts[slot] = wordStarts(slotNames[slot]);
+                count += starts[slot].length;
+                bytes += Long.BYTES + STRING_BYTES + slotNames[slot].length();
+            }
+
+            final var entries = new long[count];
+            var position = 0;
+            for (int slot = 0; slot < size; slot++) {
+                for (final var offset : starts[slot]) {
+                    entries[position++] = ((long) slot << OFFSET_BITS) | offset;
+                }
+            }
+
+            sort(entries, slotNames, 0, count, 0);
+
+            return new Snapshot(slotIds, slotNames, entries, bytes + (long) Long.BYTES * count);
+        }
+    }
+}
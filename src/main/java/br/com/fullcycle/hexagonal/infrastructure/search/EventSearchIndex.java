@@ -0,0 +1,319 @@
+package br.com.fullcycle.hexagonal.infrastructure.search;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Índice invertido dos nomes de eventos. O dicionário de termos é ordenado, então todos os termos que
+// começam com um prefixo formam um intervalo contíguo (subMap); cada termo aponta para um long[] ordenado
+// de ids, trocado por cópia a cada inclusão: eventos são criados raramente e buscados o tempo todo, então as
+// escritas são serializadas e as buscas não travam. A carga inicial monta as listas num Builder e ordena cada
+// uma uma única vez. Cada palavra da consulta casa por prefixo e todas precisam casar (AND); as listas de ids
+// são unidas e intersectadas como arrays ordenados, sem boxing, e só os limit mais próximos são ordenados.
+public class EventSearchIndex {
+
+    // Estimativas de layout da JVM de 64 bits com compressed oops, usadas só no relatório de memória
+    private static final long SKIP_LIST_ENTRY_BYTES = 64;
+    private static final long STRING_BYTES = 40;
+    private static final long ARRAY_HEADER_BYTES = 16;
+    private static final long DOCUMENT_BYTES = 120;
+
+    // Prefixos de uma letra cobrem boa parte do dicionário; palavras assim só filtram os candidatos das demais
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private static final long[] NO_IDS = new long[0];
+
+    private final ConcurrentNavigableMap<String, long[]> postings;
+    private final ConcurrentMap<Long, EventDTO> documents;
+    private final AtomicLong estimatedBytes;
+
+    public EventSearchIndex() {
+        this.postings = new ConcurrentSkipListMap<>();
+        this.documents = new ConcurrentHashMap<>();
+        this.estimatedBytes = new AtomicLong();
+    }
+
+    // Idempotente: a carga inicial e a indexação após o commit podem ver o mesmo evento
+    public synchronized void index(final EventDTO event) {
+        if (documents.putIfAbsent(event.id(), event) != null) {
+            return;
+        }
+
+        long bytes = DOCUMENT_BYTES + (event.name() != null ? event.name().length() : 0);
+        for (final var term : new HashSet<>(TextNormalizer.tokens(event.name()))) {
+            final var current = postings.get(term);
+            if (current == null) {
+                postings.put(term, new long[]{event.id()});
+                bytes += SKIP_LIST_ENTRY_BYTES + STRING_BYTES + term.length() + ARRAY_HEADER_BYTES + Long.BYTES;
+            } else {
+                postings.put(term, insert(current, event.id()));
+                bytes += Long.BYTES;
+            }
+        }
+        estimatedBytes.addAndGet(bytes);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Funde uma carga em lote no índice. Eventos que entraram pelo commit durante a carga continuam valendo
+    // e as repetições são descartadas na fusão de cada lista.
+    public synchronized void load(final Builder builder) {
+        long bytes = 0;
+        for (final var event : builder.documents.values()) {
+            if (documents.putIfAbsent(event.id(), event) == null) {
+                bytes += DOCUMENT_BYTES + (event.name() != null ? event.name().length() : 0);
+            }
+        }
+
+        for (final var entry : builder.postings.entrySet()) {
+            final var term = entry.getKey();
+            final var loaded = entry.getValue().sorted();
+            final var current = postings.get(term);
+
+            if (current == null) {
+                postings.put(term, loaded);
+                bytes += SKIP_LIST_ENTRY_BYTES + STRING_BYTES + term.length() + ARRAY_HEADER_BYTES + (long) Long.BYTES * loaded.length;
+            } else {
+                final var merged = union(current, loaded);
+                postings.put(term, merged);
+                bytes += (long) Long.BYTES * (merged.length - current.length);
+            }
+        }
+        estimatedBytes.addAndGet(bytes);
+    }
+
+    // Mais próximos da data de referência primeiro (futuros ou passados), depois pelo id.
+    // Conectivos são ignorados, exceto na última palavra, que ainda pode estar sendo digitada ("com" de
+    // "comédia"): ela casa por prefixo quando isso ainda deixa algum resultado.
+    public List<EventDTO> search(final String query, final LocalDate reference, final int limit) {
+        final var words = TextNormalizer.words(query);
+        if (words.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        final var typing = words.get(words.size() - 1);
+        final var shortWords = new ArrayList<String>();
+        long[] matches = null;
+
+        for (final var word : words) {
+            if (TextNormalizer.isStopWord(word)) {
+                continue;
+            }
+            if (word.length() < MIN_PREFIX_LENGTH) {
+                shortWords.add(word);
+                continue;
+            }
+
+            final var ids = idsWithPrefix(word);
+            matches = matches == null ? ids : intersect(matches, ids);
+            if (matches.length == 0) {
+                return List.of();
+            }
+        }
+
+        if (TextNormalizer.isStopWord(typing) && typing.length() >= MIN_PREFIX_LENGTH) {
+            final var ids = idsWithPrefix(typing);
+            final var narrowed = matches == null ? ids : intersect(matches, ids);
+            if (matches == null || narrowed.length > 0) {
+                matches = narrowed;
+            }
+        }
+
+        if (matches == null) {
+            return List.of();
+        }
+
+        final var referenceDay = reference.toEpochDay();
+        final var order = Comparator.<EventDTO>comparingLong(event -> distance(event, referenceDay)).thenComparing(EventDTO::id);
+        final var top = new PriorityQueue<EventDTO>(Math.min(limit, matches.length) + 1, order.reversed());
+
+        for (final var id : matches) {
+            final var event = documents.get(id);
+            if (!shortWords.isEmpty() && !hasPrefixes(event, shortWords)) {
+                continue;
+            }
+
+            top.add(event);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        final var result = new ArrayList<>(top);
+        result.sort(order);
+        return result;
+    }
+
+    public int documents() {
+        return documents.size();
+    }
+
+    public int terms() {
+        return postings.size();
+    }
+
+    public long estimatedBytes() {
+        return estimatedBytes.get();
+    }
+
+    // União ordenada e sem repetições das listas de todos os termos com o prefixo
+    private long[] idsWithPrefix(final String prefix) {
+        final var lists = new ArrayList<long[]>();
+        var total = 0;
+        for (final var postingList : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            lists.add(postingList);
+            total += postingList.length;
+        }
+
+        if (lists.isEmpty()) {
+            return NO_IDS;
+        }
+        if (lists.size() == 1) {
+            return lists.get(0);
+        }
+
+        final var ids = new long[total];
+        var position = 0;
+        for (final var postingList : lists) {
+            System.arraycopy(postingList, 0, ids, position, postingList.length);
+            position += postingList.length;
+        }
+        Arrays.sort(ids);
+        return distinct(ids, ids.length);
+    }
+
+    private static boolean hasPrefixes(final EventDTO event, final List<String> prefixes) {
+        final var tokens = TextNormalizer.tokens(event.name());
+        for (final var prefix : prefixes) {
+            if (tokens.stream().noneMatch(token -> token.startsWith(prefix))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Percorre a lista menor e procura cada id na maior por busca binária, a partir do último encontrado
+    private static long[] intersect(final long[] a, final long[] b) {
+        final var smaller = a.length <= b.length ? a : b;
+        final var larger = smaller == a ? b : a;
+        final var result = new long[smaller.length];
+        var size = 0;
+        var from = 0;
+
+        for (final var id : smaller) {
+            final var position = Arrays.binarySearch(larger, from, larger.length, id);
+            if (position >= 0) {
+                result[size++] = id;
+                from = position + 1;
+            } else {
+                from = -position - 1;
+            }
+            if (from == larger.length) {
+                break;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private static long[] union(final long[] a, final long[] b) {
+        final var merged = new long[a.length + b.length];
+        var i = 0;
+        var j = 0;
+        var size = 0;
+
+        while (i < a.length || j < b.length) {
+            final long next;
+            if (j == b.length || (i < a.length && a[i] <= b[j])) {
+                next = a[i++];
+            } else {
+                next = b[j++];
+            }
+            if (size == 0 || merged[size - 1] != next) {
+                merged[size++] = next;
+            }
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    private static long[] distinct(final long[] sorted, final int length) {
+        var size = 0;
+        for (int i = 0; i < length; i++) {
+            if (size == 0 || sorted[size - 1] != sorted[i]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+
+    private static long distance(final EventDTO event, final long referenceDay) {
+        return event.date() != null ? Math.abs(event.date().toEpochDay() - referenceDay) : Long.MAX_VALUE;
+    }
+
+    private static long[] insert(final long[] current, final long id) {
+        final var position = Arrays.binarySearch(current, id);
+        if (position >= 0) {
+            return current;
+        }
+
+        final var insertAt = -position - 1;
+        final var merged = new long[current.length + 1];
+        System.arraycopy(current, 0, merged, 0, insertAt);
+        merged[insertAt] = id;
+        System.arraycopy(current, insertAt, merged, insertAt + 1, current.length - insertAt);
+        return merged;
+    }
+
+    // Acumula os ids de cada termo em arrays que só crescem; a ordenação acontece uma vez, no load
+    public static class Builder {
+
+        private final Map<Long, EventDTO> documents = new HashMap<>();
+        private final Map<String, Postings> postings = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(final EventDTO event) {
+            if (documents.putIfAbsent(event.id(), event) != null) {
+                return this;
+            }
+
+            for (final var term : new HashSet<>(TextNormalizer.tokens(event.name()))) {
+                postings.computeIfAbsent(term, key -> new Postings()).add(event.id());
+            }
+            return this;
+        }
+    }
+
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        private void add(final long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        private long[] sorted() {
+            Arrays.sort(ids, 0, size);
+            return distinct(ids, size);
+        }
+    }
+}
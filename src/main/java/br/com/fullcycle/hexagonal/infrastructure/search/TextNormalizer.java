@@ -0,0 +1,58 @@
+package br.com.fullcycle.hexagonal.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Normalização compartilhada pelos índices em memória: minúsculas, sem acentos ("São João" -> "sao joao")
+// e tokens separados por qualquer caractere que não seja letra ou dígito.
+public final class TextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Conectivos do português que aparecem em quase todo nome e não ajudam a distinguir eventos
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "o", "as", "os", "e", "de", "da", "do", "das", "dos", "em", "na", "no", "nas", "nos", "com", "para"
+    );
+
+    private TextNormalizer() {
+    }
+
+    public static String fold(final String text) {
+        if (text == null) {
+            return "";
+        }
+
+        final var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    public static List<String> tokens(final String text) {
+        final var tokens = new ArrayList<String>();
+        for (final var word : words(text)) {
+            if (!isStopWord(word)) {
+                tokens.add(word);
+            }
+        }
+        return tokens;
+    }
+
+    // Todas as palavras, inclusive os conectivos, na ordem em que aparecem
+    public static List<String> words(final String text) {
+        final var words = new ArrayList<String>();
+        for (final var word : SEPARATORS.split(fold(text))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    public static boolean isStopWord(final String word) {
+        return STOP_WORDS.contains(word);
+    }
+}
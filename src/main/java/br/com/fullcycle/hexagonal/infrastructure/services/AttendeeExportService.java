@@ -0,0 +1,74 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.AttendeeDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+// Lê os participantes de um evento por um cursor JDBC somente-avanço, entregando uma linha por vez.
+// Nada passa pelo contexto de persistência do Hibernate, então a memória não cresce com o tamanho do evento.
+// No MySQL o fetch size só vira cursor no servidor com useCursorFetch=true, ligado apenas no pool da
+// partição EXPORTS para não abrir cursores em todas as consultas da aplicação.
+@Service
+public class AttendeeExportService {
+
+    private static final String ATTENDEES_QUERY = """
+            select t.id, c.name, c.email, t.status, t.reserved_at
+            from tickets t
+            join customers c on c.id = t.customer_id
+            where t.event_id = ?
+            order by t.id
+            """;
+
+    private static final String ARCHIVED_ATTENDEES_QUERY = """
+            select a.id, c.name, c.email, a.status, a.reserved_at
+            from tickets_archive a
+            join customers c on c.id = a.customer_id
+            where a.event_id = ?
+            order by a.id
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${attendee-export.fetch-size:1000}")
+    private int fetchSize;
+
+    // O arquivador move os ingressos dos menores ids para os maiores, então ler o arquivo antes da tabela
+    // quente mantém a ordem por id mesmo com um evento parcialmente arquivado. As duas leituras dividem
+    // uma transação para verem o mesmo snapshot, sem perder um lote movido entre elas.
+    @Transactional(readOnly = true)
+    public void streamAttendees(Long eventId, Consumer<AttendeeDTO> consumer) {
+        stream(ARCHIVED_ATTENDEES_QUERY, eventId, consumer);
+        stream(ATTENDEES_QUERY, eventId, consumer);
+    }
+
+    private void stream(final String sql, final Long eventId, final Consumer<AttendeeDTO> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    final var statement = connection.prepareStatement(
+                            sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    statement.setLong(1, eventId);
+                    return statement;
+                },
+                (ResultSet rs) -> {
+                    final var reservedAt = rs.getTimestamp(5);
+                    final var status = rs.getString(4);
+                    consumer.accept(new AttendeeDTO(
+                            rs.getLong(1),
+                            rs.getString(2),
+                            rs.getString(3),
+                            status != null ? TicketStatus.valueOf(status) : null,
+                            reservedAt != null ? reservedAt.toInstant() : null
+                    ));
+                }
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import br.com.fullcycle.hexagonal.infrastructure.models.Customer;
+import br.com.fullcycle.hexagonal.infrastructure.search.CustomerNameIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+// Busca de clientes por prefixo do nome, respondida só pelo índice em memória; devolve ids
+@Service
+public class CustomerSearchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CustomerSearchService.class);
+
+    private static final String LOAD = "select id, name from customers order by id";
+
+    @Autowired
+    private CustomerNameIndex customerNameIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${search.customers.load-fetch-size:1000}")
+    private int loadFetchSize;
+
+    public List<Long> search(String prefix, int limit) {
+        return customerNameIndex.search(prefix, limit);
+    }
+
+    // Clientes de uma transação revertida não podem aparecer na busca
+    public void customerCreated(Customer customer) {
+        final var id = customer.getId();
+        final var name = customer.getName();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            customerNameIndex.add(id, name);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                customerNameIndex.add(id, name);
+            }
+        });
+    }
+
+    // Carga única pela chave primária; clientes criados durante a carga entram pelo commit
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final var builder = CustomerNameIndex.builder();
+
+        jdbcTemplate.query(
+                connection -> {
+                    final var statement = connection.prepareStatement(
+                            LOAD, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(loadFetchSize);
+                    return statement;
+                },
+                (ResultSet rs) -> {
+                    builder.add(rs.getLong(1), rs.getString(2));
+                }
+        );
+
+        customerNameIndex.load(builder);
+        LOG.info("Indexed {} customers for name search (~{} KiB)",
+                customerNameIndex.customers(), customerNameIndex.estimatedBytes() / 1024);
+    }
+
+    // A base é remontada fora das requisições; até lá os clientes novos ficam no delta do índice
+    @Scheduled(fixedDelayString = "${search.customers.compaction-interval:PT1M}")
+    public void compact() {
+        if (customerNameIndex.needsCompaction()) {
+            customerNameIndex.compact();
+        }
+    }
+}
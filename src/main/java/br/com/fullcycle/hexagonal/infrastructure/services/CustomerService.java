@@ -1,11 +1,16 @@
 package br.com.fullcycle.hexagonal.infrastructure.services;
 
+import br.com.fullcycle.hexagonal.infrastructure.dtos.CustomerDTO;
 import br.com.fullcycle.hexagonal.infrastructure.models.Customer;
+import br.com.fullcycle.hexagonal.infrastructure.observability.RepositoryCallEvent;
 import br.com.fullcycle.hexagonal.infrastructure.repositories.CustomerRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -14,21 +19,43 @@ public class CustomerService {
     @Autowired
     private CustomerRepository repository;
 
+    @Autowired
+    private CustomerSearchService customerSearchService;
+
     @Transactional
     public Customer save(Customer customer) {
-        return repository.save(customer);
+        final var created = customer.getId() == null;
+        final var saved = RepositoryCallEvent.timed("CustomerService.save", null, customer.getId(), () -> repository.save(customer));
+
+        if (created) {
+            customerSearchService.customerCreated(saved);
+        }
+        return saved;
     }
 
     public Optional<Customer> findById(Long id) {
-        return repository.findById(id);
+        return RepositoryCallEvent.timed("CustomerService.findById", null, id, () -> repository.findById(id));
+    }
+
+    public Iterable<Customer> findAllById(Collection<Long> ids) {
+        return RepositoryCallEvent.timed("CustomerService.findAllById", null, null, () -> repository.findAllById(ids));
+    }
+
+    public List<CustomerDTO> findCustomersByIds(Collection<Long> ids) {
+        return RepositoryCallEvent.timed("CustomerService.findCustomersByIds", null, null, () -> repository.findDTOsByIdIn(ids));
+    }
+
+    public List<CustomerDTO> findPage(Long afterId, int limit) {
+        return RepositoryCallEvent.timed("CustomerService.findPage", null, null,
+                () -> repository.findPage(afterId, PageRequest.of(0, limit)));
     }
 
     public Optional<Customer> findByCpf(String cpf) {
-        return repository.findByCpf(cpf);
+        return RepositoryCallEvent.timed("CustomerService.findByCpf", null, null, () -> repository.findByCpf(cpf));
     }
 
     public Optional<Customer> findByEmail(String email) {
-        return repository.findByEmail(email);
+        return RepositoryCallEvent.timed("CustomerService.findByEmail", null, null, () -> repository.findByEmail(email));
     }
 
 }
@@ -0,0 +1,20 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Cada lote é uma transação própria: a marca d'água avança lote a lote e uma falha não desfaz o que já foi agregado
+@Component
+public class DailySalesRollupJob {
+
+    @Autowired
+    private DailySalesRollupService dailySalesRollupService;
+
+    @Scheduled(fixedDelayString = "${analytics.rollup.interval:PT5M}")
+    public void rollup() {
+        while (dailySalesRollupService.rollupBatch()) {
+            // continua enquanto os lotes vierem cheios
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventAvailabilityDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.AvailabilityStatus;
+import br.com.fullcycle.hexagonal.infrastructure.models.Event;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import br.com.fullcycle.hexagonal.infrastructure.observability.RepositoryCallEvent;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.EventAvailabilityRepository;
+import br.com.fullcycle.hexagonal.infrastructure.sales.SalesCounters;
+import br.com.fullcycle.hexagonal.infrastructure.streaming.AvailabilityBroadcaster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+// Projeção de disponibilidade dos eventos. A tabela event_availability recebe incrementos atômicos na mesma
+// transação que cria o evento ou muda o ingresso; o mapa em memória é só uma cópia, renovada após o commit
+// e reconstruída a partir da tabela sob demanda. Nenhuma leitura passa pela tabela de tickets.
+//
+// Com várias instâncias, os commits de uma não passam pelo afterCommit das outras: cada cópia vale por
+// availability.cache-ttl, e os eventos com assinantes são relidos em lote a cada availability.refresh-interval.
+@Service
+public class EventAvailabilityService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventAvailabilityService.class);
+
+    // Recuperação: eventos sem linha na projeção (anteriores a ela ou gravados por fora dos serviços)
+    // são calculados uma única vez a partir dos ingressos
+    private static final String BACKFILL = """
+            insert into event_availability (event_id, partner_id, total_spots, sold, held, status, version)
+            select e.id, e.partner_id, e.total_spots, coalesce(s.sold, 0), coalesce(s.held, 0),
+                   case when coalesce(s.sold, 0) + coalesce(s.held, 0) >= e.total_spots then 'SOLD_OUT' else 'AVAILABLE' end,
+                   0
+            from events e
+            left join (
+                select t.event_id,
+                       sum(case when t.status = 'PAID' then 1 else 0 end) as sold,
+                       sum(case when t.status in ('PENDING', 'PROCESSING') then 1 else 0 end) as held
+                from tickets t
+                group by t.event_id
+            ) s on s.event_id = e.id
+            where not exists (select 1 from event_availability a where a.event_id = e.id)
+            """;
+
+    private static final String INSERT = """
+            insert into event_availability (event_id, partner_id, total_spots, sold, held, status, version)
+            values (?, ?, ?, 0, 0, ?, 0)
+            """;
+
+    private final ConcurrentMap<Long, Cached> availabilities = new ConcurrentHashMap<>();
+
+    @Autowired
+    private AvailabilityBroadcaster availabilityBroadcaster;
+
+    @Autowired
+    private EventAvailabilityRepository eventAvailabilityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SalesCounters salesCounters;
+
+    @Value("${availability.cache-ttl:PT2S}")
+    private Duration cacheTtl;
+
+    public Optional<EventAvailabilityDTO> findByEventId(Long eventId) {
+        final var cached = availabilities.get(eventId);
+        if (cached != null && System.nanoTime() - cached.loadedAt() < cacheTtl.toNanos()) {
+            return Optional.of(cached.availability());
+        }
+
+        return refresh(eventId);
+    }
+
+    // Insert direto em lote: com id atribuído, o save do Spring Data faria um select antes de cada insert.
+    // O estado inicial é conhecido, então vai para a memória após o commit sem reler a linha.
+    @Transactional
+    public void eventsCreated(List<Event> events) {
+        final var created = events.stream()
+                .map(event -> new EventAvailabilityDTO(
+                        event.getId(),
+                        event.getPartner() != null ? event.getPartner().getId() : null,
+                        event.getTotalSpots(),
+                        0,
+                        0,
+                        AvailabilityStatus.of(event.getTotalSpots(), 0, 0),
+                        0))
+                .toList();
+
+        RepositoryCallEvent.timed("EventAvailabilityService.eventsCreated", null, null,
+                () -> jdbcTemplate.batchUpdate(INSERT, created, created.size(), (statement, availability) -> {
+                    statement.setLong(1, availability.eventId());
+                    statement.setObject(2, availability.partnerId());
+                    statement.setInt(3, availability.totalSpots());
+                    statement.setString(4, availability.status().name());
+                }));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.forEach(EventAvailabilityService.this::cache);
+            }
+        });
+    }
+
+    // from == null significa um ingresso novo
+    @Transactional
+    public void ticketChanged(Long eventId, TicketStatus from, TicketStatus to) {
+        final var soldDelta = sold(to) - sold(from);
+        final var heldDelta = held(to) - held(from);
+
+        if (soldDelta == 0 && heldDelta == 0) {
+            return;
+        }
+
+        RepositoryCallEvent.timed("EventAvailabilityService.ticketChanged", eventId, null,
+                () -> eventAvailabilityRepository.increment(
+                        eventId, soldDelta, heldDelta, AvailabilityStatus.SOLD_OUT, AvailabilityStatus.AVAILABLE));
+        afterCommit(eventId, availability -> salesCounters.record(availability.partnerId(), eventId, from, to));
+    }
+
+    // Inscrição: a vaga só é retida se ainda houver uma, no mesmo update que a conta
+    @Transactional
+    public boolean seatReserved(Long eventId) {
+        final var reserved = RepositoryCallEvent.timed("EventAvailabilityService.seatReserved", eventId, null,
+                () -> eventAvailabilityRepository.reserve(eventId, AvailabilityStatus.SOLD_OUT, AvailabilityStatus.AVAILABLE));
+
+        if (reserved == 0) {
+            return false;
+        }
+
+        afterCommit(eventId, availability -> salesCounters.record(availability.partnerId(), eventId, null, TicketStatus.PENDING));
+        return true;
+    }
+
+    // Mudanças confirmadas por outras instâncias chegam aos assinantes desta; só versões novas são difundidas
+    @Scheduled(fixedDelayString = "${availability.refresh-interval:PT1S}")
+    public void refreshSubscribed() {
+        final var eventIds = availabilityBroadcaster.subscribedEvents();
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        final var loaded = RepositoryCallEvent.timed("EventAvailabilityService.refreshSubscribed", null, null,
+                () -> eventAvailabilityRepository.findDTOsByIdIn(eventIds));
+
+        for (final var availability : loaded) {
+            final var previous = availabilities.get(availability.eventId());
+            final var kept = cache(availability);
+            if (previous == null || kept.version() > previous.availability().version()) {
+                availabilityBroadcaster.publish(kept);
+            }
+        }
+    }
+
+    @Transactional
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        final var inserted = jdbcTemplate.update(BACKFILL);
+        if (inserted > 0) {
+            LOG.info("Backfilled availability of {} events", inserted);
+        }
+    }
+
+    // Só o que foi confirmado chega à cópia em memória, aos assinantes e aos contadores de vendas
+    private void afterCommit(final Long eventId, final Consumer<EventAvailabilityDTO> committed) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshAndPublish(eventId, committed);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshAndPublish(eventId, committed);
+            }
+        });
+    }
+
+    private void refreshAndPublish(final Long eventId, final Consumer<EventAvailabilityDTO> committed) {
+        refresh(eventId).ifPresent(availability -> {
+            availabilityBroadcaster.publish(availability);
+            committed.accept(availability);
+        });
+    }
+
+    private Optional<EventAvailabilityDTO> refresh(final Long eventId) {
+        final var loaded = RepositoryCallEvent.timed("EventAvailabilityService.refresh", eventId, null,
+                () -> eventAvailabilityRepository.findDTOById(eventId));
+
+        return loaded.map(this::cache);
+    }
+
+    // Cópias lidas em paralelo podem chegar fora de ordem; a versão da linha decide qual fica
+    private EventAvailabilityDTO cache(final EventAvailabilityDTO availability) {
+        final var candidate = new Cached(availability, System.nanoTime());
+        return availabilities.merge(availability.eventId(), candidate,
+                (current, loaded) -> loaded.availability().version() >= current.availability().version() ? loaded : current)
+                .availability();
+    }
+
+    private static int sold(final TicketStatus status) {
+        return status == TicketStatus.PAID ? 1 : 0;
+    }
+
+    private static int held(final TicketStatus status) {
+        return status == TicketStatus.PENDING || status == TicketStatus.PROCESSING ? 1 : 0;
+    }
+
+    private record Cached(EventAvailabilityDTO availability, long loadedAt) {
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.Event;
+import br.com.fullcycle.hexagonal.infrastructure.search.EventSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+
+// Busca textual de eventos pelo nome, respondida só pelo índice em memória
+@Service
+public class EventSearchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventSearchService.class);
+
+    private static final String LOAD = "select id, name, date, total_spots, partner_id from events";
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${search.events.load-fetch-size:1000}")
+    private int loadFetchSize;
+
+    public List<EventDTO> search(String query, int limit) {
+        return eventSearchIndex.search(query, LocalDate.now(), limit);
+    }
+
+    // Eventos de uma transação revertida não podem aparecer na busca
+    public void eventsCreated(List<Event> events) {
+        final var created = events.stream()
+                .map(event -> new EventDTO(
+                        event.getId(),
+                        event.getName(),
+                        event.getDate(),
+                        event.getTotalSpots(),
+                        event.getPartner() != null ? event.getPartner().getId() : null))
+                .toList();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            created.forEach(eventSearchIndex::index);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.forEach(eventSearchIndex::index);
+            }
+        });
+    }
+
+    // Carga única percorrendo a tabela linha a linha; eventos criados durante a carga entram pelo commit.
+    // As listas de cada termo são montadas no builder e ordenadas uma vez, na fusão com o índice.
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final var builder = EventSearchIndex.builder();
+        jdbcTemplate.query(
+                connection -> {
+                    final var statement = connection.prepareStatement(
+                            LOAD, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(loadFetchSize);
+                    return statement;
+                },
+                (ResultSet rs) -> {
+                    final var date = rs.getDate(3);
+                    builder.add(new EventDTO(
+                            rs.getLong(1),
+                            rs.getString(2),
+                            date != null ? date.toLocalDate() : null,
+                            rs.getInt(4),
+                            rs.getObject(5, Long.class)
+                    ));
+                }
+        );
+        eventSearchIndex.load(builder);
+
+        LOG.info("Indexed {} events for search ({} terms, ~{} KiB)",
+                eventSearchIndex.documents(), eventSearchIndex.terms(), eventSearchIndex.estimatedBytes() / 1024);
+    }
+}
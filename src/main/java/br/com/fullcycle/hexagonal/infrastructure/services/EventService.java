@@ -1,14 +1,30 @@
 package br.com.fullcycle.hexagonal.infrastructure.services;
 
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketDTO;
 import br.com.fullcycle.hexagonal.infrastructure.models.Event;
+import br.com.fullcycle.hexagonal.infrastructure.models.Partner;
 import br.com.fullcycle.hexagonal.infrastructure.models.Ticket;
+import br.com.fullcycle.hexagonal.infrastructure.observability.RepositoryCallEvent;
 import br.com.fullcycle.hexagonal.infrastructure.repositories.EventRepository;
 import br.com.fullcycle.hexagonal.infrastructure.repositories.TicketRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.StreamSupport;
 
 @Service
 public class EventService {
@@ -16,22 +32,151 @@ public class EventService {
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private EventAvailabilityService eventAvailabilityService;
+
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private EventSearchService eventSearchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
     private TicketRepository ticketRepository;
 
+    // A projeção de disponibilidade é atualizada na mesma transação: eventos e ingressos ainda sem id
+    // são os que este save insere (os ingressos em cascata)
     @Transactional
     public Event save(Event event) {
-        return eventRepository.save(event);
+        final var created = event.getId() == null;
+        final var newTickets = event.getTickets().stream()
+                .filter(ticket -> ticket.getId() == null)
+                .map(Ticket::getStatus)
+                .toList();
+
+        final var saved = RepositoryCallEvent.timed("EventService.save", event.getId(), null, () -> {
+            try {
+                return eventRepository.save(event);
+            } catch (DataIntegrityViolationException ex) {
+                throw translate(ex, List.of(event));
+            }
+        });
+
+        if (created) {
+            eventAvailabilityService.eventsCreated(List.of(saved));
+            eventSearchService.eventsCreated(List.of(saved));
+        }
+        newTickets.forEach(status -> eventAvailabilityService.ticketChanged(saved.getId(), null, status));
+        return saved;
+    }
+
+    // Inscrição sem carregar Event.tickets: a vaga é retida na projeção e o ingresso é inserido direto,
+    // na mesma transação. Vazio se o evento lotou.
+    @Transactional
+    public Optional<Ticket> reserve(Ticket ticket) {
+        final var eventId = ticket.getEvent().getId();
+        if (!eventAvailabilityService.seatReserved(eventId)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(RepositoryCallEvent.timed("EventService.reserve", eventId, ticket.getCustomer().getId(),
+                () -> ticketRepository.save(ticket)));
+    }
+
+    @Transactional
+    public List<Event> saveAll(List<Event> events) {
+        final var created = events.stream().filter(event -> event.getId() == null).toList();
+        final var saved = RepositoryCallEvent.timed("EventService.saveAll", null, null,
+                () -> {
+                    try {
+                        return StreamSupport.stream(eventRepository.saveAll(events).spliterator(), false).toList();
+                    } catch (DataIntegrityViolationException ex) {
+                        throw translate(ex, events);
+                    }
+                });
+
+        // saveAll devolve as mesmas instâncias, agora com id
+        if (!created.isEmpty()) {
+            eventAvailabilityService.eventsCreated(created);
+            eventSearchService.eventsCreated(created);
+        }
+        return saved;
+    }
+
+    public boolean existsById(Long id) {
+        return RepositoryCallEvent.timed("EventService.existsById", id, null, () -> eventRepository.existsById(id));
     }
 
     public Optional<Event> findById(Long id) {
-        return eventRepository.findById(id);
+        return RepositoryCallEvent.timed("EventService.findById", id, null, () -> eventRepository.findById(id));
     }
     
+    public List<EventDTO> findEventsByIds(Collection<Long> ids) {
+        return RepositoryCallEvent.timed("EventService.findEventsByIds", null, null, () -> eventRepository.findDTOsByIdIn(ids));
+    }
+
+    public List<EventDTO> findPage(Long partnerId, LocalDate afterDate, Long afterId, LocalDate to, int limit) {
+        final var page = PageRequest.of(0, limit);
+        return RepositoryCallEvent.timed("EventService.findPage", null, null, () -> partnerId == null
+                ? eventRepository.findPage(afterDate, afterId, to, page)
+                : eventRepository.findPageByPartner(partnerId, afterDate, afterId, to, page));
+    }
+
     public Optional<Ticket> findTicketByEventIdAndCustomerId(Long id, Long customerId) {
-        return ticketRepository.findByEventIdAndCustomerId(id, customerId);
+        return RepositoryCallEvent.timed("EventService.findTicketByEventIdAndCustomerId", id, customerId,
+                () -> ticketRepository.findFirstByEventIdAndCustomerIdOrderByIdDesc(id, customerId));
+    }
+
+    public List<TicketDTO> findTicketPage(Long eventId, Long afterId, int limit) {
+        return RepositoryCallEvent.timed("EventService.findTicketPage", eventId, null,
+                () -> ticketRepository.findDTOPageByEventId(eventId, afterId, PageRequest.of(0, limit)));
+    }
+
+    // No máximo perEvent ingressos por evento, sempre em dois statements independentemente de quantos eventos e ingressos
+    public List<TicketDTO> findFirstTicketsByEventIds(Collection<Long> eventIds, int perEvent) {
+        return RepositoryCallEvent.timed("EventService.findFirstTicketsByEventIds", null, null, () -> {
+            final var ids = ticketRepository.findFirstIdsByEventIdIn(eventIds, perEvent).stream()
+                    .map(Number::longValue)
+                    .toList();
+            return ids.isEmpty() ? List.<TicketDTO>of() : ticketRepository.findDTOsByIdIn(ids);
+        });
+    }
+
+    // Só a violação da FK do parceiro vira "Partner not found"; as demais (unicidade, nulos, outras FKs) seguem adiante.
+    // Bancos criados antes do nome fixo mantêm o nome gerado pelo Hibernate: sem o nome na mensagem, os parceiros
+    // são conferidos direto pelo JDBC, já que a sessão do Hibernate não deve ser usada depois da falha.
+    private RuntimeException translate(final DataIntegrityViolationException ex, final Collection<Event> events) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            final var constraint = cause instanceof ConstraintViolationException violation
+                    ? violation.getConstraintName()
+                    : cause.getMessage();
+
+            if (constraint != null && constraint.toLowerCase(Locale.ROOT).contains(Event.PARTNER_FOREIGN_KEY)) {
+                return new ValidationException("Partner not found", ex);
+            }
+        }
+
+        final var partnerIds = events.stream()
+                .map(Event::getPartner)
+                .filter(Objects::nonNull)
+                .map(Partner::getId)
+                .distinct()
+                .toList();
+
+        if (!partnerIds.isEmpty() && countPartners(partnerIds) < partnerIds.size()) {
+            return new ValidationException("Partner not found", ex);
+        }
+        return ex;
+    }
+
+    private int countPartners(final List<Long> partnerIds) {
+        final var placeholders = String.join(", ", Collections.nCopies(partnerIds.size(), "?"));
+        final var count = RepositoryCallEvent.timed("EventService.countPartners", null, null,
+                () -> jdbcTemplate.queryForObject(
+                        "select count(*) from partners where id in (" + placeholders + ")", Integer.class, partnerIds.toArray()));
+        return count != null ? count : 0;
     }
 }
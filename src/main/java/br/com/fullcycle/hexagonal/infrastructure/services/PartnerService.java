@@ -1,12 +1,20 @@
 package br.com.fullcycle.hexagonal.infrastructure.services;
 
+import br.com.fullcycle.hexagonal.infrastructure.dtos.PartnerDTO;
 import br.com.fullcycle.hexagonal.infrastructure.models.Partner;
 import br.com.fullcycle.hexagonal.infrastructure.repositories.PartnerRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.StreamSupport;
 
 @Service
 public class PartnerService {
@@ -14,15 +22,49 @@ public class PartnerService {
     @Autowired
     private PartnerRepository repository;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Transactional
     public Partner save(Partner customer) {
         return repository.save(customer);
     }
 
+    @Transactional
+    public List<Partner> saveAll(List<Partner> partners) {
+        return StreamSupport.stream(repository.saveAll(partners).spliterator(), false).toList();
+    }
+
     public Optional<Partner> findById(Long id) {
         return repository.findById(id);
     }
 
+    public Iterable<Partner> findAllById(Collection<Long> ids) {
+        return repository.findAllById(ids);
+    }
+
+    public List<PartnerDTO> findPage(Long afterId, int limit) {
+        return repository.findPage(afterId, PageRequest.of(0, limit));
+    }
+
+    public Set<String> findExistingCnpjs(Collection<String> cnpjs) {
+        return repository.findExistingCnpjs(cnpjs);
+    }
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return repository.findExistingEmails(emails);
+    }
+
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return repository.findExistingIds(ids);
+    }
+
+    // Referência (proxy não inicializado) ao parceiro, sem consultar o banco.
+    // A existência do parceiro é garantida pela FK no momento do insert.
+    public Partner referenceOf(Long id) {
+        return entityManager.getReference(Partner.class, id);
+    }
+
     public Optional<Partner> findByCnpj(String cnpj) {
         return repository.findByCnpj(cnpj);
     }
@@ -0,0 +1,77 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import br.com.fullcycle.hexagonal.infrastructure.sales.SalesCounters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+
+// Ponte entre os contadores em memória e o banco: semeia as vendas acumuladas a partir da projeção de
+// disponibilidade (nunca de tickets) e grava periodicamente os minutos fechados na tabela de rollup.
+@Service
+public class SalesRollupService {
+
+    private static final String UPSERT = """
+            insert into sales_minute_rollups (event_id, partner_id, minute_start, reserved, paid, released)
+            values (?, ?, ?, ?, ?, ?)
+            on duplicate key update
+                reserved = reserved + values(reserved),
+                paid = paid + values(paid),
+                released = released + values(released)
+            """;
+
+    private static final String SOLD = """
+            select event_id, partner_id, sold
+            from event_availability
+            where sold > 0
+            """;
+
+    @Autowired
+    private SalesCounters salesCounters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Depois do backfill da projeção, que também roda no ApplicationReadyEvent com precedência maior
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        jdbcTemplate.query(SOLD, rs -> {
+            final var partnerId = rs.getLong(2);
+            salesCounters.seed(rs.getLong(1), rs.wasNull() ? null : partnerId, rs.getLong(3));
+        });
+    }
+
+    // O batch é uma transação só e os minutos só são confirmados depois do commit: se a gravação falhar,
+    // nada foi somado e a próxima execução entrega os mesmos minutos de novo.
+    @Scheduled(fixedDelayString = "${sales.flush-interval:PT1M}")
+    @Transactional
+    public void flush() {
+        final var drain = salesCounters.closedMinutes();
+        final var rows = drain.rows();
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT, rows, rows.size(), (statement, row) -> {
+                statement.setLong(1, row.eventId());
+                statement.setObject(2, row.partnerId());
+                statement.setTimestamp(3, Timestamp.from(row.minute()));
+                statement.setLong(4, row.reserved());
+                statement.setLong(5, row.paid());
+                statement.setLong(6, row.released());
+            });
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                salesCounters.markFlushed(drain);
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Lotes curtos, um por transação: o arquivamento disputa pouco lock com as vendas em andamento
+@Component
+public class TicketArchiveJob {
+
+    private static final int EVENTS_PER_RUN = 100;
+
+    @Autowired
+    private TicketArchiveService ticketArchiveService;
+
+    @Scheduled(fixedDelayString = "${tickets.archive.interval:PT1H}")
+    public void archive() {
+        for (final var eventId : ticketArchiveService.findExpiredEventIds(EVENTS_PER_RUN)) {
+            while (ticketArchiveService.archiveBatch(eventId) > 0) {
+                // continua até o evento não ter mais ingressos na tabela quente
+            }
+        }
+    }
+}
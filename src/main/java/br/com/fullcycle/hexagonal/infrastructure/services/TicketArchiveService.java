@@ -0,0 +1,76 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+// Move os ingressos de eventos que passaram do prazo de retenção para tickets_archive. Cada lote copia
+// e apaga a mesma faixa de ids de um evento na mesma transação, sempre dos menores para os maiores,
+// então em qualquer momento os ids arquivados de um evento são todos menores que os ainda quentes.
+@Service
+public class TicketArchiveService {
+
+    private static final String EXPIRED_EVENTS = """
+            select e.id
+            from events e
+            where e.date < ?
+              and exists (select 1 from tickets t where t.event_id = e.id)
+            order by e.date, e.id
+            limit ?
+            """;
+
+    private static final String BATCH_IDS = """
+            select t.id
+            from tickets t
+            where t.event_id = ?
+            order by t.id
+            limit ?
+            """;
+
+    private static final String COPY = """
+            insert into tickets_archive (id, customer_id, event_id, status, paid_at, reserved_at, archived_at)
+            select t.id, t.customer_id, t.event_id, t.status, t.paid_at, t.reserved_at, ?
+            from tickets t
+            where t.event_id = ? and t.id <= ?
+            """;
+
+    private static final String DELETE = """
+            delete from tickets
+            where event_id = ? and id <= ?
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${tickets.archive.retention:P90D}")
+    private Period retention;
+
+    @Value("${tickets.archive.batch-size:1000}")
+    private int batchSize;
+
+    public List<Long> findExpiredEventIds(int limit) {
+        return jdbcTemplate.queryForList(EXPIRED_EVENTS, Long.class, Date.valueOf(LocalDate.now().minus(retention)), limit);
+    }
+
+    // Devolve quantos ingressos saíram da tabela quente
+    @Transactional
+    public int archiveBatch(Long eventId) {
+        final var ids = jdbcTemplate.queryForList(BATCH_IDS, Long.class, eventId, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        final var upToId = ids.get(ids.size() - 1);
+        jdbcTemplate.update(COPY, Timestamp.from(Instant.now()), eventId, upToId);
+        return jdbcTemplate.update(DELETE, eventId, upToId);
+    }
+}
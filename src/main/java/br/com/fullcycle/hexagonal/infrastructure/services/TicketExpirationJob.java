@@ -0,0 +1,44 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// Expira reservas pendentes que passaram do prazo, devolvendo as vagas à projeção de disponibilidade.
+// Cada ingresso muda em sua própria transação, para que um lote grande não segure locks por muito tempo.
+// Desligado por padrão: ainda não há transição de pagamento (PENDING -> PAID), então ligar o job sem ela
+// expiraria toda reserva, inclusive as já pagas fora do sistema.
+@Component
+@ConditionalOnProperty(name = "tickets.expiration.enabled", havingValue = "true")
+public class TicketExpirationJob {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Value("${tickets.hold-ttl:PT15M}")
+    private Duration holdTtl;
+
+    @Value("${tickets.expiration.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${tickets.expiration.interval:PT1M}")
+    public void expirePending() {
+        final var reservedBefore = Instant.now().minus(holdTtl);
+
+        while (true) {
+            final var expired = ticketService.findReservedBefore(TicketStatus.PENDING, reservedBefore, batchSize);
+            expired.forEach(ticket ->
+                    ticketService.changeStatus(ticket.id(), ticket.eventId(), TicketStatus.PENDING, TicketStatus.EXPIRED));
+
+            if (expired.size() < batchSize) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketHistoryDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import br.com.fullcycle.hexagonal.infrastructure.observability.RepositoryCallEvent;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.ArchivedTicketRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.TicketRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class TicketService {
+
+    private static final Comparator<TicketHistoryDTO> HISTORY_ORDER =
+            Comparator.comparing(TicketHistoryDTO::reservedAt).thenComparing(TicketHistoryDTO::ticketId).reversed();
+
+    @Autowired
+    private ArchivedTicketRepository archivedTicketRepository;
+
+    @Autowired
+    private EventAvailabilityService eventAvailabilityService;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    // Leitura através do arquivo: a mesma página é lida das duas tabelas, no mesmo snapshot, e intercalada
+    // pela ordem do keyset
+    @Transactional(readOnly = true)
+    public List<TicketHistoryDTO> findHistoryPage(Long customerId, Instant beforeReservedAt, Long beforeId, int limit) {
+        final var page = PageRequest.of(0, limit);
+        final var hot = RepositoryCallEvent.timed("TicketService.findHistoryPage", null, customerId,
+                () -> ticketRepository.findHistoryPage(customerId, beforeReservedAt, beforeId, page));
+        final var archived = RepositoryCallEvent.timed("TicketService.findArchivedHistoryPage", null, customerId,
+                () -> archivedTicketRepository.findHistoryPage(customerId, beforeReservedAt, beforeId, page));
+
+        if (archived.isEmpty()) {
+            return hot;
+        }
+
+        return Stream.concat(hot.stream(), archived.stream())
+                .sorted(HISTORY_ORDER)
+                .limit(limit)
+                .toList();
+    }
+
+    public List<TicketDTO> findReservedBefore(TicketStatus status, Instant reservedBefore, int limit) {
+        return RepositoryCallEvent.timed("TicketService.findReservedBefore", null, null,
+                () -> ticketRepository.findDTOsByStatusAndReservedAtBefore(status, reservedBefore, PageRequest.of(0, limit)));
+    }
+
+    @Transactional
+    public boolean changeStatus(Long ticketId, Long eventId, TicketStatus from, TicketStatus to) {
+        final var updated = RepositoryCallEvent.timed("TicketService.changeStatus", eventId, null,
+                () -> ticketRepository.updateStatus(ticketId, from, to));
+
+        if (updated == 0) {
+            return false;
+        }
+
+        eventAvailabilityService.ticketChanged(eventId, from, to);
+        return true;
+    }
+}
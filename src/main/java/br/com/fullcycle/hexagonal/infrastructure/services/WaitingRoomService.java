@@ -0,0 +1,258 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+// Sala de espera virtual: cada evento tem uma fila representada apenas por dois contadores
+// (última posição distribuída e última posição admitida), então entrar e consultar são O(1).
+// As posições são liberadas em um ritmo fixo e quem é admitido recebe um token assinado,
+// de uso único e com validade curta, exigido pelo endpoint de subscribe. Tokens de posição também
+// expiram: uma posição usada fica registrada enquanto o seu token puder ser apresentado, e a sala
+// é descartada quando está vazia e nenhum token de posição dela ainda vale. Cada sala tem uma geração,
+// assinada nos tokens: tokens de uma sala descartada nunca valem na sala que a substitui.
+@Service
+public class WaitingRoomService {
+
+    public static final String ADMISSION_HEADER = "X-Admission-Token";
+
+    private static final String QUEUE = "Q";
+    private static final String ADMISSION = "A";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final boolean enabled;
+    private final double admissionsPerTick;
+    private final Duration admissionTtl;
+    private final Duration positionTtl;
+    private final Predicate<Long> eventExists;
+    private final Clock clock;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+    private final Map<Long, Room> rooms;
+    private final AtomicLong generations;
+
+    @Autowired
+    public WaitingRoomService(
+            @Value("${waiting-room.enabled:false}") final boolean enabled,
+            @Value("${waiting-room.admissions-per-second:50}") final double admissionsPerSecond,
+            @Value("${waiting-room.tick-ms:100}") final long tickMs,
+            @Value("${waiting-room.admission-ttl:PT2M}") final Duration admissionTtl,
+            @Value("${waiting-room.position-ttl:PT1H}") final Duration positionTtl,
+            final EventService eventService
+    ) {
+        this(enabled, admissionsPerSecond, tickMs, admissionTtl, positionTtl, eventService::existsById, Clock.systemUTC());
+    }
+
+    WaitingRoomService(
+            final boolean enabled,
+            final double admissionsPerSecond,
+            final long tickMs,
+            final Duration admissionTtl,
+            final Duration positionTtl,
+            final Predicate<Long> eventExists,
+            final Clock clock
+    ) {
+        this.enabled = enabled;
+        this.admissionsPerTick = admissionsPerSecond * tickMs / 1000.0;
+        this.admissionTtl = admissionTtl;
+        this.positionTtl = positionTtl;
+        this.eventExists = eventExists;
+        this.clock = clock;
+        this.rooms = new ConcurrentHashMap<>();
+        this.generations = new AtomicLong();
+
+        // O estado da fila é em memória, então o segredo também pode ser gerado a cada inicialização
+        final var secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, "HmacSHA256");
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // O evento só é consultado no banco quando a sala ainda não existe, ou seja, uma vez por onda de acesso
+    public Optional<Position> join(final Long eventId) {
+        if (!rooms.containsKey(eventId) && !eventExists.test(eventId)) {
+            return Optional.empty();
+        }
+
+        final var now = clock.millis();
+        final var expiresAt = now + positionTtl.toMillis();
+        final var holder = new long[1];
+
+        // compute serializa a entrada com o descarte da sala em release(): nenhuma posição é distribuída
+        // por uma sala que acabou de sair do mapa
+        final var room = rooms.compute(eventId, (id, current) -> {
+            final var target = current != null ? current : new Room(generations.incrementAndGet());
+            holder[0] = target.tail.incrementAndGet();
+            target.lastJoinAt = now;
+            return target;
+        });
+
+        final var position = holder[0];
+        return Optional.of(new Position(eventId, position, Math.max(0, position - room.admitted.get()),
+                sign(QUEUE, eventId, room.generation, position, expiresAt)));
+    }
+
+    public Optional<Status> poll(final Long eventId, final String positionToken) {
+        final var claims = verify(positionToken, QUEUE, eventId);
+        final var room = rooms.get(eventId);
+        if (!valid(claims, room)) {
+            return Optional.empty();
+        }
+
+        // Uma posição já usada no subscribe não recebe uma segunda admissão
+        if (room.consumed.containsKey(claims.position())) {
+            return Optional.empty();
+        }
+
+        final var position = claims.position();
+        if (position > room.admitted.get()) {
+            return Optional.of(new Status(eventId, position, position - room.admitted.get(), null));
+        }
+
+        final var expiresAt = clock.millis() + admissionTtl.toMillis();
+        return Optional.of(new Status(eventId, position, 0, sign(ADMISSION, eventId, room.generation, position, expiresAt)));
+    }
+
+    public boolean admit(final Long eventId, final String admissionToken) {
+        if (!enabled) {
+            return true;
+        }
+
+        final var claims = verify(admissionToken, ADMISSION, eventId);
+        final var room = rooms.get(eventId);
+        if (!valid(claims, room)) {
+            return false;
+        }
+
+        // O token de posição foi emitido antes desta admissão, então expira no máximo positionTtl depois dela:
+        // até lá a posição segue marcada como usada
+        return room.consumed.putIfAbsent(claims.position(), claims.expiresAt() + positionTtl.toMillis()) == null;
+    }
+
+    @Scheduled(fixedRateString = "${waiting-room.tick-ms:100}")
+    public void release() {
+        final var now = clock.millis();
+
+        rooms.forEach((eventId, room) -> {
+            room.credit += admissionsPerTick;
+            final var batch = (long) room.credit;
+            room.credit -= batch;
+
+            // Admissões não são acumuladas para uma fila vazia, senão um pico logo em seguida passaria direto
+            room.admitted.getAndUpdate(admitted -> Math.min(admitted + batch, room.tail.get()));
+            room.consumed.values().removeIf(retainUntil -> retainUntil < now);
+
+            // Sem ninguém na fila e sem token de posição válido, a sala (e as posições usadas) pode ir embora.
+            // Um token de admissão emitido pouco antes ainda pode estar no prazo, mas a sala nova recomeça
+            // da posição 1 com outra geração, então nem ele nem token antigo algum é aceito
+            rooms.computeIfPresent(eventId, (id, current) -> current.isIdle(now, positionTtl.toMillis()) ? null : current);
+        });
+    }
+
+    public int rooms() {
+        return rooms.size();
+    }
+
+    private boolean valid(final Claims claims, final Room room) {
+        return claims != null && room != null && claims.generation() == room.generation && claims.expiresAt() >= clock.millis();
+    }
+
+    private String sign(final String type, final Long eventId, final long generation, final long position, final long expiresAt) {
+        final var payload = ENCODER.encodeToString(
+                (type + ":" + eventId + ":" + generation + ":" + position + ":" + expiresAt).getBytes(StandardCharsets.UTF_8));
+        return payload + "." + ENCODER.encodeToString(mac(payload));
+    }
+
+    private Claims verify(final String token, final String type, final Long eventId) {
+        if (token == null) {
+            return null;
+        }
+
+        final var separator = token.indexOf('.');
+        if (separator <= 0) {
+            return null;
+        }
+
+        try {
+            final var payload = token.substring(0, separator);
+            final var signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(signature, mac(payload))) {
+                return null;
+            }
+
+            final var parts = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 5 || !type.equals(parts[0]) || !eventId.toString().equals(parts[1])) {
+                return null;
+            }
+
+            return new Claims(Long.parseLong(parts[2]), Long.parseLong(parts[3]), Long.parseLong(parts[4]));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private byte[] mac(final String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            final var mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class Room {
+        private final long generation;
+        private final AtomicLong tail = new AtomicLong();
+        private final AtomicLong admitted = new AtomicLong();
+        private final Map<Long, Long> consumed = new ConcurrentHashMap<>();
+
+        // Acessado apenas pela thread do agendador
+        private double credit;
+
+        // Lido e escrito apenas dentro de compute/computeIfPresent da sala
+        private long lastJoinAt;
+
+        private Room(final long generation) {
+            this.generation = generation;
+        }
+
+        private boolean isIdle(final long now, final long positionTtlMillis) {
+            return admitted.get() >= tail.get() && lastJoinAt + positionTtlMillis < now;
+        }
+    }
+
+    private record Claims(long generation, long position, long expiresAt) {
+    }
+
+    public record Position(Long eventId, long position, long ahead, String token) {
+    }
+
+    public record Status(Long eventId, long position, long ahead, String admissionToken) {
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.fullcycle.hexagonal.infrastructure.simulation;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.Supplier;
+
+// Injeta latência e falhas antes de cada chamada a um adaptador, para ensaiar timeouts, cache e concorrência
+// dos casos de uso contra um "banco lento" sem precisar degradar um MySQL de verdade.
+// As falhas usam a mesma exceção transitória que o Spring lança para problemas de conexão.
+public class LatencySimulator {
+
+    public enum Distribution {
+        // Sempre a mediana
+        FIXED,
+        // Mediana ± jitter, uniforme
+        UNIFORM,
+        // Exponencial com média igual à mediana configurada: muitas chamadas rápidas e cauda longa
+        EXPONENTIAL,
+        // Log-normal em torno da mediana; sigma controla o peso da cauda (0.5 -> p99 ≈ 3.2x a mediana)
+        LOG_NORMAL
+    }
+
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private final Distribution distribution;
+    private final long medianNanos;
+    private final long jitterNanos;
+    private final double sigma;
+    private final double errorRate;
+    private final Random random;
+    private final Sleeper sleeper;
+
+    public LatencySimulator(
+            final Distribution distribution,
+            final Duration median,
+            final Duration jitter,
+            final double sigma,
+            final double errorRate,
+            final Random random,
+            final Sleeper sleeper
+    ) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("errorRate must be between 0 and 1");
+        }
+
+        this.distribution = Objects.requireNonNull(distribution);
+        this.medianNanos = median.toNanos();
+        this.jitterNanos = jitter.toNanos();
+        this.sigma = sigma;
+        this.errorRate = errorRate;
+        this.random = Objects.requireNonNull(random);
+        this.sleeper = Objects.requireNonNull(sleeper);
+    }
+
+    public <T> T call(final String operation, final Supplier<T> action) {
+        delay();
+
+        // A falha vem depois da espera: um banco degradado costuma falhar devagar, não na hora
+        if (errorRate > 0 && random.nextDouble() < errorRate) {
+            throw new TransientDataAccessResourceException("Simulated failure in " + operation);
+        }
+
+        return action.get();
+    }
+
+    long sampleNanos() {
+        final var sample = switch (distribution) {
+            case FIXED -> medianNanos;
+            case UNIFORM -> medianNanos + (long) ((random.nextDouble() * 2 - 1) * jitterNanos);
+            case EXPONENTIAL -> (long) (-Math.log(1 - random.nextDouble()) * medianNanos);
+            case LOG_NORMAL -> (long) (medianNanos * Math.exp(sigma * random.nextGaussian()));
+        };
+        return Math.max(0, sample);
+    }
+
+    private void delay() {
+        final var nanos = sampleNanos();
+        if (nanos == 0) {
+            return;
+        }
+
+        try {
+            sleeper.sleep(nanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TransientDataAccessResourceException("Interrupted while simulating latency", ex);
+        }
+    }
+}
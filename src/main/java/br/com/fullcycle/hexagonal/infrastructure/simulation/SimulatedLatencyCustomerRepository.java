@@ -0,0 +1,45 @@
+package br.com.fullcycle.hexagonal.infrastructure.simulation;
+
+import br.com.fullcycle.hexagonal.application.entities.Customer;
+import br.com.fullcycle.hexagonal.application.entities.CustomerId;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+
+import java.util.Objects;
+import java.util.Optional;
+
+// Decorator
+public class SimulatedLatencyCustomerRepository implements CustomerRepository {
+
+    private final CustomerRepository delegate;
+    private final LatencySimulator simulator;
+
+    public SimulatedLatencyCustomerRepository(final CustomerRepository delegate, final LatencySimulator simulator) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.simulator = Objects.requireNonNull(simulator);
+    }
+
+    @Override
+    public Optional<Customer> customerOfId(final CustomerId anId) {
+        return simulator.call("CustomerRepository.customerOfId", () -> delegate.customerOfId(anId));
+    }
+
+    @Override
+    public Optional<Customer> customerOfCPF(final String cpf) {
+        return simulator.call("CustomerRepository.customerOfCPF", () -> delegate.customerOfCPF(cpf));
+    }
+
+    @Override
+    public Optional<Customer> customerOfEmail(final String email) {
+        return simulator.call("CustomerRepository.customerOfEmail", () -> delegate.customerOfEmail(email));
+    }
+
+    @Override
+    public Customer create(final Customer customer) {
+        return simulator.call("CustomerRepository.create", () -> delegate.create(customer));
+    }
+
+    @Override
+    public Customer update(final Customer customer) {
+        return simulator.call("CustomerRepository.update", () -> delegate.update(customer));
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.fullcycle.hexagonal.infrastructure.simulation;
+
+import br.com.fullcycle.hexagonal.application.entities.Partner;
+import br.com.fullcycle.hexagonal.application.entities.PartnerId;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+// Decorator
+public class SimulatedLatencyPartnerRepository implements PartnerRepository {
+
+    private final PartnerRepository delegate;
+    private final LatencySimulator simulator;
+
+    public SimulatedLatencyPartnerRepository(final PartnerRepository delegate, final LatencySimulator simulator) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.simulator = Objects.requireNonNull(simulator);
+    }
+
+    @Override
+    public Optional<Partner> partnerOfId(final PartnerId anId) {
+        return simulator.call("PartnerRepository.partnerOfId", () -> delegate.partnerOfId(anId));
+    }
+
+    @Override
+    public Optional<Partner> partnerOfCNPJ(final String cnpj) {
+        return simulator.call("PartnerRepository.partnerOfCNPJ", () -> delegate.partnerOfCNPJ(cnpj));
+    }
+
+    @Override
+    public Optional<Partner> partnerOfEmail(final String email) {
+        return simulator.call("PartnerRepository.partnerOfEmail", () -> delegate.partnerOfEmail(email));
+    }
+
+    @Override
+    public Set<String> existingCNPJs(final Collection<String> cnpjs) {
+        return simulator.call("PartnerRepository.existingCNPJs", () -> delegate.existingCNPJs(cnpjs));
+    }
+
+    @Override
+    public Set<String> existingEmails(final Collection<String> emails) {
+        return simulator.call("PartnerRepository.existingEmails", () -> delegate.existingEmails(emails));
+    }
+
+    @Override
+    public Partner create(final Partner partner) {
+        return simulator.call("PartnerRepository.create", () -> delegate.create(partner));
+    }
+
+    @Override
+    public List<Partner> createAll(final List<Partner> partners) {
+        return simulator.call("PartnerRepository.createAll", () -> delegate.createAll(partners));
+    }
+
+    @Override
+    public Partner update(final Partner partner) {
+        return simulator.call("PartnerRepository.update", () -> delegate.update(partner));
+    }
+}
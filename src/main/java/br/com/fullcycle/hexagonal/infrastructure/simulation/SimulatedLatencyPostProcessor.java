@@ -0,0 +1,32 @@
+package br.com.fullcycle.hexagonal.infrastructure.simulation;
+
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.Objects;
+
+// Com a simulação ligada, todo adaptador registrado como bean para as portas de repositório
+// passa a ser servido através do decorator com latência simulada.
+public class SimulatedLatencyPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<LatencySimulator> simulator;
+
+    public SimulatedLatencyPostProcessor(final ObjectProvider<LatencySimulator> simulator) {
+        this.simulator = Objects.requireNonNull(simulator);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof CustomerRepository repository && !(bean instanceof SimulatedLatencyCustomerRepository)) {
+            return new SimulatedLatencyCustomerRepository(repository, simulator.getObject());
+        }
+
+        if (bean instanceof PartnerRepository repository && !(bean instanceof SimulatedLatencyPartnerRepository)) {
+            return new SimulatedLatencyPartnerRepository(repository, simulator.getObject());
+        }
+
+        return bean;
+    }
+}
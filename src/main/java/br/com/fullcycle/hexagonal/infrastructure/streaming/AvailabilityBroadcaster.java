@@ -0,0 +1,289 @@
+package br.com.fullcycle.hexagonal.infrastructure.streaming;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventAvailabilityDTO;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+// Difusor único das mudanças de disponibilidade. Cada commit apenas marca o evento como alterado,
+// guardando a versão mais nova; a cada intervalo a última versão de cada evento alterado é entregue
+// a todos os assinantes dele. Mil vendas num segundo viram um único envio por assinante, e nenhum
+// assinante consulta o banco.
+//
+// A difusão nunca escreve num socket: cada assinante tem uma caixa de uma posição com a versão mais
+// nova ainda não enviada, esvaziada por um pool de envio. Um cliente lento só acumula a troca da caixa;
+// se um envio dele passar de sendTimeout, a assinatura é descartada e o onDrop dela encerra a conexão
+// (completeWithError no SSE), o que faz o envio preso falhar. Até isso acontecer a thread presa não conta
+// no pool: o pool ganha uma thread substituta por envio travado, até MAX_REPLACEMENTS_PER_SENDER por thread,
+// e a devolve quando o envio termina. Clientes travados nunca ocupam o pool inteiro.
+public class AvailabilityBroadcaster implements AutoCloseable {
+
+    private static final int MAX_REPLACEMENTS_PER_SENDER = 4;
+
+    private final ConcurrentMap<Long, Set<Subscription>> subscribers;
+    private final Set<Subscription> sending;
+    private final ConcurrentMap<Long, EventAvailabilityDTO> pending;
+    private final ScheduledExecutorService scheduler;
+    private final Executor senders;
+    private final long sendTimeoutNanos;
+    private final AtomicLong dropped;
+    private int stalledSenders;
+
+    public AvailabilityBroadcaster(final Duration interval, final int senderThreads, final Duration sendTimeout) {
+        this(interval, sendTimeout, new ThreadPoolExecutor(senderThreads, senderThreads, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(), daemon("availability-sender-")));
+    }
+
+    AvailabilityBroadcaster(final Duration interval, final Duration sendTimeout, final Executor senders) {
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("interval must be positive");
+        }
+        if (sendTimeout.isZero() || sendTimeout.isNegative()) {
+            throw new IllegalArgumentException("sendTimeout must be positive");
+        }
+
+        this.subscribers = new ConcurrentHashMap<>();
+        this.sending = ConcurrentHashMap.newKeySet();
+        this.pending = new ConcurrentHashMap<>();
+        this.senders = senders;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.dropped = new AtomicLong();
+
+        // Thread própria: a difusão não atrasa as tarefas do agendador compartilhado do Spring
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemon("availability-broadcaster-"));
+        this.scheduler.scheduleAtFixedRate(this::flush, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    // Registra o assinante e enfileira o estado atual. O registro vem antes do estado atual para não perder
+    // um commit entre os dois; a caixa fica sempre com a versão mais nova, e versões já enviadas são descartadas.
+    // Devolve a ação que cancela a assinatura.
+    public Runnable subscribe(final EventAvailabilityDTO current, final Consumer<EventAvailabilityDTO> listener) {
+        return subscribe(current, listener, () -> {
+        });
+    }
+
+    // onDrop roda na thread da difusão quando um envio trava, e deve encerrar a conexão do assinante
+    public Runnable subscribe(
+            final EventAvailabilityDTO current,
+            final Consumer<EventAvailabilityDTO> listener,
+            final Runnable onDrop
+    ) {
+        final var subscription = new Subscription(current.eventId(), listener, onDrop);
+
+        subscribers.computeIfAbsent(subscription.eventId, id -> ConcurrentHashMap.newKeySet()).add(subscription);
+        subscription.offer(current);
+        return () -> unsubscribe(subscription);
+    }
+
+    public void publish(final EventAvailabilityDTO availability) {
+        if (!subscribers.containsKey(availability.eventId())) {
+            return;
+        }
+
+        pending.merge(availability.eventId(), availability, AvailabilityBroadcaster::newer);
+    }
+
+    public Set<Long> subscribedEvents() {
+        return Set.copyOf(subscribers.keySet());
+    }
+
+    public int subscribers() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // Assinaturas descartadas por não acompanharem o ritmo dos envios
+    public long dropped() {
+        return dropped.get();
+    }
+
+    // Threads presas em envios de assinaturas já descartadas, cobertas por substitutas no pool
+    public synchronized int stalledSenders() {
+        return stalledSenders;
+    }
+
+    public void flush() {
+        // Só os envios em andamento são examinados, haja ou não mudança no evento deles
+        final var now = System.nanoTime();
+        for (final var subscription : sending) {
+            if (subscription.stalled(now)) {
+                drop(subscription);
+            }
+        }
+
+        for (final var eventId : pending.keySet()) {
+            final var availability = pending.remove(eventId);
+            final var listeners = subscribers.get(eventId);
+
+            if (availability == null || listeners == null) {
+                continue;
+            }
+
+            for (final var subscription : listeners) {
+                subscription.offer(availability);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        if (senders instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void drop(final Subscription subscription) {
+        if (subscription.closed) {
+            return;
+        }
+
+        unsubscribe(subscription);
+        dropped.incrementAndGet();
+
+        // A substituta é devolvida por quem vir o envio terminado por último: o próprio envio ou esta thread
+        if (replaceStalledSender()) {
+            subscription.replaced.set(true);
+            if (subscription.sendingSince == 0 && subscription.replaced.getAndSet(false)) {
+                releaseStalledSender();
+            }
+        }
+
+        try {
+            subscription.onDrop.run();
+        } catch (RuntimeException ex) {
+            // A conexão já pode ter sido encerrada pelo container; a assinatura já saiu de qualquer forma
+        }
+    }
+
+    private synchronized boolean replaceStalledSender() {
+        if (!(senders instanceof ThreadPoolExecutor pool) || pool.isShutdown()) {
+            return false;
+        }
+
+        // Acima do limite o pool volta a ser compartilhado com os envios presos até o container desistir deles
+        final var senderThreads = pool.getCorePoolSize() - stalledSenders;
+        if (stalledSenders >= senderThreads * MAX_REPLACEMENTS_PER_SENDER) {
+            return false;
+        }
+
+        stalledSenders++;
+        pool.setMaximumPoolSize(pool.getMaximumPoolSize() + 1);
+        pool.setCorePoolSize(pool.getCorePoolSize() + 1);
+        return true;
+    }
+
+    private synchronized void releaseStalledSender() {
+        final var pool = (ThreadPoolExecutor) senders;
+        stalledSenders--;
+        pool.setCorePoolSize(pool.getCorePoolSize() - 1);
+        pool.setMaximumPoolSize(pool.getMaximumPoolSize() - 1);
+    }
+
+    private void unsubscribe(final Subscription subscription) {
+        subscription.closed = true;
+        subscribers.computeIfPresent(subscription.eventId, (id, listeners) -> {
+            listeners.remove(subscription);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    private static EventAvailabilityDTO newer(final EventAvailabilityDTO current, final EventAvailabilityDTO candidate) {
+        return current == null || candidate.version() >= current.version() ? candidate : current;
+    }
+
+    private static ThreadFactory daemon(final String prefix) {
+        final var counter = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Caixa de uma posição por assinante. Só uma tarefa de envio por assinante roda por vez,
+    // então o listener nunca é chamado em paralelo e recebe as versões em ordem crescente.
+    private final class Subscription implements Runnable {
+
+        private final Long eventId;
+        private final Consumer<EventAvailabilityDTO> listener;
+        private final Runnable onDrop;
+        private final AtomicReference<EventAvailabilityDTO> latest;
+        private final AtomicBoolean scheduled;
+        private final AtomicBoolean replaced;
+        private long lastVersion;
+        private volatile long sendingSince;
+        private volatile boolean closed;
+
+        private Subscription(final Long eventId, final Consumer<EventAvailabilityDTO> listener, final Runnable onDrop) {
+            this.eventId = eventId;
+            this.listener = listener;
+            this.onDrop = onDrop;
+            this.latest = new AtomicReference<>();
+            this.scheduled = new AtomicBoolean();
+            this.replaced = new AtomicBoolean();
+            this.lastVersion = Long.MIN_VALUE;
+        }
+
+        // Nunca bloqueia: troca a versão da caixa e agenda um envio se não houver um em andamento
+        private void offer(final EventAvailabilityDTO availability) {
+            latest.accumulateAndGet(availability, AvailabilityBroadcaster::newer);
+            if (scheduled.compareAndSet(false, true)) {
+                senders.execute(this);
+            }
+        }
+
+        private boolean stalled(final long now) {
+            final var since = sendingSince;
+            return !closed && since != 0 && now - since > sendTimeoutNanos;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (var next = latest.getAndSet(null); next != null && !closed; next = latest.getAndSet(null)) {
+                    if (next.version() <= lastVersion) {
+                        continue;
+                    }
+
+                    sendingSince = System.nanoTime() | 1;
+                    sending.add(this);
+                    try {
+                        listener.accept(next);
+                        lastVersion = next.version();
+                    } catch (RuntimeException ex) {
+                        // Conexão encerrada pelo cliente: a assinatura é descartada e os demais seguem recebendo
+                        unsubscribe(this);
+                        return;
+                    } finally {
+                        sendingSince = 0;
+                        sending.remove(this);
+                        if (replaced.getAndSet(false)) {
+                            releaseStalledSender();
+                        }
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                // Uma versão que chegou entre o último getAndSet e a liberação ainda precisa de envio
+                if (!closed && latest.get() != null && scheduled.compareAndSet(false, true)) {
+                    senders.execute(this);
+                }
+            }
+        }
+    }
+}
@@ -4,10 +4,14 @@ import br.com.fullcycle.hexagonal.application.entities.Partner;
 import br.com.fullcycle.hexagonal.application.entities.PartnerId;
 import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class InMemoryPartnerRepository implements PartnerRepository {
 
@@ -36,6 +40,16 @@ public class InMemoryPartnerRepository implements PartnerRepository {
         return Optional.ofNullable(this.partnersByEmail.get(Objects.requireNonNull(email)));
     }
 
+    @Override
+    public Set<String> existingCNPJs(Collection<String> cnpjs) {
+        return cnpjs.stream().filter(this.partnersByCNPJ::containsKey).collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<String> existingEmails(Collection<String> emails) {
+        return emails.stream().filter(this.partnersByEmail::containsKey).collect(Collectors.toSet());
+    }
+
     @Override
     public Partner create(Partner partner) {
         this.partners.put(partner.partnerId().value().toString(), partner);
@@ -44,6 +58,12 @@ public class InMemoryPartnerRepository implements PartnerRepository {
         return partner;
     }
 
+    @Override
+    public List<Partner> createAll(List<Partner> partners) {
+        partners.forEach(this::create);
+        return partners;
+    }
+
     @Override
     public Partner update(Partner partner) {
         this.partners.put(partner.partnerId().value().toString(), partner);
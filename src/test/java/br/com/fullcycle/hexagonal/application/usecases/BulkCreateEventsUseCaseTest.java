@@ -0,0 +1,64 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.infrastructure.models.Event;
+import br.com.fullcycle.hexagonal.infrastructure.models.Partner;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
+import br.com.fullcycle.hexagonal.infrastructure.services.PartnerService;
+import io.hypersistence.tsid.TSID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkCreateEventsUseCaseTest {
+
+    @Test
+    @DisplayName("Deve criar eventos em lote verificando cada parceiro uma única vez")
+    public void testCreateAll() {
+        // given
+        final var partnerId = TSID.fast().toLong();
+        final var unknownPartnerId = TSID.fast().toLong();
+
+        final var input = new BulkCreateEventsUseCase.Input(List.of(
+                new CreateEventUseCase.Input("2021-01-01", "Disney on Ice", partnerId, 10),
+                new CreateEventUseCase.Input("2021-01-02", "Disney on Ice", partnerId, 10),
+                new CreateEventUseCase.Input("01/03/2021", "Disney on Ice", partnerId, 10),
+                new CreateEventUseCase.Input("2021-01-04", "Disney on Ice", unknownPartnerId, 10)
+        ));
+
+        // when
+        final var partnerService = mock(PartnerService.class);
+        final var eventService = mock(EventService.class);
+
+        when(partnerService.findExistingIds(eq(Set.of(partnerId, unknownPartnerId)))).thenReturn(Set.of(partnerId));
+        when(partnerService.referenceOf(eq(partnerId))).thenReturn(new Partner());
+        when(eventService.saveAll(anyList())).thenAnswer(a -> {
+            final List<Event> events = a.getArgument(0);
+            events.forEach(e -> e.setId(TSID.fast().toLong()));
+            return events;
+        });
+
+        final var useCase = new BulkCreateEventsUseCase(partnerService, eventService);
+        final var output = useCase.execute(input);
+
+        // then
+        Assertions.assertEquals(2, output.created());
+        Assertions.assertEquals(2, output.failed());
+        Assertions.assertNotNull(output.results().get(0).id());
+        Assertions.assertNotNull(output.results().get(1).id());
+        Assertions.assertEquals("Invalid value for date", output.results().get(2).error());
+        Assertions.assertEquals("Partner not found", output.results().get(3).error());
+
+        verify(partnerService, times(1)).findExistingIds(eq(Set.of(partnerId, unknownPartnerId)));
+        verify(eventService, times(1)).saveAll(anyList());
+    }
+}
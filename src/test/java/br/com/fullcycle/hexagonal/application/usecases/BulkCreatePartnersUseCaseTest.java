@@ -0,0 +1,111 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.InMemoryPartnerRepository;
+import br.com.fullcycle.hexagonal.application.entities.Partner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BulkCreatePartnersUseCaseTest {
+
+    @Test
+    @DisplayName("Deve criar parceiros em lote")
+    public void testCreateAll() {
+        // given
+        final var input = new BulkCreatePartnersUseCase.Input(List.of(
+                new CreatePartnerUseCase.Input("41.536.538/0001-00", "john.doe@gmail.com", "John Doe"),
+                new CreatePartnerUseCase.Input("41.536.538/0002-00", "jane.doe@gmail.com", "Jane Doe")
+        ));
+
+        // when
+        final var partnerRepository = new InMemoryPartnerRepository();
+        final var useCase = new BulkCreatePartnersUseCase(partnerRepository);
+        final var output = useCase.execute(input);
+
+        // then
+        Assertions.assertEquals(2, output.created());
+        Assertions.assertEquals(0, output.failed());
+        Assertions.assertTrue(output.results().stream().allMatch(r -> r.id() != null && r.error() == null));
+        Assertions.assertTrue(partnerRepository.partnerOfCNPJ("41.536.538/0002-00").isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve reportar falhas por item sem abortar o lote")
+    public void testCreateAllWithFailures() {
+        // given
+        final var expectedError = "Partner already exists";
+
+        final var partnerRepository = new InMemoryPartnerRepository();
+        partnerRepository.create(Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com"));
+
+        final var input = new BulkCreatePartnersUseCase.Input(List.of(
+                new CreatePartnerUseCase.Input("41.536.538/0001-00", "other@gmail.com", "John Doe"),
+                new CreatePartnerUseCase.Input("41.536.538/0002-00", "jane.doe@gmail.com", "Jane Doe"),
+                new CreatePartnerUseCase.Input("41.536.538/0003-00", "jane.doe@gmail.com", "Jane Doe"),
+                new CreatePartnerUseCase.Input("invalid", "mary.doe@gmail.com", "Mary Doe")
+        ));
+
+        // when
+        final var useCase = new BulkCreatePartnersUseCase(partnerRepository);
+        final var output = useCase.execute(input);
+
+        // then
+        Assertions.assertEquals(1, output.created());
+        Assertions.assertEquals(3, output.failed());
+        Assertions.assertEquals(expectedError, output.results().get(0).error());
+        Assertions.assertNotNull(output.results().get(1).id());
+        Assertions.assertEquals(expectedError, output.results().get(2).error());
+        Assertions.assertEquals("Invalid value for Cnpj", output.results().get(3).error());
+    }
+
+    @Test
+    @DisplayName("Deve consultar CNPJs e e-mails existentes uma única vez para todo o lote")
+    public void testCreateAllLooksUpExistingOnce() {
+        // given
+        final var lookups = new AtomicInteger();
+        final var partnerRepository = new InMemoryPartnerRepository() {
+            @Override
+            public Set<String> existingCNPJs(final Collection<String> cnpjs) {
+                lookups.incrementAndGet();
+                return super.existingCNPJs(cnpjs);
+            }
+
+            @Override
+            public Set<String> existingEmails(final Collection<String> emails) {
+                lookups.incrementAndGet();
+                return super.existingEmails(emails);
+            }
+
+            @Override
+            public Optional<Partner> partnerOfCNPJ(final String cnpj) {
+                throw new AssertionError("Lookup per item");
+            }
+
+            @Override
+            public Optional<Partner> partnerOfEmail(final String email) {
+                throw new AssertionError("Lookup per item");
+            }
+        };
+        partnerRepository.create(Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com"));
+
+        final var input = new BulkCreatePartnersUseCase.Input(List.of(
+                new CreatePartnerUseCase.Input("41.536.538/0001-00", "other@gmail.com", "John Doe"),
+                new CreatePartnerUseCase.Input("41.536.538/0002-00", "jane.doe@gmail.com", "Jane Doe"),
+                new CreatePartnerUseCase.Input("41.536.538/0003-00", "mary.doe@gmail.com", "Mary Doe")
+        ));
+
+        // when
+        final var output = new BulkCreatePartnersUseCase(partnerRepository).execute(input);
+
+        // then
+        Assertions.assertEquals(2, lookups.get());
+        Assertions.assertEquals(2, output.created());
+        Assertions.assertEquals("Partner already exists", output.results().get(0).error());
+    }
+}
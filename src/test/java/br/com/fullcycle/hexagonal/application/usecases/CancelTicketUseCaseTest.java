@@ -0,0 +1,91 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.models.Ticket;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
+import br.com.fullcycle.hexagonal.infrastructure.services.TicketService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CancelTicketUseCaseTest {
+
+    @Test
+    @DisplayName("Deve cancelar o ingresso de um cliente e devolver a vaga")
+    public void testCancelTicket() {
+        // given
+        final var eventId = 1L;
+        final var customerId = 2L;
+        final var aTicket = new Ticket(10L, null, null, TicketStatus.PENDING, null, Instant.now());
+
+        final var eventService = mock(EventService.class);
+        final var ticketService = mock(TicketService.class);
+
+        when(eventService.findTicketByEventIdAndCustomerId(eventId, customerId)).thenReturn(Optional.of(aTicket));
+        when(ticketService.changeStatus(10L, eventId, TicketStatus.PENDING, TicketStatus.CANCELLED)).thenReturn(true);
+
+        final var useCase = new CancelTicketUseCase(eventService, ticketService);
+
+        // when
+        final var output = useCase.execute(new CancelTicketUseCase.Input(eventId, customerId));
+
+        // then
+        Assertions.assertEquals(eventId, output.eventId());
+        Assertions.assertEquals(TicketStatus.CANCELLED.name(), output.ticketStatus());
+    }
+
+    @Test
+    @DisplayName("Não deve cancelar um ingresso que já expirou")
+    public void testCancelTicket_whenTicketExpired_ShouldThrow() {
+        // given
+        final var aTicket = new Ticket(10L, null, null, TicketStatus.EXPIRED, null, Instant.now());
+
+        final var eventService = mock(EventService.class);
+        final var ticketService = mock(TicketService.class);
+
+        when(eventService.findTicketByEventIdAndCustomerId(1L, 2L)).thenReturn(Optional.of(aTicket));
+
+        final var useCase = new CancelTicketUseCase(eventService, ticketService);
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> useCase.execute(new CancelTicketUseCase.Input(1L, 2L)));
+
+        // then
+        Assertions.assertEquals("Ticket already released", actualException.getMessage());
+        verify(ticketService, never()).changeStatus(anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Não deve cancelar um ingresso que mudou de status durante o cancelamento")
+    public void testCancelTicket_whenStatusChangedConcurrently_ShouldThrow() {
+        // given
+        final var aTicket = new Ticket(10L, null, null, TicketStatus.PENDING, null, Instant.now());
+
+        final var eventService = mock(EventService.class);
+        final var ticketService = mock(TicketService.class);
+
+        when(eventService.findTicketByEventIdAndCustomerId(1L, 2L)).thenReturn(Optional.of(aTicket));
+        when(ticketService.changeStatus(10L, 1L, TicketStatus.PENDING, TicketStatus.CANCELLED)).thenReturn(false);
+
+        final var useCase = new CancelTicketUseCase(eventService, ticketService);
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> useCase.execute(new CancelTicketUseCase.Input(1L, 2L)));
+
+        // then
+        Assertions.assertEquals("Ticket already released", actualException.getMessage());
+    }
+}
@@ -4,6 +4,7 @@ import br.com.fullcycle.hexagonal.IntegrationTest;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.infrastructure.models.Event;
 import br.com.fullcycle.hexagonal.infrastructure.models.Partner;
+import br.com.fullcycle.hexagonal.infrastructure.observability.StatementBudget;
 import br.com.fullcycle.hexagonal.infrastructure.repositories.EventRepository;
 import br.com.fullcycle.hexagonal.infrastructure.repositories.PartnerRepository;
 import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
@@ -12,6 +13,7 @@ import io.hypersistence.tsid.TSID;
 import org.junit.jupiter.api.*;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.Optional;
 
@@ -30,6 +32,9 @@ class CreateEventUseCaseIT extends IntegrationTest {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @AfterEach
     void tearDown() {
         eventRepository.deleteAll();
@@ -50,7 +55,8 @@ class CreateEventUseCaseIT extends IntegrationTest {
                 new CreateEventUseCase.Input(expectedDate, expectedName, expectedPartnerId, expectedTotalSpots);
 
         // when
-        final var output = useCase.execute(createInput);
+        // O parceiro é referenciado sem select: criar um evento custa o insert dele e o da projeção de disponibilidade
+        final var output = StatementBudget.atMost(2, () -> useCase.execute(createInput));
 
         // then
         Assertions.assertEquals(expectedDate, output.date());
@@ -80,6 +86,30 @@ class CreateEventUseCaseIT extends IntegrationTest {
         Assertions.assertEquals(expectedError, actualException.getMessage());
     }
 
+    @Test
+    @DisplayName("Não deve criar um evento quando o Partner não for encontrado, mesmo com a FK sob o nome antigo")
+    public void testCreateEvent_whenPartnerDoesntExistsAndForeignKeyHasLegacyName_ShouldThrow() {
+        // given
+        final var expectedError = "Partner not found";
+        final var createInput =
+                new CreateEventUseCase.Input("2021-01-01", "Disney on Ice", TSID.fast().toLong(), 10);
+
+        // Bancos criados antes do nome fixo têm a FK com o nome gerado pelo Hibernate
+        jdbcTemplate.execute("alter table events rename constraint " + Event.PARTNER_FOREIGN_KEY + " to fk_legacy_partner");
+
+        try {
+            // when
+            final var actualException =
+                    Assertions.assertThrows(ValidationException.class, () -> useCase.execute(createInput));
+
+            // then
+            Assertions.assertEquals(expectedError, actualException.getMessage());
+            Assertions.assertEquals(0, eventRepository.count());
+        } finally {
+            jdbcTemplate.execute("alter table events rename constraint fk_legacy_partner to " + Event.PARTNER_FOREIGN_KEY);
+        }
+    }
+
     private Partner createPartner(final String cnpj, final String email, final String name) {
         final var aPartner = new Partner();
 
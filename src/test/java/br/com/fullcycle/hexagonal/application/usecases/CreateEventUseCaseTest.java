@@ -11,8 +11,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
-import java.util.Optional;
-
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -41,8 +39,8 @@ class CreateEventUseCaseTest {
             return e;
         });
 
-        when(partnerService.findById(eq(expectedPartnerId)))
-                .thenReturn(Optional.of(new Partner()));
+        when(partnerService.referenceOf(eq(expectedPartnerId)))
+                .thenReturn(new Partner());
 
         final var useCase = new CreateEventUseCase(partnerService, eventService);
         final var output = useCase.execute(createInput);
@@ -71,8 +69,10 @@ class CreateEventUseCaseTest {
         final var partnerService = Mockito.mock(PartnerService.class);
         final var eventService = Mockito.mock(EventService.class);
 
-        when(partnerService.findById(eq(expectedPartnerId)))
-                .thenReturn(Optional.empty());
+        when(partnerService.referenceOf(eq(expectedPartnerId)))
+                .thenReturn(new Partner());
+        when(eventService.save(any()))
+                .thenThrow(new ValidationException("Partner not found"));
 
         final var useCase = new CreateEventUseCase(partnerService, eventService);
         final var actualException =
@@ -0,0 +1,112 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.AttendeeDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import br.com.fullcycle.hexagonal.infrastructure.services.AttendeeExportService;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+class ExportEventAttendeesUseCaseTest {
+
+    @Test
+    @DisplayName("Deve exportar a lista de presença em CSV escapando os campos")
+    @SuppressWarnings("unchecked")
+    public void testExportCsv() throws Exception {
+        // given
+        final var eventId = 1L;
+        final var eventService = Mockito.mock(EventService.class);
+        final var attendeeExportService = Mockito.mock(AttendeeExportService.class);
+
+        when(eventService.findEventsByIds(List.of(eventId)))
+                .thenReturn(List.of(new EventDTO(eventId, "Disney on Ice", LocalDate.of(2030, 1, 1), 10, 1L)));
+
+        doAnswer(invocation -> {
+            final var consumer = (Consumer<AttendeeDTO>) invocation.getArgument(1);
+            consumer.accept(new AttendeeDTO(1L, "Gabriel, Silva", "gabriel@gmail.com", TicketStatus.PENDING, Instant.parse("2030-01-01T10:00:00Z")));
+            consumer.accept(new AttendeeDTO(2L, "=SUM(A1)", "maria@gmail.com", TicketStatus.PAID, null));
+            return null;
+        }).when(attendeeExportService).streamAttendees(eq(eventId), any());
+
+        final var useCase = new ExportEventAttendeesUseCase(eventService, attendeeExportService);
+
+        // when
+        final var output = useCase.execute(new ExportEventAttendeesUseCase.Input(eventId, "csv"));
+        final var out = new ByteArrayOutputStream();
+        output.export().writeTo(out);
+
+        // then
+        Assertions.assertEquals("text/csv", output.contentType());
+        Assertions.assertEquals("event-1-attendees.csv", output.fileName());
+        Assertions.assertEquals("""
+                ticket_id,customer_name,customer_email,status,reserved_at
+                1,"Gabriel, Silva",gabriel@gmail.com,PENDING,2030-01-01T10:00:00Z
+                2,'=SUM(A1),maria@gmail.com,PAID,
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve exportar a lista de presença em NDJSON, um objeto por linha")
+    @SuppressWarnings("unchecked")
+    public void testExportNdjson() throws Exception {
+        // given
+        final var eventId = 1L;
+        final var eventService = Mockito.mock(EventService.class);
+        final var attendeeExportService = Mockito.mock(AttendeeExportService.class);
+
+        when(eventService.findEventsByIds(List.of(eventId)))
+                .thenReturn(List.of(new EventDTO(eventId, "Disney on Ice", LocalDate.of(2030, 1, 1), 10, 1L)));
+
+        doAnswer(invocation -> {
+            final var consumer = (Consumer<AttendeeDTO>) invocation.getArgument(1);
+            consumer.accept(new AttendeeDTO(1L, "Gabriel \"Gabs\"", "gabriel@gmail.com", TicketStatus.PAID, null));
+            return null;
+        }).when(attendeeExportService).streamAttendees(eq(eventId), any());
+
+        final var useCase = new ExportEventAttendeesUseCase(eventService, attendeeExportService);
+
+        // when
+        final var output = useCase.execute(new ExportEventAttendeesUseCase.Input(eventId, "NDJSON"));
+        final var out = new ByteArrayOutputStream();
+        output.export().writeTo(out);
+
+        // then
+        Assertions.assertEquals("application/x-ndjson", output.contentType());
+        Assertions.assertEquals(
+                "{\"ticketId\":1,\"customerName\":\"Gabriel \\\"Gabs\\\"\",\"customerEmail\":\"gabriel@gmail.com\",\"status\":\"PAID\",\"reservedAt\":null}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Não deve exportar a lista de presença de um evento que não existe")
+    public void testExport_whenEventDoesntExist_ShouldThrow() {
+        // given
+        final var eventService = Mockito.mock(EventService.class);
+        when(eventService.findEventsByIds(List.of(1L))).thenReturn(List.of());
+
+        final var useCase = new ExportEventAttendeesUseCase(eventService, Mockito.mock(AttendeeExportService.class));
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> useCase.execute(new ExportEventAttendeesUseCase.Input(1L, "csv")));
+
+        // then
+        Assertions.assertEquals("Event not found", actualException.getMessage());
+    }
+}
@@ -2,6 +2,7 @@ package br.com.fullcycle.hexagonal.application.usecases;
 
 import br.com.fullcycle.hexagonal.application.InMemoryCustomerRepository;
 import br.com.fullcycle.hexagonal.application.entities.Customer;
+import br.com.fullcycle.hexagonal.application.entities.CustomerId;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +39,31 @@ class GetCustomerByIdUseCaseTest {
         Assertions.assertEquals(expectedName, output.name());
     }
 
+    @Test
+    @DisplayName("Deve obter um cliente gravado pelo id numérico, o mesmo que o restante da API usa")
+    public void testGetByNumericId() {
+        // given
+        final var expectedCPF = "123.456.789-01";
+        final var expectedEmail = "john.doe@gmail.com";
+        final var expectedName = "John Doe";
+        final var expectedID = "42";
+
+        final var aCustomer = new Customer(CustomerId.of(42L), expectedName, expectedCPF, expectedEmail);
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        customerRepository.create(aCustomer);
+
+        final var input = new GetCustomerByIdUseCase.Input(expectedID);
+
+        // when
+        final var useCase = new GetCustomerByIdUseCase(customerRepository);
+        final var output = useCase.execute(input).get();
+
+        // then
+        Assertions.assertEquals(expectedID, output.id());
+        Assertions.assertEquals(expectedCPF, output.cpf());
+    }
+
     @Test
     @DisplayName("Deve obter vazio ao tentar recuperar um cliente não existente por id")
     public void testGetByIdWIthInvalidId() {
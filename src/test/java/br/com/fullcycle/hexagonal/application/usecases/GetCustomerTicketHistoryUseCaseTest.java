@@ -0,0 +1,65 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketHistoryDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import br.com.fullcycle.hexagonal.infrastructure.services.TicketService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class GetCustomerTicketHistoryUseCaseTest {
+
+    @Test
+    @DisplayName("Deve listar o histórico de ingressos do mais recente para o mais antigo, continuando do cursor")
+    public void testTicketHistory() {
+        // given
+        final var customerId = 1L;
+        final var newest = new TicketHistoryDTO(
+                20L, 2L, "Cirque du Soleil", LocalDate.of(2030, 5, 1), TicketStatus.PAID, Instant.parse("2030-02-01T10:00:00Z"));
+        final var oldest = new TicketHistoryDTO(
+                10L, 1L, "Disney on Ice", LocalDate.of(2030, 3, 1), TicketStatus.PENDING, Instant.parse("2030-01-01T10:00:00Z"));
+
+        final var ticketService = Mockito.mock(TicketService.class);
+        when(ticketService.findHistoryPage(eq(customerId), any(), eq(Long.MAX_VALUE), eq(2))).thenReturn(List.of(newest, oldest));
+        when(ticketService.findHistoryPage(eq(customerId), eq(newest.reservedAt()), eq(20L), eq(2))).thenReturn(List.of(oldest));
+
+        final var useCase = new GetCustomerTicketHistoryUseCase(ticketService);
+
+        // when
+        final var firstPage = useCase.execute(new GetCustomerTicketHistoryUseCase.Input(customerId, null, 1));
+        final var secondPage = useCase.execute(
+                new GetCustomerTicketHistoryUseCase.Input(customerId, firstPage.pageInfo().endCursor(), 1));
+
+        // then
+        Assertions.assertEquals("Cirque du Soleil", firstPage.edges().get(0).node().eventName());
+        Assertions.assertTrue(firstPage.pageInfo().hasNextPage());
+
+        Assertions.assertEquals("Disney on Ice", secondPage.edges().get(0).node().eventName());
+        Assertions.assertEquals(TicketStatus.PENDING, secondPage.edges().get(0).node().status());
+        Assertions.assertFalse(secondPage.pageInfo().hasNextPage());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar um cursor inválido")
+    public void testTicketHistory_whenCursorIsInvalid_ShouldThrow() {
+        // given
+        final var useCase = new GetCustomerTicketHistoryUseCase(Mockito.mock(TicketService.class));
+        final var input = new GetCustomerTicketHistoryUseCase.Input(1L, "bm90LWEtY3Vyc29y", 10);
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(input));
+
+        // then
+        Assertions.assertEquals("Invalid cursor", actualException.getMessage());
+    }
+}
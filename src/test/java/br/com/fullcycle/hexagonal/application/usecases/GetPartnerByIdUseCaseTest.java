@@ -2,6 +2,7 @@ package br.com.fullcycle.hexagonal.application.usecases;
 
 import br.com.fullcycle.hexagonal.application.InMemoryPartnerRepository;
 import br.com.fullcycle.hexagonal.application.entities.Partner;
+import br.com.fullcycle.hexagonal.application.entities.PartnerId;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -42,6 +43,31 @@ class GetPartnerByIdUseCaseTest {
         Assertions.assertEquals(expectedName, output.name());
     }
 
+    @Test
+    @DisplayName("Deve obter um parceiro gravado pelo id numérico, o mesmo que o restante da API usa")
+    public void testGetByNumericId() {
+        // given
+        final var expectedCNPJ = "41.536.538/0001-00";
+        final var expectedEmail = "john.doe@gmail.com";
+        final var expectedName = "John Doe";
+        final var expectedID = "42";
+
+        final var aPartner = new Partner(PartnerId.of(42L), expectedName, expectedCNPJ, expectedEmail);
+
+        final var partnerRepository = new InMemoryPartnerRepository();
+        partnerRepository.create(aPartner);
+
+        final var input = new GetPartnerByIdUseCase.Input(expectedID);
+
+        // when
+        final var useCase = new GetPartnerByIdUseCase(partnerRepository);
+        final var output = useCase.execute(input).get();
+
+        // then
+        Assertions.assertEquals(expectedID, output.id());
+        Assertions.assertEquals(expectedCNPJ, output.cnpj());
+    }
+
     @Test
     @DisplayName("Deve obter vazio ao tentar recuperar um parceiro não existente por id")
     public void testGetByIdWIthInvalidId() {
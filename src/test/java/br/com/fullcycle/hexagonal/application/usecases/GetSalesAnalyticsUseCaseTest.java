@@ -0,0 +1,93 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.DailySalesDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.DailySalesRollupService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+class GetSalesAnalyticsUseCaseTest {
+
+    @Test
+    @DisplayName("Deve somar as reservas do período a partir dos rollups diários")
+    public void testSalesAnalytics() {
+        // given
+        final var from = LocalDate.of(2030, 1, 1);
+        final var to = LocalDate.of(2030, 1, 31);
+        final var days = List.of(
+                new DailySalesDTO(LocalDate.of(2030, 1, 2), 7L, 1L, 120),
+                new DailySalesDTO(LocalDate.of(2030, 1, 3), 7L, 1L, 80)
+        );
+
+        final var dailySalesRollupService = Mockito.mock(DailySalesRollupService.class);
+        when(dailySalesRollupService.findRange(from, to, 7L, null)).thenReturn(days);
+
+        final var useCase = new GetSalesAnalyticsUseCase(dailySalesRollupService);
+
+        // when
+        final var output = useCase.execute(new GetSalesAnalyticsUseCase.Input("2030-01-01", "2030-01-31", 7L, null));
+
+        // then
+        Assertions.assertEquals(200, output.reservations());
+        Assertions.assertEquals(days, output.days());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar um período maior que um ano")
+    public void testSalesAnalytics_whenRangeIsTooLong_ShouldThrow() {
+        // given
+        final var useCase = new GetSalesAnalyticsUseCase(Mockito.mock(DailySalesRollupService.class));
+        final var input = new GetSalesAnalyticsUseCase.Input("2030-01-01", "2031-06-01", 7L, null);
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(input));
+
+        // then
+        Assertions.assertEquals("Invalid date range", actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve exigir parceiro ou evento para um período maior que um mês")
+    public void testSalesAnalytics_whenUnfilteredRangeIsOverAMonth_ShouldThrow() {
+        // given
+        final var dailySalesRollupService = Mockito.mock(DailySalesRollupService.class);
+        final var useCase = new GetSalesAnalyticsUseCase(dailySalesRollupService);
+        final var input = new GetSalesAnalyticsUseCase.Input("2030-01-01", "2030-03-01", null, null);
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(input));
+
+        // then
+        Assertions.assertEquals("Partner or event is required for ranges over 31 days", actualException.getMessage());
+        Mockito.verifyNoInteractions(dailySalesRollupService);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar um mês sem filtro de parceiro ou evento")
+    public void testSalesAnalytics_whenUnfilteredRangeIsAMonth() {
+        // given
+        final var from = LocalDate.of(2030, 1, 1);
+        final var to = LocalDate.of(2030, 1, 31);
+        final var dailySalesRollupService = Mockito.mock(DailySalesRollupService.class);
+        when(dailySalesRollupService.findRange(from, to, null, null)).thenReturn(List.of(
+                new DailySalesDTO(LocalDate.of(2030, 1, 2), 7L, 1L, 120),
+                new DailySalesDTO(LocalDate.of(2030, 1, 2), 8L, 2L, 30)
+        ));
+
+        final var useCase = new GetSalesAnalyticsUseCase(dailySalesRollupService);
+
+        // when
+        final var output = useCase.execute(new GetSalesAnalyticsUseCase.Input("2030-01-01", "2030-01-31", null, null));
+
+        // then
+        Assertions.assertEquals(150, output.reservations());
+        Assertions.assertEquals(2, output.days().size());
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.CustomerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.CustomerService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class ListCustomersUseCaseTest {
+
+    @Test
+    @DisplayName("Deve paginar clientes continuando a partir do cursor da página anterior")
+    public void testListCustomers() {
+        // given
+        final var customerService = Mockito.mock(CustomerService.class);
+        final var useCase = new ListCustomersUseCase(customerService);
+
+        when(customerService.findPage(eq(Long.MIN_VALUE), eq(3))).thenReturn(List.of(
+                new CustomerDTO(1L, "John", "123.456.789-01", "john@gmail.com"),
+                new CustomerDTO(2L, "Mary", "123.456.789-02", "mary@gmail.com"),
+                new CustomerDTO(3L, "Anne", "123.456.789-03", "anne@gmail.com")
+        ));
+
+        when(customerService.findPage(eq(2L), eq(3))).thenReturn(List.of(
+                new CustomerDTO(3L, "Anne", "123.456.789-03", "anne@gmail.com")
+        ));
+
+        // when
+        final var firstPage = useCase.execute(new ListCustomersUseCase.Input(null, 2));
+        final var secondPage = useCase.execute(new ListCustomersUseCase.Input(firstPage.pageInfo().endCursor(), 2));
+
+        // then
+        Assertions.assertEquals(2, firstPage.edges().size());
+        Assertions.assertTrue(firstPage.pageInfo().hasNextPage());
+        Assertions.assertEquals(2L, firstPage.edges().get(1).node().id());
+
+        Assertions.assertEquals(1, secondPage.edges().size());
+        Assertions.assertFalse(secondPage.pageInfo().hasNextPage());
+        Assertions.assertEquals(3L, secondPage.edges().get(0).node().id());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar um cursor inválido")
+    public void testListCustomers_whenCursorIsInvalid_ShouldThrow() {
+        // given
+        final var useCase = new ListCustomersUseCase(Mockito.mock(CustomerService.class));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                ValidationException.class, () -> useCase.execute(new ListCustomersUseCase.Input("not-a-cursor", 10)));
+
+        // then
+        Assertions.assertEquals("Invalid cursor", actualException.getMessage());
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class ListEventTicketsUseCaseTest {
+
+    @Test
+    @DisplayName("Deve paginar os ingressos de um evento pelo cursor do último ingresso")
+    public void testListEventTickets() {
+        // given
+        final var eventService = Mockito.mock(EventService.class);
+        final var useCase = new ListEventTicketsUseCase(eventService);
+
+        when(eventService.findTicketPage(eq(7L), eq(Long.MIN_VALUE), eq(3))).thenReturn(List.of(
+                ticket(1L), ticket(2L), ticket(3L)
+        ));
+        when(eventService.findTicketPage(eq(7L), eq(2L), eq(3))).thenReturn(List.of(
+                ticket(3L)
+        ));
+
+        // when
+        final var first = useCase.execute(new ListEventTicketsUseCase.Input(7L, null, 2));
+        final var second = useCase.execute(new ListEventTicketsUseCase.Input(7L, first.pageInfo().endCursor(), 2));
+
+        // then
+        Assertions.assertEquals(2, first.edges().size());
+        Assertions.assertTrue(first.pageInfo().hasNextPage());
+        Assertions.assertEquals(1, second.edges().size());
+        Assertions.assertEquals(3L, second.edges().get(0).node().id());
+        Assertions.assertFalse(second.pageInfo().hasNextPage());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar páginas maiores que o limite")
+    public void testListEventTickets_whenPageIsTooLarge_ShouldThrow() {
+        // given
+        final var useCase = new ListEventTicketsUseCase(Mockito.mock(EventService.class));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                ValidationException.class, () -> useCase.execute(new ListEventTicketsUseCase.Input(7L, null, 101)));
+
+        // then
+        Assertions.assertEquals("Invalid value for first", actualException.getMessage());
+    }
+
+    private static TicketDTO ticket(final Long id) {
+        return new TicketDTO(id, 7L, 1L, TicketStatus.PENDING, Instant.now(), null);
+    }
+}
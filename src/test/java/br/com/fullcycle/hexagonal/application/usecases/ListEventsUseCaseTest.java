@@ -0,0 +1,64 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.EventService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class ListEventsUseCaseTest {
+
+    @Test
+    @DisplayName("Deve paginar eventos de um parceiro por data, continuando do cursor")
+    public void testListEvents() {
+        // given
+        final var partnerId = 7L;
+        final var from = LocalDate.of(2030, 1, 1);
+        final var to = LocalDate.of(2030, 12, 31);
+        final var eventService = Mockito.mock(EventService.class);
+        final var useCase = new ListEventsUseCase(eventService);
+
+        when(eventService.findPage(eq(partnerId), eq(from), eq(Long.MIN_VALUE), eq(to), eq(2))).thenReturn(List.of(
+                new EventDTO(10L, "Disney on Ice", LocalDate.of(2030, 3, 1), 100, partnerId),
+                new EventDTO(11L, "Cirque du Soleil", LocalDate.of(2030, 3, 1), 100, partnerId)
+        ));
+
+        when(eventService.findPage(eq(partnerId), eq(LocalDate.of(2030, 3, 1)), eq(10L), eq(to), eq(2))).thenReturn(List.of(
+                new EventDTO(11L, "Cirque du Soleil", LocalDate.of(2030, 3, 1), 100, partnerId)
+        ));
+
+        // when
+        final var firstPage = useCase.execute(new ListEventsUseCase.Input(null, 1, partnerId, "2030-01-01", "2030-12-31"));
+        final var secondPage = useCase.execute(
+                new ListEventsUseCase.Input(firstPage.pageInfo().endCursor(), 1, partnerId, "2030-01-01", "2030-12-31"));
+
+        // then
+        Assertions.assertEquals(10L, firstPage.edges().get(0).node().id());
+        Assertions.assertTrue(firstPage.pageInfo().hasNextPage());
+
+        Assertions.assertEquals(11L, secondPage.edges().get(0).node().id());
+        Assertions.assertFalse(secondPage.pageInfo().hasNextPage());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar um intervalo de datas invertido")
+    public void testListEvents_whenRangeIsInverted_ShouldThrow() {
+        // given
+        final var useCase = new ListEventsUseCase(Mockito.mock(EventService.class));
+        final var input = new ListEventsUseCase.Input(null, 10, null, "2030-12-31", "2030-01-01");
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(input));
+
+        // then
+        Assertions.assertEquals("Invalid date range", actualException.getMessage());
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.PartnerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.services.PartnerService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+class ListPartnersUseCaseTest {
+
+    @Test
+    @DisplayName("Deve listar a primeira página de parceiros com o tamanho padrão")
+    public void testListPartners() {
+        // given
+        final var partnerService = Mockito.mock(PartnerService.class);
+        final var useCase = new ListPartnersUseCase(partnerService);
+
+        when(partnerService.findPage(eq(Long.MIN_VALUE), eq(21))).thenReturn(List.of(
+                new PartnerDTO(1L, "John Doe", "41.536.538/0001-00", "john.doe@gmail.com")
+        ));
+
+        // when
+        final var output = useCase.execute(new ListPartnersUseCase.Input(null, null));
+
+        // then
+        Assertions.assertEquals(1, output.edges().size());
+        Assertions.assertFalse(output.pageInfo().hasNextPage());
+        Assertions.assertEquals(output.edges().get(0).cursor(), output.pageInfo().endCursor());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar páginas maiores que o limite")
+    public void testListPartners_whenPageIsTooLarge_ShouldThrow() {
+        // given
+        final var useCase = new ListPartnersUseCase(Mockito.mock(PartnerService.class));
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                ValidationException.class, () -> useCase.execute(new ListPartnersUseCase.Input(null, 101)));
+
+        // then
+        Assertions.assertEquals("Invalid value for first", actualException.getMessage());
+    }
+}
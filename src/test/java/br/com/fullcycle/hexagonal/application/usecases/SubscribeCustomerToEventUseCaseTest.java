@@ -11,12 +11,16 @@ import io.hypersistence.tsid.TSID;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 class SubscribeCustomerToEventUseCaseTest {
 
@@ -24,7 +28,6 @@ class SubscribeCustomerToEventUseCaseTest {
     @DisplayName("Deve comprar um ticket de um evento")
     public void testReserveTicket() {
         // given
-        final var expectedTicketsSize = 1;
         final var customerId = TSID.fast().toLong();
         final var eventId = TSID.fast().toLong();
 
@@ -49,11 +52,7 @@ class SubscribeCustomerToEventUseCaseTest {
         when(customerService.findById(customerId)).thenReturn(Optional.of(aCustomer));
         when(eventService.findById(eventId)).thenReturn(Optional.of(anEvent));
         when(eventService.findTicketByEventIdAndCustomerId(eventId, customerId)).thenReturn(Optional.empty());
-        when(eventService.save(any())).thenAnswer(a -> {
-            final var e = a.getArgument(0, Event.class);
-            Assertions.assertEquals(expectedTicketsSize, e.getTickets().size());
-            return e;
-        });
+        when(eventService.reserve(any())).thenAnswer(a -> Optional.of(a.getArgument(0, Ticket.class)));
 
         final var useCase = new SubscribeCustomerToEventUseCase(customerService, eventService);
         final var output = useCase.execute(subscribeInput);
@@ -62,6 +61,13 @@ class SubscribeCustomerToEventUseCaseTest {
         Assertions.assertEquals(eventId, output.eventId());
         Assertions.assertNotNull(output.reservationDate());
         Assertions.assertEquals(TicketStatus.PENDING.name(), output.ticketStatus());
+
+        final var reserved = ArgumentCaptor.forClass(Ticket.class);
+        verify(eventService).reserve(reserved.capture());
+        verify(eventService, never()).save(any());
+        Assertions.assertSame(anEvent, reserved.getValue().getEvent());
+        Assertions.assertSame(aCustomer, reserved.getValue().getCustomer());
+        Assertions.assertTrue(anEvent.getTickets().isEmpty());
     }
 
     @Test
@@ -150,7 +156,8 @@ class SubscribeCustomerToEventUseCaseTest {
 
         when(customerService.findById(customerId)).thenReturn(Optional.of(aCustomer));
         when(eventService.findById(eventId)).thenReturn(Optional.of(anEvent));
-        when(eventService.findTicketByEventIdAndCustomerId(eventId, customerId)).thenReturn(Optional.of(new Ticket()));
+        when(eventService.findTicketByEventIdAndCustomerId(eventId, customerId)).thenReturn(Optional.of(
+                new Ticket(10L, null, null, TicketStatus.PENDING, null, Instant.now())));
 
         final var useCase = new SubscribeCustomerToEventUseCase(customerService, eventService);
         final var actualException =
@@ -189,6 +196,7 @@ class SubscribeCustomerToEventUseCaseTest {
         when(customerService.findById(customerId)).thenReturn(Optional.of(aCustomer));
         when(eventService.findById(eventId)).thenReturn(Optional.of(anEvent));
         when(eventService.findTicketByEventIdAndCustomerId(eventId, customerId)).thenReturn(Optional.empty());
+        when(eventService.reserve(any())).thenReturn(Optional.empty());
 
         final var useCase = new SubscribeCustomerToEventUseCase(customerService, eventService);
         final var actualException =
@@ -197,4 +205,49 @@ class SubscribeCustomerToEventUseCaseTest {
         // then
         Assertions.assertEquals(expectedError, actualException.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Um cliente pode comprar de novo depois que o seu ingresso foi cancelado ou expirou")
+    public void testReserveTicketAfterReleasedTicket() {
+        // given
+        final var customerId = TSID.fast().toLong();
+        final var eventId = TSID.fast().toLong();
+
+        final var aCustomer = new Customer();
+        aCustomer.setId(customerId);
+        aCustomer.setCpf("12345678901");
+        aCustomer.setEmail("john.doe@gmail.com");
+        aCustomer.setName("John Doe");
+
+        final var anEvent = new Event();
+        anEvent.setId(eventId);
+        anEvent.setName("Disney");
+        anEvent.setTotalSpots(1);
+
+        final var releasedTicket = new Ticket(10L, aCustomer, anEvent, TicketStatus.EXPIRED, null, Instant.now());
+
+        final var subscribeInput =
+                new SubscribeCustomerToEventUseCase.Input(eventId, customerId);
+
+        // when
+        final var customerService = mock(CustomerService.class);
+        final var eventService = mock(EventService.class);
+
+        when(customerService.findById(customerId)).thenReturn(Optional.of(aCustomer));
+        when(eventService.findById(eventId)).thenReturn(Optional.of(anEvent));
+        when(eventService.findTicketByEventIdAndCustomerId(eventId, customerId)).thenReturn(Optional.of(releasedTicket));
+        when(eventService.reserve(any())).thenAnswer(a -> Optional.of(a.getArgument(0, Ticket.class)));
+
+        final var useCase = new SubscribeCustomerToEventUseCase(customerService, eventService);
+        final var output = useCase.execute(subscribeInput);
+
+        // then
+        Assertions.assertEquals(eventId, output.eventId());
+        Assertions.assertEquals(TicketStatus.PENDING.name(), output.ticketStatus());
+
+        final var reserved = ArgumentCaptor.forClass(Ticket.class);
+        verify(eventService).reserve(reserved.capture());
+        Assertions.assertNotSame(releasedTicket, reserved.getValue());
+        Assertions.assertEquals(TicketStatus.PENDING, reserved.getValue().getStatus());
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.resilience.EndpointClass;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+class BulkheadDataSourceConfigTest {
+
+    @Test
+    @DisplayName("Cada pool deve herdar spring.datasource.hikari.*, manter nome e tamanho e aplicar os ajustes da partição")
+    public void testPoolsInheritHikariSettings() throws Exception {
+        // given
+        final var environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.connection-timeout", "1234")
+                .withProperty("spring.datasource.hikari.max-lifetime", "600000")
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "99")
+                .withProperty("spring.datasource.hikari.data-source-properties.cachePrepStmts", "true")
+                .withProperty("bulkheads.partitions.exports.hikari.data-source-properties.useCursorFetch", "true");
+
+        final var dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:h2:mem:bulkheads");
+
+        final var bulkheadProperties = new BulkheadProperties(true, 1, Map.of(
+                EndpointClass.READS, new BulkheadProperties.Partition(8, 4)
+        ));
+
+        // when
+        try (final var dataSource = new BulkheadDataSourceConfig()
+                .dataSource(dataSourceProperties, bulkheadProperties, new SimpleMeterRegistry(), environment)) {
+            dataSource.afterPropertiesSet();
+
+            // then
+            for (final var endpointClass : EndpointClass.values()) {
+                final var pool = (HikariDataSource) dataSource.getResolvedDataSources().get(endpointClass);
+
+                Assertions.assertEquals(1234, pool.getConnectionTimeout());
+                Assertions.assertEquals(600000, pool.getMaxLifetime());
+                Assertions.assertEquals("true", pool.getDataSourceProperties().getProperty("cachePrepStmts"));
+                Assertions.assertEquals(bulkheadProperties.partition(endpointClass).poolSize(), pool.getMaximumPoolSize());
+            }
+
+            final var reads = (HikariDataSource) dataSource.getResolvedDataSources().get(EndpointClass.READS);
+            Assertions.assertEquals("hikari-reads", reads.getPoolName());
+            Assertions.assertEquals(4, reads.getMaximumPoolSize());
+            Assertions.assertNull(reads.getDataSourceProperties().getProperty("useCursorFetch"));
+
+            final var exports = (HikariDataSource) dataSource.getResolvedDataSources().get(EndpointClass.EXPORTS);
+            Assertions.assertEquals("true", exports.getDataSourceProperties().getProperty("useCursorFetch"));
+        }
+    }
+}
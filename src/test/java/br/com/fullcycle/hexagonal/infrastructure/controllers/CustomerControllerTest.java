@@ -136,6 +136,7 @@ public class CustomerControllerTest {
 
         var actualResponse = mapper.readValue(result, GetCustomerByIdUseCase.Output.class);
         Assertions.assertEquals(customerId, actualResponse.id());
+        Assertions.assertTrue(customerId.matches("\\d+"));
         Assertions.assertEquals(customer.name(), actualResponse.name());
         Assertions.assertEquals(customer.cpf(), actualResponse.cpf());
         Assertions.assertEquals(customer.email(), actualResponse.email());
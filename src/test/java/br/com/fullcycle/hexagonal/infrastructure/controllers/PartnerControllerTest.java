@@ -133,6 +133,7 @@ public class PartnerControllerTest {
 
         var actualResponse = mapper.readValue(result, GetPartnerByIdUseCase.Output.class);
         Assertions.assertEquals(partnerId, actualResponse.id());
+        Assertions.assertTrue(partnerId.matches("\\d+"));
         Assertions.assertEquals(partner.name(), actualResponse.name());
         Assertions.assertEquals(partner.cnpj(), actualResponse.cnpj());
         Assertions.assertEquals(partner.email(), actualResponse.email());
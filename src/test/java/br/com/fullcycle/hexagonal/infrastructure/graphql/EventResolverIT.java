@@ -0,0 +1,181 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.infrastructure.models.Customer;
+import br.com.fullcycle.hexagonal.infrastructure.models.Event;
+import br.com.fullcycle.hexagonal.infrastructure.models.Partner;
+import br.com.fullcycle.hexagonal.infrastructure.models.Ticket;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import br.com.fullcycle.hexagonal.infrastructure.observability.StatementBudget;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.test.tester.ExecutionGraphQlServiceTester;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@TestPropertySource(properties = "graphql.event-tickets.max=2")
+class EventResolverIT extends IntegrationTest {
+
+    private static final String EVENTS_WITH_TICKETS = """
+            query($first: ID!, $second: ID!) {
+                first: eventOfId(id: $first) { ...eventFields }
+                second: eventOfId(id: $second) { ...eventFields }
+            }
+
+            fragment eventFields on Event {
+                id
+                name
+                partner { id name }
+                tickets { id status customer { id name } }
+            }
+            """;
+
+    private static final String TICKETS_OF_EVENT = """
+            query($eventId: ID!, $after: String) {
+                ticketsOfEvent(eventId: $eventId, first: 2, after: $after) {
+                    edges { node { customer { name } } }
+                    pageInfo { hasNextPage endCursor }
+                }
+            }
+            """;
+
+    @Autowired
+    private ExecutionGraphQlService graphQlService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @AfterEach
+    void tearDown() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve resolver eventos, parceiros, ingressos e clientes em um número fixo de statements")
+    public void testEventsWithTicketsInFixedStatements() {
+        // given
+        final var partner = partnerRepository.save(new Partner(null, "John Doe", "41.536.538/0001-00", "john.doe@gmail.com"));
+        final var customers = List.of(
+                customerRepository.save(new Customer(null, "Gabriel", "123.456.789-01", "gabriel@gmail.com")),
+                customerRepository.save(new Customer(null, "Maria", "123.456.789-02", "maria@gmail.com")),
+                customerRepository.save(new Customer(null, "Joana", "123.456.789-03", "joana@gmail.com"))
+        );
+        final var first = createEvent(partner, "Disney on Ice", customers);
+        final var second = createEvent(partner, "Cirque du Soleil", customers.subList(0, 1));
+
+        final var tester = ExecutionGraphQlServiceTester.create(graphQlService);
+
+        // when
+        // Um select por evento na raiz; depois um para os parceiros, dois para os ingressos e um para os clientes,
+        // qualquer que seja a quantidade de eventos e ingressos
+        final var response = StatementBudget.atMost(6, () -> tester.document(EVENTS_WITH_TICKETS)
+                .variable("first", first.getId())
+                .variable("second", second.getId())
+                .execute());
+
+        // then
+        response.path("first.partner.name").entity(String.class).isEqualTo("John Doe");
+        response.path("second.partner.name").entity(String.class).isEqualTo("John Doe");
+        response.path("second.tickets[0].customer.name").entity(String.class).isEqualTo("Gabriel");
+    }
+
+    @Test
+    @DisplayName("Deve limitar os ingressos de cada evento ao máximo configurado")
+    public void testTicketsPerEventAreCapped() {
+        // given
+        final var partner = partnerRepository.save(new Partner(null, "John Doe", "41.536.538/0001-00", "john.doe@gmail.com"));
+        final var customers = List.of(
+                customerRepository.save(new Customer(null, "Gabriel", "123.456.789-01", "gabriel@gmail.com")),
+                customerRepository.save(new Customer(null, "Maria", "123.456.789-02", "maria@gmail.com")),
+                customerRepository.save(new Customer(null, "Joana", "123.456.789-03", "joana@gmail.com"))
+        );
+        final var first = createEvent(partner, "Disney on Ice", customers);
+        final var second = createEvent(partner, "Cirque du Soleil", customers.subList(0, 1));
+
+        final var tester = ExecutionGraphQlServiceTester.create(graphQlService);
+
+        // when
+        final var response = tester.document(EVENTS_WITH_TICKETS)
+                .variable("first", first.getId())
+                .variable("second", second.getId())
+                .execute();
+
+        // then
+        final var firstTickets = response.path("first.tickets[*].customer.name").entityList(String.class).get();
+        final var secondTickets = response.path("second.tickets[*].customer.name").entityList(String.class).get();
+
+        Assertions.assertEquals(List.of("Gabriel", "Maria"), firstTickets);
+        Assertions.assertEquals(List.of("Gabriel"), secondTickets);
+    }
+
+    @Test
+    @DisplayName("Deve paginar os ingressos de um evento por cursor")
+    public void testTicketsOfEventArePaginated() {
+        // given
+        final var partner = partnerRepository.save(new Partner(null, "John Doe", "41.536.538/0001-00", "john.doe@gmail.com"));
+        final var customers = List.of(
+                customerRepository.save(new Customer(null, "Gabriel", "123.456.789-01", "gabriel@gmail.com")),
+                customerRepository.save(new Customer(null, "Maria", "123.456.789-02", "maria@gmail.com")),
+                customerRepository.save(new Customer(null, "Joana", "123.456.789-03", "joana@gmail.com"))
+        );
+        final var event = createEvent(partner, "Disney on Ice", customers);
+
+        final var tester = ExecutionGraphQlServiceTester.create(graphQlService);
+
+        // when
+        final var first = tester.document(TICKETS_OF_EVENT)
+                .variable("eventId", event.getId())
+                .execute();
+        final var endCursor = first.path("ticketsOfEvent.pageInfo.endCursor").entity(String.class).get();
+        final var second = tester.document(TICKETS_OF_EVENT)
+                .variable("eventId", event.getId())
+                .variable("after", endCursor)
+                .execute();
+
+        // then
+        first.path("ticketsOfEvent.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(true);
+        second.path("ticketsOfEvent.pageInfo.hasNextPage").entity(Boolean.class).isEqualTo(false);
+
+        final var firstNames = first.path("ticketsOfEvent.edges[*].node.customer.name").entityList(String.class).get();
+        final var secondNames = second.path("ticketsOfEvent.edges[*].node.customer.name").entityList(String.class).get();
+
+        Assertions.assertEquals(List.of("Gabriel", "Maria"), firstNames);
+        Assertions.assertEquals(List.of("Joana"), secondNames);
+    }
+
+    private Event createEvent(final Partner partner, final String name, final List<Customer> customers) {
+        final var event = new Event();
+        event.setName(name);
+        event.setDate(LocalDate.of(2030, 1, 1));
+        event.setTotalSpots(10);
+        event.setPartner(partner);
+
+        final var saved = eventRepository.save(event);
+        customers.forEach(customer -> ticketRepository.save(
+                new Ticket(null, customer, saved, TicketStatus.PENDING, null, Instant.now())));
+        return saved;
+    }
+}
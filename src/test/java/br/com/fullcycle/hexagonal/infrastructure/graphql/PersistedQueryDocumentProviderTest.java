@@ -0,0 +1,126 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.parser.Parser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class PersistedQueryDocumentProviderTest {
+
+    private static final String EVENT_QUERY = "{ eventOfId(id: 1) { id name } }";
+    private static final String CUSTOMER_QUERY = "{ customerOfId(id: 1) { id name } }";
+    private static final String PARTNER_QUERY = "{ partners(first: 10) { pageInfo { hasNextPage } } }";
+
+    private final AtomicInteger parses = new AtomicInteger();
+
+    private final Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate = input -> {
+        parses.incrementAndGet();
+        return new PreparsedDocumentEntry(Parser.parse(input.getQuery()));
+    };
+
+    @Test
+    @DisplayName("Deve rejeitar a consulta quando o hash enviado não corresponder ao texto")
+    public void testHashMismatch() {
+        // given
+        final var provider = new PersistedQueryDocumentProvider(10);
+        final var input = persisted(EVENT_QUERY, sha256(CUSTOMER_QUERY));
+
+        // when
+        final var entry = provider.getDocument(input, parseAndValidate);
+
+        // then
+        Assertions.assertTrue(entry.hasErrors());
+        Assertions.assertEquals("PersistedQueryIdInvalid", entry.getErrors().get(0).getMessage());
+        Assertions.assertEquals(0, parses.get());
+        Assertions.assertEquals(0, provider.size());
+    }
+
+    @Test
+    @DisplayName("Deve responder PersistedQueryNotFound quando apenas o hash de uma consulta desconhecida for enviado")
+    public void testNotFound() {
+        // given
+        final var provider = new PersistedQueryDocumentProvider(10);
+        final var input = persisted(PersistedQuerySupport.PERSISTED_QUERY_MARKER, sha256(EVENT_QUERY));
+
+        // when
+        final var entry = provider.getDocument(input, parseAndValidate);
+
+        // then
+        Assertions.assertTrue(entry.hasErrors());
+        Assertions.assertTrue(entry.getErrors().get(0) instanceof PersistedQueryNotFound);
+        Assertions.assertEquals(0, parses.get());
+    }
+
+    @Test
+    @DisplayName("Deve atender pelo hash uma consulta registrada antes, sem parsear de novo")
+    public void testRegisterThenHit() {
+        // given
+        final var provider = new PersistedQueryDocumentProvider(10);
+        final var hash = sha256(EVENT_QUERY);
+        final var registered = provider.getDocument(persisted(EVENT_QUERY, hash), parseAndValidate);
+
+        // when
+        final var hit = provider.getDocument(persisted(PersistedQuerySupport.PERSISTED_QUERY_MARKER, hash), parseAndValidate);
+        final var plain = provider.getDocument(plain(EVENT_QUERY), parseAndValidate);
+
+        // then
+        Assertions.assertFalse(hit.hasErrors());
+        Assertions.assertSame(registered, hit);
+        Assertions.assertSame(registered, plain);
+        Assertions.assertEquals(1, parses.get());
+        Assertions.assertEquals(1, provider.size());
+    }
+
+    @Test
+    @DisplayName("Deve manter o cache no tamanho máximo sem descartar a operação quente numa rajada de consultas únicas")
+    public void testBoundedAndKeepsHotDocument() {
+        // given
+        final var provider = new PersistedQueryDocumentProvider(2);
+        for (int i = 0; i < 5; i++) {
+            provider.getDocument(plain(EVENT_QUERY), parseAndValidate);
+        }
+
+        // when
+        provider.getDocument(plain(CUSTOMER_QUERY), parseAndValidate);
+        provider.getDocument(plain(PARTNER_QUERY), parseAndValidate);
+        for (int i = 0; i < 10; i++) {
+            provider.getDocument(plain("{ eventOfId(id: " + i + ") { id } }"), parseAndValidate);
+        }
+
+        // then
+        Assertions.assertEquals(2, provider.size());
+        Assertions.assertFalse(provider.getDocument(
+                persisted(PersistedQuerySupport.PERSISTED_QUERY_MARKER, sha256(EVENT_QUERY)), parseAndValidate).hasErrors());
+        Assertions.assertEquals(13, parses.get());
+    }
+
+    private static ExecutionInput plain(final String query) {
+        return ExecutionInput.newExecutionInput().query(query).build();
+    }
+
+    private static ExecutionInput persisted(final String query, final String hash) {
+        return ExecutionInput.newExecutionInput()
+                .query(query)
+                .extensions(Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash)))
+                .build();
+    }
+
+    private static String sha256(final String query) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
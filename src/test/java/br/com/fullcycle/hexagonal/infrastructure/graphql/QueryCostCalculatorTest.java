@@ -0,0 +1,142 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import graphql.GraphQL;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.instrumentation.ChainedInstrumentation;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class QueryCostCalculatorTest {
+
+    private static final String SCHEMA = """
+            type Query {
+                eventOfId(id: ID!): Event
+                ticketsOfEvent(eventId: ID!): [Ticket!]!
+            }
+
+            type Event {
+                id: ID!
+                name: String
+                tickets: [Ticket!]!
+            }
+
+            type Ticket {
+                id: ID!
+                status: String
+                event: Event
+            }
+            """;
+
+    private static final Map<String, Integer> WEIGHTS = Map.of("Query.ticketsOfEvent", 5, "Event.tickets", 5);
+
+    // eventOfId(1) + name(1) + tickets(5 + 10 * id(1)) = 17
+    private static final String EVENT_WITH_TICKETS = "{ eventOfId(id: 1) { name tickets { id } } }";
+
+    // ticketsOfEvent(5 + 10 * (id(1) + event(1 + tickets(5 + 10 * status(1))))) = 175
+    private static final String TICKETS_WITH_EVENT_TICKETS =
+            "{ ticketsOfEvent(eventId: 1) { id event { tickets { status } } } }";
+
+    // Profundidade 6: ticketsOfEvent > event > tickets > event > tickets > id
+    private static final String DEEP = "{ ticketsOfEvent(eventId: 1) { event { tickets { event { tickets { id } } } } } }";
+
+    @Test
+    @DisplayName("Deve somar o peso de cada campo e multiplicar os filhos de listas pelo fator")
+    public void testCost() {
+        // given
+        final var atLimit = graphQL(17, 10, null);
+        final var belowLimit = graphQL(16, 10, null);
+
+        // when
+        final var accepted = atLimit.execute(EVENT_WITH_TICKETS);
+        final var rejected = belowLimit.execute(EVENT_WITH_TICKETS);
+
+        // then
+        Assertions.assertTrue(accepted.getErrors().isEmpty(), () -> accepted.getErrors().toString());
+        Assertions.assertTrue(rejected.getErrors().get(0).getMessage().contains("maximum query complexity exceeded 17 > 16"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a consulta cujo custo ultrapasse o máximo")
+    public void testCostAboveLimit() {
+        // given
+        final var graphQL = graphQL(174, 10, null);
+
+        // when
+        final var result = graphQL.execute(TICKETS_WITH_EVENT_TICKETS);
+
+        // then
+        Assertions.assertFalse(result.getErrors().isEmpty());
+        Assertions.assertTrue(result.getErrors().get(0).getMessage().contains("maximum query complexity exceeded 175 > 174"));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar campos de introspecção no custo")
+    public void testIntrospectionIsFree() {
+        // given
+        final var graphQL = graphQL(1, 10, null);
+
+        // when
+        final var result = graphQL.execute("{ __schema { types { name fields { name } } } }");
+
+        // then
+        Assertions.assertTrue(result.getErrors().isEmpty(), () -> result.getErrors().toString());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a consulta mais profunda que o máximo")
+    public void testDepthAboveLimit() {
+        // given
+        final var graphQL = graphQL(100_000, 5, null);
+
+        // when
+        final var result = graphQL.execute(DEEP);
+
+        // then
+        Assertions.assertFalse(result.getErrors().isEmpty());
+        Assertions.assertTrue(result.getErrors().get(0).getMessage().contains("maximum query depth exceeded 6 > 5"));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar custo e profundidade também às consultas servidas do cache de documentos")
+    public void testLimitsApplyToCachedDocuments() {
+        // given
+        // A profundidade é verificada primeiro, então DEEP falha por ela mesmo custando mais que 174
+        final var provider = new PersistedQueryDocumentProvider(10);
+        final var graphQL = graphQL(174, 5, provider);
+
+        // when
+        final var first = List.of(graphQL.execute(TICKETS_WITH_EVENT_TICKETS), graphQL.execute(DEEP));
+        final var cached = List.of(graphQL.execute(TICKETS_WITH_EVENT_TICKETS), graphQL.execute(DEEP));
+
+        // then
+        Assertions.assertEquals(2, provider.size());
+        first.forEach(result -> Assertions.assertFalse(result.getErrors().isEmpty()));
+        Assertions.assertTrue(cached.get(0).getErrors().get(0).getMessage().contains("maximum query complexity exceeded"));
+        Assertions.assertTrue(cached.get(1).getErrors().get(0).getMessage().contains("maximum query depth exceeded"));
+    }
+
+    private static GraphQL graphQL(final int maxComplexity, final int maxDepth, final PersistedQueryDocumentProvider provider) {
+        final var schema = new SchemaGenerator().makeExecutableSchema(
+                new SchemaParser().parse(SCHEMA),
+                RuntimeWiring.newRuntimeWiring().build()
+        );
+
+        final var builder = GraphQL.newGraphQL(schema).instrumentation(new ChainedInstrumentation(List.of(
+                new MaxQueryDepthInstrumentation(maxDepth),
+                new MaxQueryComplexityInstrumentation(maxComplexity, new QueryCostCalculator(WEIGHTS, 10))
+        )));
+
+        if (provider != null) {
+            builder.preparsedDocumentProvider(provider);
+        }
+        return builder.build();
+    }
+}
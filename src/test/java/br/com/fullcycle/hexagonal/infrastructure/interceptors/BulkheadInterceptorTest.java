@@ -0,0 +1,164 @@
+package br.com.fullcycle.hexagonal.infrastructure.interceptors;
+
+import br.com.fullcycle.hexagonal.infrastructure.resilience.Bulkhead;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.BulkheadRoutingDataSource;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.EndpointClass;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+
+class BulkheadInterceptorTest {
+
+    private static final Map<String, EndpointClass> ROUTES = Map.of(
+            "GET /events/1", EndpointClass.READS,
+            "GET /customers/search", EndpointClass.READS,
+            "GET /events/1/attendees", EndpointClass.EXPORTS,
+            "POST /events", EndpointClass.CREATES,
+            "POST /customers", EndpointClass.CREATES,
+            "POST /events/1/subscribe", EndpointClass.SUBSCRIBE,
+            "POST /graphql", EndpointClass.GRAPHQL,
+            "GET /graphql", EndpointClass.GRAPHQL
+    );
+
+    @AfterEach
+    void tearDown() {
+        BulkheadRoutingDataSource.clear();
+    }
+
+    @Test
+    @DisplayName("Deve classificar cada endpoint na sua classe")
+    public void testClassify() {
+        ROUTES.forEach((route, expected) -> {
+            // given
+            final var request = request(route);
+
+            // when
+            final var actual = BulkheadInterceptor.classify(request);
+
+            // then
+            Assertions.assertEquals(expected, actual, route);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve desconsiderar o context path na classificação")
+    public void testClassifyWithContextPath() {
+        // given
+        final var request = new MockHttpServletRequest("POST", "/api/graphql");
+        request.setContextPath("/api");
+
+        // when
+        final var actual = BulkheadInterceptor.classify(request);
+
+        // then
+        Assertions.assertEquals(EndpointClass.GRAPHQL, actual);
+    }
+
+    @Test
+    @DisplayName("Deve rotear as conexões de cada requisição para o pool da sua classe")
+    public void testRoutesToPartition() throws Exception {
+        // given
+        final var connections = new EnumMap<EndpointClass, Connection>(EndpointClass.class);
+        final var partitions = new EnumMap<EndpointClass, DataSource>(EndpointClass.class);
+        final var bulkheads = new EnumMap<EndpointClass, Bulkhead>(EndpointClass.class);
+
+        for (final var endpointClass : EndpointClass.values()) {
+            final var connection = Mockito.mock(Connection.class);
+            final var partition = Mockito.mock(DataSource.class);
+            when(partition.getConnection()).thenReturn(connection);
+
+            connections.put(endpointClass, connection);
+            partitions.put(endpointClass, partition);
+            bulkheads.put(endpointClass, new Bulkhead(endpointClass, 1));
+        }
+
+        final var dataSource = new BulkheadRoutingDataSource(partitions);
+        dataSource.afterPropertiesSet();
+        final var interceptor = new BulkheadInterceptor(bulkheads, 1);
+
+        for (final var route : ROUTES.entrySet()) {
+            final var request = request(route.getKey());
+            final var response = new MockHttpServletResponse();
+
+            // when
+            final var proceed = interceptor.preHandle(request, response, new Object());
+            final var connection = dataSource.getConnection();
+            interceptor.afterCompletion(request, response, new Object(), null);
+
+            // then
+            Assertions.assertTrue(proceed, route.getKey());
+            Assertions.assertSame(connections.get(route.getValue()), connection, route.getKey());
+            Assertions.assertEquals(1, bulkheads.get(route.getValue()).available(), route.getKey());
+        }
+
+        // Fora de uma requisição a thread volta ao pool DEFAULT
+        Assertions.assertSame(connections.get(EndpointClass.DEFAULT), dataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 503 quando o bulkhead da classe estiver cheio")
+    public void testRejectsWhenFull() throws Exception {
+        // given
+        final var bulkhead = new Bulkhead(EndpointClass.SUBSCRIBE, 1);
+        final var interceptor = new BulkheadInterceptor(Map.of(EndpointClass.SUBSCRIBE, bulkhead), 1);
+        interceptor.preHandle(request("POST /events/1/subscribe"), new MockHttpServletResponse(), new Object());
+
+        final var response = new MockHttpServletResponse();
+
+        // when
+        final var proceed = interceptor.preHandle(request("POST /events/2/subscribe"), response, new Object());
+
+        // then
+        Assertions.assertFalse(proceed);
+        Assertions.assertEquals(503, response.getStatus());
+        Assertions.assertEquals("1", response.getHeader("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("Deve segurar a vaga da exportação até o fim do dispatch assíncrono")
+    public void testExportHoldsPermitUntilAsyncDispatchCompletes() throws Exception {
+        // given
+        final var exports = new Bulkhead(EndpointClass.EXPORTS, 1);
+        final var reads = new Bulkhead(EndpointClass.READS, 1);
+        final var interceptor = new BulkheadInterceptor(Map.of(EndpointClass.EXPORTS, exports, EndpointClass.READS, reads), 1);
+
+        final var export = request("GET /events/1/attendees");
+        final var read = request("GET /events/1");
+        interceptor.preHandle(export, new MockHttpServletResponse(), new Object());
+        interceptor.preHandle(read, new MockHttpServletResponse(), new Object());
+
+        // when
+        interceptor.afterConcurrentHandlingStarted(export, new MockHttpServletResponse(), new Object());
+        interceptor.afterConcurrentHandlingStarted(read, new MockHttpServletResponse(), new Object());
+
+        final var rejected = new MockHttpServletResponse();
+        final var proceed = interceptor.preHandle(request("GET /events/2/attendees"), rejected, new Object());
+
+        export.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(export, new MockHttpServletResponse(), new Object());
+        interceptor.afterCompletion(export, new MockHttpServletResponse(), new Object(), null);
+
+        // then
+        Assertions.assertFalse(proceed);
+        Assertions.assertEquals(503, rejected.getStatus());
+        Assertions.assertEquals(1, reads.available());
+        Assertions.assertEquals(1, exports.available());
+    }
+
+    private static MockHttpServletRequest request(final String route) {
+        final var parts = route.split(" ");
+        return new MockHttpServletRequest(parts[0], parts[1]);
+    }
+}
@@ -0,0 +1,70 @@
+package br.com.fullcycle.hexagonal.infrastructure.interceptors;
+
+import br.com.fullcycle.hexagonal.infrastructure.configurations.RateLimitProperties;
+import br.com.fullcycle.hexagonal.infrastructure.resilience.RateLimiter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+class RateLimitInterceptorTest {
+
+    private static final String API_KEY = "partner-key";
+
+    private final RateLimitInterceptor interceptor = new RateLimitInterceptor(
+            new RateLimiter(100, Duration.ofMinutes(10)),
+            List.of(new RateLimitProperties.Rule("POST", "/events/*/subscribe", 1, 1)),
+            Set.of(API_KEY)
+    );
+
+    @Test
+    @DisplayName("Deve limitar pelo endereço remoto quando a API key não for cadastrada")
+    public void testUnknownApiKeyUsesRemoteAddress() throws Exception {
+        // given
+        final var first = subscribe("10.0.0.1", "random-1");
+        final var second = subscribe("10.0.0.1", "random-2");
+
+        // when
+        final var firstAllowed = interceptor.preHandle(first, new MockHttpServletResponse(), new Object());
+        final var response = new MockHttpServletResponse();
+        final var secondAllowed = interceptor.preHandle(second, response, new Object());
+
+        // then
+        Assertions.assertTrue(firstAllowed);
+        Assertions.assertFalse(secondAllowed);
+        Assertions.assertEquals(429, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve limitar pela API key cadastrada, independentemente do endereço remoto")
+    public void testKnownApiKeyHasItsOwnBucket() throws Exception {
+        // given
+        final var anonymous = subscribe("10.0.0.1", null);
+        final var authenticated = subscribe("10.0.0.1", API_KEY);
+        final var sameKeyOtherAddress = subscribe("10.0.0.2", API_KEY);
+
+        // when
+        final var anonymousAllowed = interceptor.preHandle(anonymous, new MockHttpServletResponse(), new Object());
+        final var authenticatedAllowed = interceptor.preHandle(authenticated, new MockHttpServletResponse(), new Object());
+        final var sameKeyAllowed = interceptor.preHandle(sameKeyOtherAddress, new MockHttpServletResponse(), new Object());
+
+        // then
+        Assertions.assertTrue(anonymousAllowed);
+        Assertions.assertTrue(authenticatedAllowed);
+        Assertions.assertFalse(sameKeyAllowed);
+    }
+
+    private static MockHttpServletRequest subscribe(final String remoteAddress, final String apiKey) {
+        final var request = new MockHttpServletRequest("POST", "/events/1/subscribe");
+        request.setRemoteAddr(remoteAddress);
+        if (apiKey != null) {
+            request.addHeader(RateLimitInterceptor.API_KEY_HEADER, apiKey);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+class RouteLatencyRecorderTest {
+
+    @Test
+    @DisplayName("Deve calcular percentis por rota considerando apenas os intervalos de cada janela")
+    public void testSlidingWindows() {
+        // given
+        final var route = "GET /customers/{id}";
+        final var recorder = new RouteLatencyRecorder(Duration.ofSeconds(5), List.of(Duration.ofSeconds(5), Duration.ofSeconds(10)));
+
+        for (int i = 1; i <= 100; i++) {
+            recorder.record(route, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        recorder.rotate();
+
+        // when
+        recorder.record(route, TimeUnit.MILLISECONDS.toNanos(500));
+        recorder.rotate();
+
+        final var snapshot = recorder.snapshot().get(route);
+
+        // then
+        final var lastInterval = snapshot.get("5s");
+        final var twoIntervals = snapshot.get("10s");
+
+        Assertions.assertEquals(1, lastInterval.count());
+        Assertions.assertEquals(500, lastInterval.max(), 1);
+        Assertions.assertEquals(101, twoIntervals.count());
+        Assertions.assertEquals(50, twoIntervals.p50(), 1);
+        Assertions.assertEquals(500, twoIntervals.max(), 1);
+    }
+
+    @Test
+    @DisplayName("Deve descartar intervalos mais antigos que a maior janela")
+    public void testOldIntervalsAreRecycled() {
+        // given
+        final var route = "POST /events";
+        final var recorder = new RouteLatencyRecorder(Duration.ofSeconds(5), List.of(Duration.ofSeconds(10)));
+
+        recorder.record(route, TimeUnit.MILLISECONDS.toNanos(10));
+        recorder.rotate();
+
+        // when
+        recorder.rotate();
+        recorder.rotate();
+
+        // then
+        Assertions.assertEquals(0, recorder.snapshot().get(route).get("10s").count());
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import org.junit.jupiter.api.Assertions;
+
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Orçamento de statements para testes de integração: falha quando o trecho executa mais statements
+// que o permitido, listando cada formato e quantas vezes rodou.
+//
+//   final var output = StatementBudget.atMost(1, () -> useCase.execute(input));
+public final class StatementBudget {
+
+    private StatementBudget() {
+    }
+
+    public static <T> T atMost(final int maxStatements, final Supplier<T> action) {
+        try (final var scope = StatementScope.open()) {
+            final var result = action.get();
+
+            if (scope.count() > maxStatements) {
+                Assertions.fail("Expected at most %d statements but %d were executed:%n%s".formatted(
+                        maxStatements,
+                        scope.count(),
+                        scope.countsByShape().entrySet().stream()
+                                .map(entry -> "  %dx %s".formatted(entry.getValue(), entry.getKey()))
+                                .collect(Collectors.joining(System.lineSeparator()))
+                ));
+            }
+
+            return result;
+        }
+    }
+
+    public static void atMost(final int maxStatements, final Runnable action) {
+        atMost(maxStatements, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
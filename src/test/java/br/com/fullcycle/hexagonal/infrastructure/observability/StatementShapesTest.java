@@ -0,0 +1,24 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StatementShapesTest {
+
+    @Test
+    @DisplayName("Deve reduzir statements equivalentes ao mesmo formato")
+    public void testNormalize() {
+        // given
+        final var shapes = new StatementShapes();
+
+        // when
+        final var first = shapes.shapeOf("select e.id from events e where e.id in (?, ?, ?) and e.name = 'Disney'");
+        final var second = shapes.shapeOf("SELECT e.id FROM events e\n WHERE e.id IN (?) AND e.name = 'It''s'");
+
+        // then
+        Assertions.assertEquals("select e.id from events e where e.id in (?) and e.name = ?", first);
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals("select", StatementShapes.typeOf(first));
+    }
+}
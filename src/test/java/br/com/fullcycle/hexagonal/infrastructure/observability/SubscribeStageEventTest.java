@@ -0,0 +1,45 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+class SubscribeStageEventTest {
+
+    @Test
+    @DisplayName("Deve registrar a etapa no JFR com os ids do evento e do cliente")
+    public void testCommitsStage(@TempDir final Path directory) throws Exception {
+        // given
+        final var file = directory.resolve("subscribe.jfr");
+        final var eventId = 10L;
+        final var customerId = 20L;
+
+        // when
+        try (final var recording = new Recording()) {
+            recording.enable(SubscribeStageEvent.class);
+            recording.start();
+
+            final var result = SubscribeStageEvent.timed(SubscribeStageEvent.SAVE, eventId, customerId, () -> "saved");
+
+            recording.stop();
+            recording.dump(file);
+
+            Assertions.assertEquals("saved", result);
+        }
+
+        // then
+        final var events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("br.com.fullcycle.SubscribeStage"))
+                .toList();
+
+        Assertions.assertEquals(1, events.size());
+        Assertions.assertEquals(SubscribeStageEvent.SAVE, events.get(0).getString("stage"));
+        Assertions.assertEquals(eventId, events.get(0).getLong("eventId"));
+        Assertions.assertEquals(customerId, events.get(0).getLong("customerId"));
+    }
+}
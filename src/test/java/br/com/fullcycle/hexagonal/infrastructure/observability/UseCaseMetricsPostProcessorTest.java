@@ -0,0 +1,62 @@
+package br.com.fullcycle.hexagonal.infrastructure.observability;
+
+import br.com.fullcycle.hexagonal.application.InMemoryPartnerRepository;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.usecases.CreatePartnerUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class UseCaseMetricsPostProcessorTest {
+
+    @Test
+    @DisplayName("Deve medir execuções com sucesso e com erro de validação de um caso de uso")
+    public void testRecordsOutcomes() {
+        // given
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+
+        final var postProcessor = new UseCaseMetricsPostProcessor(beanFactory.getBeanProvider(MeterRegistry.class));
+        final var useCase = (CreatePartnerUseCase) postProcessor.postProcessAfterInitialization(
+                new CreatePartnerUseCase(new InMemoryPartnerRepository()), "createPartnerUseCase");
+
+        final var input = new CreatePartnerUseCase.Input("41.536.538/0001-00", "john.doe@gmail.com", "John Doe");
+
+        // when
+        useCase.execute(input);
+        Assertions.assertThrows(ValidationException.class, () -> useCase.execute(input));
+
+        // then
+        final var success = meterRegistry.get(UseCaseMetricsInterceptor.TIMER_NAME)
+                .tags("usecase", "CreatePartnerUseCase", "outcome", "success")
+                .timer();
+        final var validation = meterRegistry.get(UseCaseMetricsInterceptor.TIMER_NAME)
+                .tags("usecase", "CreatePartnerUseCase", "outcome", "validation", "exception", "Partner already exists")
+                .timer();
+        final var inFlight = meterRegistry.get(UseCaseMetricsInterceptor.INFLIGHT_NAME)
+                .tags("usecase", "CreatePartnerUseCase")
+                .gauge();
+
+        Assertions.assertEquals(1, success.count());
+        Assertions.assertEquals(1, validation.count());
+        Assertions.assertEquals(0, inFlight.value());
+    }
+
+    @Test
+    @DisplayName("Não deve envolver beans que não são casos de uso")
+    public void testIgnoresOtherBeans() {
+        // given
+        final var postProcessor = new UseCaseMetricsPostProcessor(new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        final var bean = new Object();
+
+        // when
+        final var processed = postProcessor.postProcessAfterInitialization(bean, "other");
+
+        // then
+        Assertions.assertSame(bean, processed);
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.fullcycle.hexagonal.infrastructure.resilience;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    @DisplayName("Deve recusar pedidos acima do limite e contá-los")
+    public void testRejectAboveLimit() {
+        // given
+        final var limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.2, 1.5);
+
+        // when
+        final var first = limiter.tryAcquire();
+        final var second = limiter.tryAcquire();
+        final var third = limiter.tryAcquire();
+
+        // then
+        Assertions.assertTrue(first);
+        Assertions.assertTrue(second);
+        Assertions.assertFalse(third);
+        Assertions.assertEquals(2, limiter.inFlight());
+        Assertions.assertEquals(1, limiter.rejected());
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite enquanto a latência se mantiver estável sob demanda")
+    public void testGrowsWithStableLatency() {
+        // given
+        final var limiter = new AdaptiveConcurrencyLimiter(20, 5, 200, 0.2, 1.5);
+
+        // when
+        saturate(limiter, FAST, 50);
+
+        // then
+        Assertions.assertTrue(limiter.limit() > 20, () -> "limit = " + limiter.limit());
+    }
+
+    @Test
+    @DisplayName("Não deve aumentar o limite sem demanda que o justifique")
+    public void testDoesNotGrowWithoutDemand() {
+        // given
+        final var limiter = new AdaptiveConcurrencyLimiter(20, 5, 200, 0.2, 1.5);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+
+        // then
+        Assertions.assertEquals(20, limiter.limit());
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite quando a latência recente subir")
+    public void testShrinksWhenLatencyRises() {
+        // given
+        final var limiter = new AdaptiveConcurrencyLimiter(50, 5, 200, 0.2, 1.5);
+        saturate(limiter, FAST, 20);
+        final var before = limiter.limit();
+
+        // when
+        saturate(limiter, SLOW, 20);
+
+        // then
+        Assertions.assertTrue(limiter.limit() < before, () -> "before = " + before + ", after = " + limiter.limit());
+    }
+
+    @Test
+    @DisplayName("Deve manter o limite entre o mínimo e o máximo configurados")
+    public void testStaysWithinBounds() {
+        // given
+        final var growing = new AdaptiveConcurrencyLimiter(20, 5, 30, 0.2, 1.5);
+        final var shrinking = new AdaptiveConcurrencyLimiter(20, 15, 200, 0.2, 1.5);
+
+        // when
+        saturate(growing, FAST, 500);
+        saturate(shrinking, FAST, 1);
+        saturate(shrinking, SLOW * 10, 30);
+
+        // then
+        Assertions.assertEquals(30, growing.limit());
+        Assertions.assertEquals(15, shrinking.limit());
+    }
+
+    // Ocupa todo o limite antes de cada amostra, como um pool saturado
+    private static void saturate(final AdaptiveConcurrencyLimiter limiter, final long rttNanos, final int samples) {
+        for (int i = 0; i < samples; i++) {
+            while (limiter.tryAcquire()) {
+            }
+            limiter.release(rttNanos);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.fullcycle.hexagonal.infrastructure.resilience;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class RateLimiterTest {
+
+    @Test
+    @DisplayName("Deve aceitar um cliente novo sem zerar os buckets ativos, mesmo acima do teto")
+    public void testAcceptsNewcomerWithoutResettingActiveBuckets() {
+        // given
+        final var rateLimiter = new RateLimiter(2, Duration.ofMinutes(10));
+        rateLimiter.tryAcquire("a", 1, 1);
+        rateLimiter.tryAcquire("b", 1, 1);
+
+        // when
+        final var newcomer = rateLimiter.tryAcquire("c", 1, 1);
+
+        // then
+        Assertions.assertEquals(0, newcomer);
+        Assertions.assertEquals(3, rateLimiter.size());
+        Assertions.assertTrue(rateLimiter.tryAcquire("a", 1, 1) > 0);
+        Assertions.assertTrue(rateLimiter.tryAcquire("b", 1, 1) > 0);
+    }
+
+    @Test
+    @DisplayName("Deve descartar os buckets já cheios quando o registro passar do teto")
+    public void testEvictsRefilledBucketsOverCapacity() throws InterruptedException {
+        // given
+        final var rateLimiter = new RateLimiter(2, Duration.ofMinutes(10));
+        rateLimiter.tryAcquire("active", 1, 1);
+        rateLimiter.tryAcquire("refilled", 1_000_000_000, 1);
+        Thread.sleep(1);
+
+        // when
+        final var newcomer = rateLimiter.tryAcquire("c", 1, 1);
+
+        // then
+        Assertions.assertEquals(0, newcomer);
+        Assertions.assertEquals(2, rateLimiter.size());
+        Assertions.assertTrue(rateLimiter.tryAcquire("active", 1, 1) > 0);
+    }
+
+    @Test
+    @DisplayName("Deve remover buckets ociosos há mais que o tempo configurado")
+    public void testEvictIdle() throws InterruptedException {
+        // given
+        final var rateLimiter = new RateLimiter(100, Duration.ZERO);
+        rateLimiter.tryAcquire("a", 1_000_000_000, 1);
+        rateLimiter.tryAcquire("b", 1, 1);
+        Thread.sleep(1);
+
+        // when
+        rateLimiter.evictIdle();
+
+        // then
+        Assertions.assertEquals(1, rateLimiter.size());
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.fullcycle.hexagonal.infrastructure.resilience;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("Deve aceitar a rajada configurada e recusar o pedido seguinte")
+    public void testBurst() {
+        // given
+        final var now = 0L;
+        final var bucket = new TokenBucket(1, 3, now);
+
+        // when
+        final var first = bucket.tryAcquire(now);
+        final var second = bucket.tryAcquire(now);
+        final var third = bucket.tryAcquire(now);
+        final var fourth = bucket.tryAcquire(now);
+
+        // then
+        Assertions.assertEquals(0, first);
+        Assertions.assertEquals(0, second);
+        Assertions.assertEquals(0, third);
+        Assertions.assertEquals(TimeUnit.SECONDS.toNanos(1), fourth);
+    }
+
+    @Test
+    @DisplayName("Deve repor fichas com o passar do tempo")
+    public void testRefill() {
+        // given
+        final var bucket = new TokenBucket(2, 1, 0L);
+        bucket.tryAcquire(0L);
+
+        // when
+        final var tooSoon = bucket.tryAcquire(TimeUnit.MILLISECONDS.toNanos(100));
+        final var afterInterval = bucket.tryAcquire(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // then
+        Assertions.assertTrue(tooSoon > 0);
+        Assertions.assertEquals(0, afterInterval);
+    }
+
+    @Test
+    @DisplayName("Bucket cheio há mais tempo que o limite deve ser considerado ocioso")
+    public void testIdle() {
+        // given
+        final var bucket = new TokenBucket(1, 5, 0L);
+        bucket.tryAcquire(0L);
+
+        // when / then
+        Assertions.assertFalse(bucket.isIdle(TimeUnit.SECONDS.toNanos(5), TimeUnit.SECONDS.toNanos(10)));
+        Assertions.assertTrue(bucket.isIdle(TimeUnit.SECONDS.toNanos(12), TimeUnit.SECONDS.toNanos(10)));
+    }
+}
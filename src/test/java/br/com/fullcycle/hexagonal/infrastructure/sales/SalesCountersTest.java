@@ -0,0 +1,197 @@
+package br.com.fullcycle.hexagonal.infrastructure.sales;
+
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class SalesCountersTest {
+
+    @Test
+    @DisplayName("Deve contar reservas e pagamentos por minuto, o total vendido e a conversão do parceiro")
+    public void testPartnerStats() {
+        // given
+        final var start = Instant.parse("2030-01-01T10:00:00Z");
+        final var counters = new SalesCounters(60, Clock.fixed(start, ZoneOffset.UTC));
+        counters.seed(1L, 7L, 10);
+
+        // when
+        counters.record(7L, 1L, null, TicketStatus.PENDING);
+        counters.record(7L, 1L, null, TicketStatus.PENDING);
+        counters.record(7L, 2L, null, TicketStatus.PENDING);
+        counters.record(7L, 1L, TicketStatus.PENDING, TicketStatus.PAID);
+        counters.record(7L, 2L, TicketStatus.PENDING, TicketStatus.EXPIRED);
+
+        final var stats = counters.partner(7L, 5);
+
+        // then
+        Assertions.assertEquals(11, stats.cumulativeSold());
+        Assertions.assertEquals(3, stats.reserved());
+        Assertions.assertEquals(1, stats.paid());
+        Assertions.assertEquals(1, stats.released());
+        Assertions.assertEquals(1.0 / 3, stats.conversion(), 1e-9);
+        Assertions.assertEquals(5, stats.minutes().size());
+        Assertions.assertEquals(3, stats.minutes().get(4).reserved());
+        Assertions.assertEquals(2, counters.eventsOfPartner(7L, 5).size());
+    }
+
+    @Test
+    @DisplayName("Deve entregar cada minuto fechado uma única vez para o rollup")
+    public void testDrainClosedMinutes() {
+        // given
+        final var start = Instant.parse("2030-01-01T10:00:00Z");
+        final var clock = new MutableClock(start);
+        final var counters = new SalesCounters(60, clock);
+
+        counters.record(7L, 1L, null, TicketStatus.PENDING);
+        counters.record(7L, 1L, TicketStatus.PENDING, TicketStatus.PAID);
+
+        // when
+        final var openMinute = flush(counters);
+        clock.advance(Duration.ofMinutes(1));
+        final var closedMinute = flush(counters);
+        final var alreadyDrained = flush(counters);
+
+        // then
+        Assertions.assertTrue(openMinute.isEmpty());
+        Assertions.assertEquals(1, closedMinute.size());
+        Assertions.assertEquals(start, closedMinute.get(0).minute());
+        Assertions.assertEquals(1, closedMinute.get(0).reserved());
+        Assertions.assertEquals(1, closedMinute.get(0).paid());
+        Assertions.assertTrue(alreadyDrained.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve entregar de novo os minutos de uma gravação que não foi confirmada")
+    public void testRedeliverUnflushedMinutes() {
+        // given
+        final var start = Instant.parse("2030-01-01T10:00:00Z");
+        final var clock = new MutableClock(start);
+        final var counters = new SalesCounters(60, clock);
+
+        counters.record(7L, 1L, null, TicketStatus.PENDING);
+        clock.advance(Duration.ofMinutes(1));
+
+        // when
+        final var failed = counters.closedMinutes();
+        counters.record(7L, 1L, null, TicketStatus.PENDING);
+        clock.advance(Duration.ofMinutes(1));
+        final var retried = flush(counters);
+
+        // then
+        Assertions.assertEquals(1, failed.rows().size());
+        Assertions.assertEquals(2, retried.size());
+        Assertions.assertEquals(start, retried.get(0).minute());
+        Assertions.assertEquals(1, retried.get(0).reserved());
+        Assertions.assertEquals(1, retried.get(1).reserved());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a janela sem movimento só depois de entregue e recomeçar a contagem sem perdas")
+    public void testEvictsIdleFlushedWindows() {
+        // given
+        final var start = Instant.parse("2030-01-01T10:00:00Z");
+        final var clock = new MutableClock(start);
+        final var counters = new SalesCounters(5, clock);
+
+        counters.record(7L, 1L, null, TicketStatus.PENDING);
+        clock.advance(Duration.ofMinutes(1));
+        final var delivered = flush(counters);
+        final var kept = counters.eventsOfPartner(7L, 5);
+
+        // when
+        clock.advance(Duration.ofMinutes(10));
+        flush(counters);
+        final var evicted = counters.eventsOfPartner(7L, 5);
+        counters.record(7L, 1L, null, TicketStatus.PENDING);
+
+        // then
+        Assertions.assertEquals(1, delivered.size());
+        Assertions.assertEquals(1, kept.size());
+        Assertions.assertTrue(evicted.isEmpty());
+        Assertions.assertEquals(1, counters.eventsOfPartner(7L, 5).get(0).reserved());
+        Assertions.assertEquals(1, counters.partner(7L, 5).reserved());
+    }
+
+    @Test
+    @DisplayName("Deve entregar todas as vendas de incrementos concorrentes com os minutos sendo fechados")
+    public void testConcurrentRecordsAreDrainedOnce() throws Exception {
+        // given
+        final var clock = new MutableClock(Instant.parse("2030-01-01T10:00:00Z"));
+        final var counters = new SalesCounters(60, clock);
+        final var writers = 4;
+        final var perWriter = 20_000;
+        final var done = new CountDownLatch(writers);
+        final var pool = Executors.newFixedThreadPool(writers);
+        final var rows = new ArrayList<SalesCounters.MinuteRow>();
+
+        // when
+        try {
+            for (int i = 0; i < writers; i++) {
+                pool.execute(() -> {
+                    for (int n = 0; n < perWriter; n++) {
+                        counters.record(7L, 1L, null, TicketStatus.PENDING);
+                    }
+                    done.countDown();
+                });
+            }
+            while (!done.await(1, TimeUnit.MILLISECONDS)) {
+                clock.advance(Duration.ofMinutes(1));
+                rows.addAll(flush(counters));
+            }
+            clock.advance(Duration.ofMinutes(1));
+            rows.addAll(flush(counters));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // then
+        Assertions.assertEquals((long) writers * perWriter, rows.stream().mapToLong(SalesCounters.MinuteRow::reserved).sum());
+        Assertions.assertEquals(rows.size(), rows.stream().map(SalesCounters.MinuteRow::minute).distinct().count());
+    }
+
+    private static List<SalesCounters.MinuteRow> flush(final SalesCounters counters) {
+        final var drain = counters.closedMinutes();
+        counters.markFlushed(drain);
+        return drain.rows();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        private void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.fullcycle.hexagonal.infrastructure.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class CustomerNameIndexTest {
+
+    @Test
+    @DisplayName("Deve encontrar clientes pelo prefixo de qualquer palavra do nome, ignorando acentos")
+    public void testPrefixSearch() {
+        // given
+        final var index = new CustomerNameIndex(16);
+        index.load(CustomerNameIndex.builder()
+                .add(1L, "João da Silva")
+                .add(2L, "Maria Silveira")
+                .add(3L, "Ana Souza")
+                .add(4L, "Silvio Santos"));
+
+        // when
+        final var silv = index.search("SÍLV", 10);
+        final var daSilva = index.search("da silva", 10);
+        final var fullName = index.search("joao da s", 10);
+
+        // then
+        Assertions.assertEquals(List.of(1L, 2L, 4L), silv);
+        Assertions.assertEquals(List.of(1L), daSilva);
+        Assertions.assertEquals(List.of(1L), fullName);
+        Assertions.assertTrue(index.search("xyz", 10).isEmpty());
+        Assertions.assertEquals(List.of(1L, 2L), index.search("silv", 2));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar clientes novos antes e depois da compactação, sem repetir ids")
+    public void testIncrementalAndCompaction() {
+        // given
+        final var index = new CustomerNameIndex(2);
+        index.load(CustomerNameIndex.builder()
+                .add(1L, "João da Silva")
+                .add(4L, "Silvio Santos"));
+
+        // when
+        index.add(5L, "Érica Silva");
+        index.add(1L, "João da Silva");
+        final var beforeCompaction = index.search("silv", 10);
+        final var needsCompaction = index.needsCompaction();
+
+        index.compact();
+        final var afterCompaction = index.search("silv", 10);
+
+        // then
+        Assertions.assertEquals(List.of(1L, 5L, 4L), beforeCompaction);
+        Assertions.assertTrue(needsCompaction);
+        Assertions.assertEquals(beforeCompaction, afterCompaction);
+        Assertions.assertEquals(3, index.customers());
+        Assertions.assertEquals(0, index.pending());
+        Assertions.assertEquals(List.of(5L), index.search("eri", 10));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar a base igual a uma ordenação por texto e id")
+    public void testSortedBase() {
+        // given
+        final var names = List.of("Carla Souza", "Bruno Souza", "Ana Souza", "Souza Lima", "Bia Sousa", "Ana Lima");
+        final var builder = CustomerNameIndex.builder();
+        for (int i = 0; i < 200; i++) {
+            builder.add(i + 1, names.get(i % names.size()) + " " + (char) ('a' + i % 26));
+        }
+
+        final var index = new CustomerNameIndex(16);
+
+        // when
+        index.load(builder);
+        final var souza = index.search("souza", 200);
+        final var ana = index.search("ana", 200);
+
+        // then
+        Assertions.assertEquals(134, souza.size());
+        Assertions.assertEquals(List.of(1L, 27L, 79L), souza.subList(0, 3));
+        Assertions.assertEquals(66, ana.size());
+    }
+}
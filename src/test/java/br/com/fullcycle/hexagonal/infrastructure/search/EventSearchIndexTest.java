@@ -0,0 +1,139 @@
+package br.com.fullcycle.hexagonal.infrastructure.search;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventDTO;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+class EventSearchIndexTest {
+
+    @Test
+    @DisplayName("Deve encontrar eventos por prefixo das palavras, ignorando acentos e maiúsculas")
+    public void testPrefixAndAccents() {
+        // given
+        final var index = new EventSearchIndex();
+        index.index(new EventDTO(1L, "Festa Junina de São João", LocalDate.of(2030, 6, 24), 100, 1L));
+        index.index(new EventDTO(2L, "Show do Caetano", LocalDate.of(2030, 3, 10), 100, 1L));
+        index.index(new EventDTO(3L, "São Paulo Fashion Week", LocalDate.of(2030, 4, 1), 100, 2L));
+
+        // when
+        final var saoJoao = index.search("sao jo", LocalDate.of(2030, 1, 1), 10);
+        final var sao = index.search("SÃO", LocalDate.of(2030, 1, 1), 10);
+        final var stopWordOnly = index.search("de", LocalDate.of(2030, 1, 1), 10);
+
+        // then
+        Assertions.assertEquals(List.of(1L), saoJoao.stream().map(EventDTO::id).toList());
+        Assertions.assertEquals(List.of(3L, 1L), sao.stream().map(EventDTO::id).toList());
+        Assertions.assertTrue(stopWordOnly.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve ordenar pela proximidade da data de referência e respeitar o limite")
+    public void testRankingByDateProximity() {
+        // given
+        final var index = new EventSearchIndex();
+        final var today = LocalDate.of(2030, 5, 10);
+        index.index(new EventDTO(1L, "Rock in Rio", today.plusDays(30), 100, 1L));
+        index.index(new EventDTO(2L, "Rock na Praça", today.minusDays(2), 100, 1L));
+        index.index(new EventDTO(3L, "Rock Nacional", today.plusDays(5), 100, 1L));
+
+        // when
+        final var events = index.search("rock", today, 2);
+
+        // then
+        Assertions.assertEquals(List.of(2L, 3L), events.stream().map(EventDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar um evento já indexado e contabilizar a memória estimada")
+    public void testIdempotentIndexing() {
+        // given
+        final var index = new EventSearchIndex();
+        final var event = new EventDTO(1L, "Festival de Inverno", LocalDate.of(2030, 7, 1), 100, 1L);
+
+        // when
+        index.index(event);
+        final var bytes = index.estimatedBytes();
+        index.index(event);
+
+        // then
+        Assertions.assertEquals(1, index.documents());
+        Assertions.assertEquals(2, index.terms());
+        Assertions.assertTrue(bytes > 0);
+        Assertions.assertEquals(bytes, index.estimatedBytes());
+        Assertions.assertEquals(1, index.search("inv fest", LocalDate.of(2030, 1, 1), 10).size());
+    }
+
+    @Test
+    @DisplayName("Deve carregar em lote o mesmo índice da indexação um a um, sem duplicar eventos já indexados")
+    public void testBulkLoad() {
+        // given
+        final var events = List.of(
+                new EventDTO(3L, "Rock in Rio", LocalDate.of(2030, 9, 1), 100, 1L),
+                new EventDTO(1L, "Rock Nacional", LocalDate.of(2030, 6, 1), 100, 1L),
+                new EventDTO(2L, "Festival de Rock", LocalDate.of(2030, 7, 1), 100, 2L)
+        );
+        final var oneByOne = new EventSearchIndex();
+        events.forEach(oneByOne::index);
+
+        final var bulk = new EventSearchIndex();
+        bulk.index(events.get(1));
+        final var builder = EventSearchIndex.builder();
+        events.forEach(builder::add);
+
+        // when
+        bulk.load(builder);
+
+        // then
+        final var reference = LocalDate.of(2030, 1, 1);
+        Assertions.assertEquals(3, bulk.documents());
+        Assertions.assertEquals(oneByOne.terms(), bulk.terms());
+        Assertions.assertEquals(oneByOne.estimatedBytes(), bulk.estimatedBytes());
+        Assertions.assertEquals(List.of(1L, 2L, 3L), bulk.search("rock", reference, 10).stream().map(EventDTO::id).toList());
+        Assertions.assertEquals(List.of(3L), bulk.search("ro ri", reference, 10).stream().map(EventDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("Deve usar como prefixo o conectivo que ainda está sendo digitado na última palavra")
+    public void testTrailingStopWordAsPrefix() {
+        // given
+        final var index = new EventSearchIndex();
+        final var reference = LocalDate.of(2030, 1, 1);
+        index.index(new EventDTO(1L, "Show de Comédia", LocalDate.of(2030, 2, 1), 100, 1L));
+        index.index(new EventDTO(2L, "Show do Caetano", LocalDate.of(2030, 3, 1), 100, 1L));
+        index.index(new EventDTO(3L, "Festa da Uva", LocalDate.of(2030, 4, 1), 100, 1L));
+
+        // when
+        final var com = index.search("com", reference, 10);
+        final var showCom = index.search("show com", reference, 10);
+        final var festaDa = index.search("festa da", reference, 10);
+        final var showDoCa = index.search("show do ca", reference, 10);
+
+        // then
+        Assertions.assertEquals(List.of(1L), com.stream().map(EventDTO::id).toList());
+        Assertions.assertEquals(List.of(1L), showCom.stream().map(EventDTO::id).toList());
+        Assertions.assertEquals(List.of(3L), festaDa.stream().map(EventDTO::id).toList());
+        Assertions.assertEquals(List.of(2L), showDoCa.stream().map(EventDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("Deve usar palavras de uma letra só para filtrar os resultados das demais")
+    public void testShortWordsOnlyFilter() {
+        // given
+        final var index = new EventSearchIndex();
+        final var reference = LocalDate.of(2030, 1, 1);
+        index.index(new EventDTO(1L, "São Paulo Fashion Week", LocalDate.of(2030, 4, 1), 100, 1L));
+        index.index(new EventDTO(2L, "São Paulo Games Week", LocalDate.of(2030, 5, 1), 100, 1L));
+
+        // when
+        final var fashion = index.search("sao paulo f", reference, 10);
+        final var letterOnly = index.search("f", reference, 10);
+
+        // then
+        Assertions.assertEquals(List.of(1L), fashion.stream().map(EventDTO::id).toList());
+        Assertions.assertTrue(letterOnly.isEmpty());
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.DailySalesDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.Customer;
+import br.com.fullcycle.hexagonal.infrastructure.models.Event;
+import br.com.fullcycle.hexagonal.infrastructure.models.Partner;
+import br.com.fullcycle.hexagonal.infrastructure.models.Ticket;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.DailySalesRollupRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.RollupWatermarkRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@TestPropertySource(properties = "analytics.rollup.batch-size=2")
+class DailySalesRollupServiceIT extends IntegrationTest {
+
+    @Autowired
+    private DailySalesRollupService dailySalesRollupService;
+
+    @Autowired
+    private DailySalesRollupRepository dailySalesRollupRepository;
+
+    @Autowired
+    private RollupWatermarkRepository rollupWatermarkRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @BeforeEach
+    void setUp() {
+        rollupWatermarkRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+        dailySalesRollupRepository.deleteAll();
+        rollupWatermarkRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve agregar as reservas em lotes, avançando a marca d'água e somando no dia já existente")
+    public void testRollupBatches() {
+        // given
+        final var partner = partnerRepository.save(new Partner(null, "John Doe", "41.536.538/0001-00", "john.doe@gmail.com"));
+        final var event = eventRepository.save(newEvent(partner));
+        final var now = Instant.now();
+        final var yesterday = now.minus(Duration.ofDays(1));
+        final var twoDaysAgo = now.minus(Duration.ofDays(2));
+
+        ticketRepository.save(newTicket(newCustomer(1), event, yesterday));
+        ticketRepository.save(newTicket(newCustomer(2), event, twoDaysAgo));
+        final var lastRolledUp = ticketRepository.save(newTicket(newCustomer(3), event, yesterday));
+        // Reservado há menos de analytics.rollup.lag: fica para depois
+        ticketRepository.save(newTicket(newCustomer(4), event, now));
+
+        // when
+        final var first = dailySalesRollupService.rollupBatch();
+        final var second = dailySalesRollupService.rollupBatch();
+        final var third = dailySalesRollupService.rollupBatch();
+
+        // then
+        Assertions.assertTrue(first);
+        Assertions.assertFalse(second);
+        Assertions.assertFalse(third);
+
+        final var from = day(twoDaysAgo);
+        final var to = day(now);
+        Assertions.assertEquals(List.of(
+                new DailySalesDTO(day(twoDaysAgo), partner.getId(), event.getId(), 1),
+                new DailySalesDTO(day(yesterday), partner.getId(), event.getId(), 2)
+        ), dailySalesRollupRepository.findRange(from, to, partner.getId(), null));
+        Assertions.assertEquals(2, dailySalesRollupRepository.count());
+        Assertions.assertEquals(lastRolledUp.getId(),
+                rollupWatermarkRepository.findById("daily_reservations").orElseThrow().getLastId());
+    }
+
+    private Customer newCustomer(final int n) {
+        return customerRepository.save(new Customer(null, "Customer " + n, "123.456.789-0" + n, "customer" + n + "@gmail.com"));
+    }
+
+    private static Event newEvent(final Partner partner) {
+        final var event = new Event();
+        event.setName("Disney on Ice");
+        event.setDate(LocalDate.of(2030, 1, 1));
+        event.setTotalSpots(10);
+        event.setPartner(partner);
+        return event;
+    }
+
+    private static Ticket newTicket(final Customer customer, final Event event, final Instant reservedAt) {
+        return new Ticket(null, customer, event, TicketStatus.PENDING, null, reservedAt);
+    }
+
+    private static LocalDate day(final Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.infrastructure.models.AvailabilityStatus;
+import br.com.fullcycle.hexagonal.infrastructure.models.Customer;
+import br.com.fullcycle.hexagonal.infrastructure.models.Event;
+import br.com.fullcycle.hexagonal.infrastructure.models.Partner;
+import br.com.fullcycle.hexagonal.infrastructure.models.Ticket;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.EventAvailabilityRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+class EventAvailabilityServiceIT extends IntegrationTest {
+
+    @Autowired
+    private EventAvailabilityService eventAvailabilityService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventAvailabilityRepository eventAvailabilityRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @AfterEach
+    void tearDown() {
+        ticketRepository.deleteAll();
+        eventAvailabilityRepository.deleteAll();
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve reservar vagas pela projeção até o evento lotar")
+    public void testReserveUntilSoldOut() {
+        // given
+        final var partner = partnerRepository.save(new Partner(null, "John Doe", "41.536.538/0001-00", "john.doe@gmail.com"));
+        final var gabriel = customerRepository.save(new Customer(null, "Gabriel", "123.456.789-01", "gabriel@gmail.com"));
+        final var maria = customerRepository.save(new Customer(null, "Maria", "123.456.789-02", "maria@gmail.com"));
+        final var event = eventService.save(newEvent(partner, 1));
+
+        // when
+        final var first = eventService.reserve(newTicket(gabriel, event, TicketStatus.PENDING));
+        final var second = eventService.reserve(newTicket(maria, event, TicketStatus.PENDING));
+
+        // then
+        Assertions.assertTrue(first.isPresent());
+        Assertions.assertNotNull(first.get().getId());
+        Assertions.assertTrue(second.isEmpty());
+        Assertions.assertEquals(1, ticketRepository.count());
+
+        final var availability = eventAvailabilityRepository.findDTOById(event.getId()).orElseThrow();
+        Assertions.assertEquals(0, availability.sold());
+        Assertions.assertEquals(1, availability.held());
+        Assertions.assertEquals(AvailabilityStatus.SOLD_OUT, availability.status());
+        Assertions.assertEquals(1, availability.version());
+    }
+
+    @Test
+    @DisplayName("Deve somar as mudanças de ingresso e recalcular o status na mesma linha")
+    public void testTicketChangedIncrementsAvailability() {
+        // given
+        final var partner = partnerRepository.save(new Partner(null, "John Doe", "41.536.538/0001-00", "john.doe@gmail.com"));
+        final var event = eventService.save(newEvent(partner, 2));
+
+        // when
+        eventAvailabilityService.ticketChanged(event.getId(), null, TicketStatus.PENDING);
+        eventAvailabilityService.ticketChanged(event.getId(), null, TicketStatus.PENDING);
+        final var soldOut = eventAvailabilityRepository.findDTOById(event.getId()).orElseThrow();
+
+        eventAvailabilityService.ticketChanged(event.getId(), TicketStatus.PENDING, TicketStatus.PAID);
+        eventAvailabilityService.ticketChanged(event.getId(), TicketStatus.PENDING, TicketStatus.EXPIRED);
+        final var released = eventAvailabilityRepository.findDTOById(event.getId()).orElseThrow();
+
+        // then
+        Assertions.assertEquals(AvailabilityStatus.SOLD_OUT, soldOut.status());
+        Assertions.assertEquals(2, soldOut.held());
+
+        Assertions.assertEquals(1, released.sold());
+        Assertions.assertEquals(0, released.held());
+        Assertions.assertEquals(AvailabilityStatus.AVAILABLE, released.status());
+        Assertions.assertEquals(4, released.version());
+        Assertions.assertEquals(released, eventAvailabilityService.findByEventId(event.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir a projeção de eventos sem linha a partir dos ingressos, uma única vez")
+    public void testBackfillFromTickets() {
+        // given
+        final var partner = partnerRepository.save(new Partner(null, "John Doe", "41.536.538/0001-00", "john.doe@gmail.com"));
+        final var gabriel = customerRepository.save(new Customer(null, "Gabriel", "123.456.789-01", "gabriel@gmail.com"));
+        final var maria = customerRepository.save(new Customer(null, "Maria", "123.456.789-02", "maria@gmail.com"));
+        final var joana = customerRepository.save(new Customer(null, "Joana", "123.456.789-03", "joana@gmail.com"));
+
+        // Gravado direto pelo repositório: o evento fica sem linha na projeção
+        final var event = eventRepository.save(newEvent(partner, 2));
+        ticketRepository.save(newTicket(gabriel, event, TicketStatus.PAID));
+        ticketRepository.save(newTicket(maria, event, TicketStatus.PENDING));
+        ticketRepository.save(newTicket(joana, event, TicketStatus.CANCELLED));
+
+        // when
+        eventAvailabilityService.backfill();
+        eventAvailabilityService.backfill();
+
+        // then
+        final var availability = eventAvailabilityRepository.findDTOById(event.getId()).orElseThrow();
+        Assertions.assertEquals(partner.getId(), availability.partnerId());
+        Assertions.assertEquals(1, availability.sold());
+        Assertions.assertEquals(1, availability.held());
+        Assertions.assertEquals(AvailabilityStatus.SOLD_OUT, availability.status());
+        Assertions.assertEquals(0, availability.version());
+        Assertions.assertEquals(1, eventAvailabilityRepository.count());
+    }
+
+    private static Event newEvent(final Partner partner, final int totalSpots) {
+        final var event = new Event();
+        event.setName("Disney on Ice");
+        event.setDate(LocalDate.of(2030, 1, 1));
+        event.setTotalSpots(totalSpots);
+        event.setPartner(partner);
+        return event;
+    }
+
+    private static Ticket newTicket(final Customer customer, final Event event, final TicketStatus status) {
+        return new Ticket(null, customer, event, status, null, Instant.now());
+    }
+}
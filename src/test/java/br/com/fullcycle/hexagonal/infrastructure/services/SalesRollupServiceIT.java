@@ -0,0 +1,66 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.infrastructure.sales.SalesCounters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+class SalesRollupServiceIT extends IntegrationTest {
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // O relógio dos contadores reais não avança no teste; os minutos fechados vêm prontos
+    @MockBean
+    private SalesCounters salesCounters;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from sales_minute_rollups");
+    }
+
+    @Test
+    @DisplayName("Deve acumular no mesmo registro o minuto gravado duas vezes")
+    public void testFlushSameMinuteTwice() {
+        // given
+        final var minute = Instant.parse("2030-01-01T10:00:00Z");
+        final var drain = new SalesCounters.Drain(List.of(
+                new SalesCounters.MinuteRow(1L, 7L, minute, 3, 1, 0),
+                new SalesCounters.MinuteRow(2L, null, minute, 1, 0, 1)
+        ), 100L);
+        Mockito.when(salesCounters.closedMinutes()).thenReturn(drain);
+
+        // when
+        salesRollupService.flush();
+        salesRollupService.flush();
+
+        // then
+        final var rows = jdbcTemplate.queryForList("""
+                select event_id, partner_id, reserved, paid, released
+                from sales_minute_rollups
+                order by event_id
+                """);
+
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals(7L, ((Number) rows.get(0).get("partner_id")).longValue());
+        Assertions.assertEquals(6L, ((Number) rows.get(0).get("reserved")).longValue());
+        Assertions.assertEquals(2L, ((Number) rows.get(0).get("paid")).longValue());
+        Assertions.assertEquals(0L, ((Number) rows.get(0).get("released")).longValue());
+        Assertions.assertNull(rows.get(1).get("partner_id"));
+        Assertions.assertEquals(2L, ((Number) rows.get(1).get("reserved")).longValue());
+        Assertions.assertEquals(2L, ((Number) rows.get(1).get("released")).longValue());
+        Mockito.verify(salesCounters, Mockito.times(2)).markFlushed(drain);
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.TicketHistoryDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.Customer;
+import br.com.fullcycle.hexagonal.infrastructure.models.Event;
+import br.com.fullcycle.hexagonal.infrastructure.models.Partner;
+import br.com.fullcycle.hexagonal.infrastructure.models.Ticket;
+import br.com.fullcycle.hexagonal.infrastructure.models.TicketStatus;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.ArchivedTicketRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.TicketRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@TestPropertySource(properties = "tickets.archive.batch-size=2")
+class TicketArchiveServiceIT extends IntegrationTest {
+
+    @Autowired
+    private TicketArchiveService ticketArchiveService;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private ArchivedTicketRepository archivedTicketRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @AfterEach
+    void tearDown() {
+        archivedTicketRepository.deleteAll();
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve mover os ingressos do evento passado em lotes e manter o histórico do cliente nas duas tabelas")
+    public void testArchiveAndReadThrough() {
+        // given
+        final var partner = partnerRepository.save(new Partner(null, "John Doe", "41.536.538/0001-00", "john.doe@gmail.com"));
+        final var customer = customerRepository.save(new Customer(null, "Gabriel", "123.456.789-01", "gabriel@gmail.com"));
+        final var pastEvent = eventRepository.save(newEvent(partner, "Past Show", LocalDate.of(2020, 1, 1)));
+        final var futureEvent = eventRepository.save(newEvent(partner, "Future Show", LocalDate.of(2030, 1, 1)));
+
+        final var first = ticketRepository.save(newTicket(customer, pastEvent, TicketStatus.PAID, "2019-12-01T10:00:00Z"));
+        final var second = ticketRepository.save(newTicket(customer, pastEvent, TicketStatus.CANCELLED, "2019-12-02T10:00:00Z"));
+        final var third = ticketRepository.save(newTicket(customer, pastEvent, TicketStatus.PAID, "2019-12-03T10:00:00Z"));
+        final var hot = ticketRepository.save(newTicket(customer, futureEvent, TicketStatus.PENDING, "2029-12-01T10:00:00Z"));
+
+        // when
+        final var expired = ticketArchiveService.findExpiredEventIds(10);
+        final var firstBatch = ticketArchiveService.archiveBatch(pastEvent.getId());
+        final var secondBatch = ticketArchiveService.archiveBatch(pastEvent.getId());
+        final var thirdBatch = ticketArchiveService.archiveBatch(pastEvent.getId());
+
+        // then
+        Assertions.assertEquals(List.of(pastEvent.getId()), expired);
+        Assertions.assertEquals(2, firstBatch);
+        Assertions.assertEquals(1, secondBatch);
+        Assertions.assertEquals(0, thirdBatch);
+        Assertions.assertTrue(ticketArchiveService.findExpiredEventIds(10).isEmpty());
+        Assertions.assertEquals(1, ticketRepository.count());
+        Assertions.assertEquals(3, archivedTicketRepository.count());
+
+        final var archived = archivedTicketRepository.findById(second.getId()).orElseThrow();
+        Assertions.assertEquals(customer.getId(), archived.getCustomerId());
+        Assertions.assertEquals(pastEvent.getId(), archived.getEventId());
+        Assertions.assertEquals(TicketStatus.CANCELLED, archived.getStatus());
+        Assertions.assertEquals(Instant.parse("2019-12-02T10:00:00Z"), archived.getReservedAt());
+        Assertions.assertNotNull(archived.getArchivedAt());
+
+        // Primeira página mistura a tabela quente e o arquivo; a segunda segue pelo keyset
+        final var firstPage = ticketService.findHistoryPage(customer.getId(), Instant.parse("9999-01-01T00:00:00Z"), Long.MAX_VALUE, 2);
+        final var last = firstPage.get(firstPage.size() - 1);
+        final var secondPage = ticketService.findHistoryPage(customer.getId(), last.reservedAt(), last.ticketId(), 2);
+
+        Assertions.assertEquals(List.of(hot.getId(), third.getId()), firstPage.stream().map(TicketHistoryDTO::ticketId).toList());
+        Assertions.assertEquals("Future Show", firstPage.get(0).eventName());
+        Assertions.assertEquals("Past Show", firstPage.get(1).eventName());
+        Assertions.assertEquals(List.of(second.getId(), first.getId()), secondPage.stream().map(TicketHistoryDTO::ticketId).toList());
+        Assertions.assertEquals(TicketStatus.CANCELLED, secondPage.get(0).status());
+    }
+
+    private static Event newEvent(final Partner partner, final String name, final LocalDate date) {
+        final var event = new Event();
+        event.setName(name);
+        event.setDate(date);
+        event.setTotalSpots(10);
+        event.setPartner(partner);
+        return event;
+    }
+
+    private static Ticket newTicket(final Customer customer, final Event event, final TicketStatus status, final String reservedAt) {
+        return new Ticket(null, customer, event, status, null, Instant.parse(reservedAt));
+    }
+}
@@ -0,0 +1,198 @@
+package br.com.fullcycle.hexagonal.infrastructure.services;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+class WaitingRoomServiceTest {
+
+    private static final Long UNKNOWN_EVENT = 99L;
+    private static final Duration POSITION_TTL = Duration.ofMinutes(30);
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("Deve admitir clientes na ordem da fila e no ritmo configurado")
+    public void testAdmitInOrder() {
+        // given
+        final var eventId = 1L;
+        final var service = service(clock);
+
+        final var first = service.join(eventId).get();
+        final var second = service.join(eventId).get();
+
+        // when
+        service.release();
+
+        // then
+        final var firstStatus = service.poll(eventId, first.token()).get();
+        final var secondStatus = service.poll(eventId, second.token()).get();
+
+        Assertions.assertNotNull(firstStatus.admissionToken());
+        Assertions.assertNull(secondStatus.admissionToken());
+        Assertions.assertEquals(1, secondStatus.ahead());
+    }
+
+    @Test
+    @DisplayName("Token de admissão deve ser de uso único e restrito ao evento")
+    public void testAdmissionTokenIsSingleUse() {
+        // given
+        final var eventId = 1L;
+        final var service = service(clock);
+
+        final var position = service.join(eventId).get();
+        service.release();
+        final var admissionToken = service.poll(eventId, position.token()).get().admissionToken();
+
+        // when / then
+        Assertions.assertFalse(service.admit(2L, admissionToken));
+        Assertions.assertFalse(service.admit(eventId, position.token()));
+        Assertions.assertTrue(service.admit(eventId, admissionToken));
+        Assertions.assertFalse(service.admit(eventId, admissionToken));
+    }
+
+    @Test
+    @DisplayName("Não deve abrir fila para um evento inexistente")
+    public void testJoinUnknownEvent() {
+        // given
+        final var service = service(clock);
+
+        // when
+        final var position = service.join(UNKNOWN_EVENT);
+
+        // then
+        Assertions.assertTrue(position.isEmpty());
+        Assertions.assertEquals(0, service.rooms());
+    }
+
+    @Test
+    @DisplayName("Não deve emitir uma segunda admissão para uma posição já usada")
+    public void testConsumedPositionIsNotAdmittedAgain() {
+        // given
+        final var eventId = 1L;
+        final var service = service(clock);
+
+        final var position = service.join(eventId).get();
+        service.release();
+        final var admissionToken = service.poll(eventId, position.token()).get().admissionToken();
+        Assertions.assertTrue(service.admit(eventId, admissionToken));
+
+        // when
+        final var status = service.poll(eventId, position.token());
+
+        // then
+        Assertions.assertTrue(status.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Token de posição deve expirar")
+    public void testPositionTokenExpires() {
+        // given
+        final var eventId = 1L;
+        final var clock = new MutableClock(this.clock.instant());
+        final var service = service(clock);
+
+        final var position = service.join(eventId).get();
+        service.join(eventId);
+
+        // when
+        clock.advance(POSITION_TTL.plusSeconds(1));
+
+        // then
+        Assertions.assertTrue(service.poll(eventId, position.token()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve descartar a sala vazia depois que os tokens de posição dela expirarem")
+    public void testEvictsEmptyRoom() {
+        // given
+        final var eventId = 1L;
+        final var clock = new MutableClock(this.clock.instant());
+        final var service = service(clock);
+
+        final var position = service.join(eventId).get();
+        service.release();
+        final var admissionToken = service.poll(eventId, position.token()).get().admissionToken();
+        Assertions.assertTrue(service.admit(eventId, admissionToken));
+
+        // when
+        service.release();
+        final var roomsWhileTokensAreValid = service.rooms();
+
+        clock.advance(POSITION_TTL.plusSeconds(1));
+        service.release();
+
+        // then
+        Assertions.assertEquals(1, roomsWhileTokensAreValid);
+        Assertions.assertEquals(0, service.rooms());
+        Assertions.assertTrue(service.poll(eventId, position.token()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar na sala nova um token de admissão da sala descartada, mesmo ainda no prazo")
+    public void testAdmissionTokenOfEvictedRoomIsRejected() {
+        // given
+        final var eventId = 1L;
+        final var clock = new MutableClock(this.clock.instant());
+        final var service = service(clock);
+
+        final var position = service.join(eventId).get();
+        service.release();
+
+        // Admissão emitida e usada pouco antes de a sala ficar ociosa: o token ainda vale por admissionTtl
+        clock.advance(POSITION_TTL.minusSeconds(10));
+        final var admissionToken = service.poll(eventId, position.token()).get().admissionToken();
+        Assertions.assertTrue(service.admit(eventId, admissionToken));
+
+        clock.advance(Duration.ofSeconds(20));
+        service.release();
+        Assertions.assertEquals(0, service.rooms());
+
+        // when
+        final var newPosition = service.join(eventId).get();
+        final var replayed = service.admit(eventId, admissionToken);
+
+        // then
+        Assertions.assertEquals(1, newPosition.position());
+        Assertions.assertFalse(replayed);
+        Assertions.assertTrue(service.poll(eventId, position.token()).isEmpty());
+    }
+
+    private static WaitingRoomService service(final Clock clock) {
+        return new WaitingRoomService(true, 10, 100, Duration.ofMinutes(2), POSITION_TTL, id -> !UNKNOWN_EVENT.equals(id), clock);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
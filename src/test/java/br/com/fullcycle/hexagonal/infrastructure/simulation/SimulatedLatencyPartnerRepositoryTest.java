@@ -0,0 +1,76 @@
+package br.com.fullcycle.hexagonal.infrastructure.simulation;
+
+import br.com.fullcycle.hexagonal.application.InMemoryPartnerRepository;
+import br.com.fullcycle.hexagonal.application.entities.Partner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+class SimulatedLatencyPartnerRepositoryTest {
+
+    @Test
+    @DisplayName("Deve atrasar cada chamada e delegar ao adaptador real")
+    public void testDelaysAndDelegates() {
+        // given
+        final var sleeps = new ArrayList<Long>();
+        final var simulator = new LatencySimulator(
+                LatencySimulator.Distribution.FIXED, Duration.ofMillis(20), Duration.ZERO, 0, 0, new Random(42), sleeps::add);
+
+        final var delegate = new InMemoryPartnerRepository();
+        final var repository = new SimulatedLatencyPartnerRepository(delegate, simulator);
+        final var partner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+
+        // when
+        repository.create(partner);
+        final var found = repository.partnerOfCNPJ("41.536.538/0001-00");
+
+        // then
+        Assertions.assertTrue(found.isPresent());
+        Assertions.assertTrue(delegate.partnerOfId(partner.partnerId()).isPresent());
+        Assertions.assertEquals(2, sleeps.size());
+        Assertions.assertEquals(Duration.ofMillis(20).toNanos(), sleeps.get(0));
+    }
+
+    @Test
+    @DisplayName("Deve falhar com exceção transitória na taxa de erro configurada")
+    public void testInjectsFailures() {
+        // given
+        final var simulator = new LatencySimulator(
+                LatencySimulator.Distribution.FIXED, Duration.ZERO, Duration.ZERO, 0, 1, new Random(42), nanos -> {});
+
+        final var repository = new SimulatedLatencyPartnerRepository(new InMemoryPartnerRepository(), simulator);
+
+        // when
+        final var actualException = Assertions.assertThrows(
+                TransientDataAccessResourceException.class, () -> repository.partnerOfEmail("john.doe@gmail.com"));
+
+        // then
+        Assertions.assertEquals("Simulated failure in PartnerRepository.partnerOfEmail", actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Amostras log-normais devem ter mediana próxima da configurada e cauda acima dela")
+    public void testLogNormalDistribution() {
+        // given
+        final var median = Duration.ofMillis(20).toNanos();
+        final var simulator = new LatencySimulator(
+                LatencySimulator.Distribution.LOG_NORMAL, Duration.ofNanos(median), Duration.ZERO, 0.5, 0, new Random(42), nanos -> {});
+
+        // when
+        final var samples = new long[10_000];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = simulator.sampleNanos();
+        }
+        Arrays.sort(samples);
+
+        // then
+        Assertions.assertEquals(median, samples[samples.length / 2], median * 0.05);
+        Assertions.assertTrue(samples[(int) (samples.length * 0.99)] > 2.5 * median);
+    }
+}
@@ -0,0 +1,210 @@
+package br.com.fullcycle.hexagonal.infrastructure.streaming;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.EventAvailabilityDTO;
+import br.com.fullcycle.hexagonal.infrastructure.models.AvailabilityStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+class AvailabilityBroadcasterTest {
+
+    @Test
+    @DisplayName("Deve entregar o estado atual e, a cada intervalo, só a versão mais nova de cada evento")
+    public void testCoalescing() {
+        // given
+        final var received = new ArrayList<Long>();
+
+        try (var broadcaster = new AvailabilityBroadcaster(Duration.ofHours(1), Duration.ofSeconds(5), Runnable::run)) {
+            broadcaster.subscribe(availability(1L, 1), a -> received.add(a.version()));
+
+            // when
+            broadcaster.publish(availability(1L, 3));
+            broadcaster.publish(availability(1L, 2));
+            broadcaster.publish(availability(1L, 4));
+            broadcaster.flush();
+            broadcaster.flush();
+
+            // then
+            Assertions.assertEquals(List.of(1L, 4L), received);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar o assinante que falha e continuar entregando aos demais")
+    public void testFailingSubscriber() {
+        // given
+        final var received = new ArrayList<Long>();
+
+        try (var broadcaster = new AvailabilityBroadcaster(Duration.ofHours(1), Duration.ofSeconds(5), Runnable::run)) {
+            broadcaster.subscribe(availability(1L, 1), a -> {
+                if (a.version() > 1) {
+                    throw new IllegalStateException("closed");
+                }
+            });
+            final var unsubscribe = broadcaster.subscribe(availability(1L, 1), a -> received.add(a.version()));
+
+            // when
+            broadcaster.publish(availability(1L, 2));
+            broadcaster.flush();
+
+            // then
+            Assertions.assertEquals(List.of(1L, 2L), received);
+            Assertions.assertEquals(1, broadcaster.subscribers());
+
+            unsubscribe.run();
+            Assertions.assertEquals(0, broadcaster.subscribers());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar o assinante cujo envio travou sem atrasar os demais")
+    public void testSlowSubscriberIsDropped() throws Exception {
+        // given
+        final var received = new CopyOnWriteArrayList<Long>();
+        final var stuck = new CountDownLatch(1);
+        final var blocked = new CountDownLatch(1);
+        final var senders = Executors.newFixedThreadPool(2);
+
+        try (var broadcaster = new AvailabilityBroadcaster(Duration.ofHours(1), Duration.ofMillis(50), senders)) {
+            broadcaster.subscribe(availability(1L, 1), a -> {
+                if (a.version() > 1) {
+                    blocked.countDown();
+                    awaitUninterruptibly(stuck);
+                }
+            });
+            broadcaster.subscribe(availability(1L, 1), a -> received.add(a.version()));
+            awaitSize(received, 1);
+
+            broadcaster.publish(availability(1L, 2));
+            broadcaster.flush();
+            Assertions.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+
+            // when
+            broadcaster.publish(availability(1L, 3));
+            broadcaster.flush();
+
+            // then
+            awaitSize(received, 3);
+            Assertions.assertEquals(List.of(1L, 2L, 3L), received);
+            Assertions.assertEquals(1, broadcaster.subscribers());
+            Assertions.assertEquals(1, broadcaster.dropped());
+        } finally {
+            stuck.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve encerrar a conexão travada e cobrir a thread presa para os demais eventos")
+    public void testStalledSenderIsReplaced() throws Exception {
+        // given
+        final var received = new CopyOnWriteArrayList<Long>();
+        final var stuck = new CountDownLatch(1);
+        final var blocked = new CountDownLatch(1);
+        final var closed = new CountDownLatch(1);
+        final var senders = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+
+        try (var broadcaster = new AvailabilityBroadcaster(Duration.ofHours(1), Duration.ofMillis(50), senders)) {
+            broadcaster.subscribe(availability(1L, 1), a -> {
+                if (a.version() > 1) {
+                    blocked.countDown();
+                    awaitUninterruptibly(stuck);
+                }
+            }, closed::countDown);
+            broadcaster.subscribe(availability(2L, 1), a -> received.add(a.version()));
+            awaitSize(received, 1);
+
+            // O único envio do pool fica preso no evento 1
+            broadcaster.publish(availability(1L, 2));
+            broadcaster.flush();
+            Assertions.assertTrue(blocked.await(5, TimeUnit.SECONDS));
+            Thread.sleep(100);
+
+            // when
+            broadcaster.publish(availability(2L, 2));
+            broadcaster.flush();
+
+            // then
+            awaitSize(received, 2);
+            Assertions.assertEquals(List.of(1L, 2L), received);
+            Assertions.assertEquals(0, closed.getCount());
+            Assertions.assertEquals(1, broadcaster.dropped());
+            Assertions.assertEquals(1, broadcaster.stalledSenders());
+
+            stuck.countDown();
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (broadcaster.stalledSenders() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            Assertions.assertEquals(0, broadcaster.stalledSenders());
+            Assertions.assertEquals(1, senders.getCorePoolSize());
+        } finally {
+            stuck.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve entregar só a versão mais nova ao assinante que ainda está enviando a anterior")
+    public void testBusySubscriberGetsLatestOnly() throws Exception {
+        // given
+        final var received = new CopyOnWriteArrayList<Long>();
+        final var sending = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var senders = Executors.newSingleThreadExecutor();
+
+        try (var broadcaster = new AvailabilityBroadcaster(Duration.ofHours(1), Duration.ofSeconds(5), senders)) {
+            broadcaster.subscribe(availability(1L, 1), a -> {
+                received.add(a.version());
+                if (a.version() == 2) {
+                    sending.countDown();
+                    awaitUninterruptibly(release);
+                }
+            });
+            awaitSize(received, 1);
+
+            broadcaster.publish(availability(1L, 2));
+            broadcaster.flush();
+            Assertions.assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+            // when
+            for (long version = 3; version <= 10; version++) {
+                broadcaster.publish(availability(1L, version));
+                broadcaster.flush();
+            }
+            release.countDown();
+
+            // then
+            awaitSize(received, 3);
+            Assertions.assertEquals(List.of(1L, 2L, 10L), received);
+            Assertions.assertEquals(1, broadcaster.subscribers());
+        }
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitSize(final List<Long> received, final int size) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static EventAvailabilityDTO availability(final Long eventId, final long version) {
+        return new EventAvailabilityDTO(eventId, 1L, 100, (int) version, 0, AvailabilityStatus.AVAILABLE, version);
+    }
+}